@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.benchmarks;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.headers.ContentType;
+import com.envimate.httpmate.http.headers.accept.Accept;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_HEADERS;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.http.Headers.headers;
+import static com.envimate.httpmate.http.headers.ContentType.fromString;
+import static com.envimate.httpmate.http.headers.accept.Accept.fromMetaData;
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AcceptBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int candidateCount;
+
+    @Param({"application/json", "application/*", "*/*"})
+    public String acceptHeader;
+
+    private MetaData metaData;
+    private List<ContentType> candidates;
+
+    @Setup
+    public void setup() {
+        final Map<String, List<String>> rawHeaders = new HashMap<>();
+        rawHeaders.put("Accept", singletonList(acceptHeader));
+        metaData = emptyMetaData();
+        metaData.set(REQUEST_HEADERS, headers(rawHeaders));
+        candidates = new ArrayList<>(candidateCount);
+        for (int i = 1; i < candidateCount; ++i) {
+            candidates.add(fromString(format("application/vnd.candidate%d", i)));
+        }
+        candidates.add(fromString("application/json"));
+    }
+
+    @Benchmark
+    public void negotiate(final Blackhole blackhole) {
+        final Accept accept = fromMetaData(metaData);
+        for (final ContentType candidate : candidates) {
+            blackhole.consume(accept.contentTypeIsAccepted(candidate));
+        }
+    }
+}
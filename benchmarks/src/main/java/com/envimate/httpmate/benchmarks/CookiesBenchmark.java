@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.benchmarks;
+
+import com.envimate.httpmate.http.Headers;
+import com.envimate.httpmate.http.headers.cookies.Cookies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.benchmarks.Payloads.stringOfSize;
+import static com.envimate.httpmate.http.Headers.headers;
+import static com.envimate.httpmate.http.Http.Headers.COOKIE;
+import static com.envimate.httpmate.http.headers.cookies.Cookies.cookiesFromHeaders;
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CookiesBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int cookieCount;
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    private Headers headers;
+    private String lastCookieName;
+
+    @Setup
+    public void setup() {
+        final StringJoiner cookieHeader = new StringJoiner("; ");
+        final int valueLength = Math.max(1, payloadSize / cookieCount);
+        for (int i = 0; i < cookieCount; ++i) {
+            cookieHeader.add(format("cookie%d=\"%s\"", i, stringOfSize(valueLength)));
+        }
+        final Map<String, List<String>> rawHeaders = new HashMap<>();
+        rawHeaders.put(COOKIE, singletonList(cookieHeader.toString()));
+        headers = headers(rawHeaders);
+        lastCookieName = format("cookie%d", cookieCount - 1);
+    }
+
+    @Benchmark
+    public String parseCookies() {
+        final Cookies cookies = cookiesFromHeaders(headers);
+        return cookies.getCookie(lastCookieName);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.benchmarks;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.HttpMateBuilder;
+import com.envimate.httpmate.chains.MetaData;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.benchmarks.Payloads.*;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.http.headers.ContentType.json;
+import static com.envimate.httpmate.marshalling.MarshallingModule.toMarshallBodiesBy;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarshallingBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int routeCount;
+
+    @Param({"64", "1024", "65536"})
+    public int payloadSize;
+
+    private HttpMate httpMate;
+    private String path;
+    private byte[] body;
+    private Map<String, List<String>> headers;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final Gson gson = new Gson();
+        final HttpMateBuilder builder = anHttpMate();
+        for (int i = 0; i < routeCount; ++i) {
+            builder.post(routeTemplate(i), (request, response) -> response.setBody(request.bodyMap()));
+        }
+        httpMate = builder
+                .configured(toMarshallBodiesBy()
+                        .unmarshallingContentTypeInRequests(json()).with(string -> gson.fromJson(string, Map.class))
+                        .marshallingContentTypeInResponses(json()).with(gson::toJson)
+                        .usingTheDefaultContentType(json()))
+                .build();
+        path = routePath(routeCount - 1);
+        body = gson.toJson(mapOfSize(payloadSize)).getBytes(UTF_8);
+        headers = Map.of(
+                "Content-Type", singletonList("application/json"),
+                "Accept", singletonList("application/json"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpMate.close();
+    }
+
+    @Benchmark
+    public String unmarshalAndMarshal() {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RAW_PATH, path);
+        metaData.set(RAW_METHOD, "POST");
+        metaData.set(RAW_REQUEST_HEADERS, headers);
+        metaData.set(RAW_REQUEST_QUERY_PARAMETERS, emptyMap());
+        metaData.set(REQUEST_BODY_STREAM, new ByteArrayInputStream(body));
+        metaData.set(IS_HTTP_REQUEST, true);
+        httpMate.handleRequest(metaData, response -> {
+        });
+        return metaData.get(RESPONSE_BODY_STRING);
+    }
+}
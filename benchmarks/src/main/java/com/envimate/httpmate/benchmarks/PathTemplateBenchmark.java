@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.benchmarks;
+
+import com.envimate.httpmate.path.Path;
+import com.envimate.httpmate.path.PathTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.path.Path.path;
+import static com.envimate.httpmate.path.PathTemplate.pathTemplate;
+import static java.lang.String.format;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathTemplateBenchmark {
+
+    @Param({"STATIC", "CAPTURE", "REGEX", "WILDCARD"})
+    public String templateType;
+
+    @Param({"1", "10", "100"})
+    public int routeCount;
+
+    @Param({"2", "8"})
+    public int segmentCount;
+
+    private List<PathTemplate> templates;
+    private PathTemplate matchingTemplate;
+    private Path path;
+
+    @Setup
+    public void setup() {
+        templates = new ArrayList<>(routeCount);
+        for (int i = 0; i < routeCount; ++i) {
+            templates.add(pathTemplate(template(i)));
+        }
+        matchingTemplate = templates.get(routeCount - 1);
+        path = path(concretePath(routeCount - 1));
+    }
+
+    @Benchmark
+    public void matchAgainstAllRoutes(final Blackhole blackhole) {
+        for (final PathTemplate template : templates) {
+            blackhole.consume(template.matches(path));
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> extractPathParameters() {
+        return matchingTemplate.extractPathParameters(path);
+    }
+
+    private String template(final int route) {
+        final StringBuilder builder = new StringBuilder(format("/route%d", route));
+        for (int i = 1; i < segmentCount; ++i) {
+            switch (templateType) {
+                case "STATIC":
+                    builder.append(format("/segment%d", i));
+                    break;
+                case "CAPTURE":
+                    builder.append(format("/<param%d>", i));
+                    break;
+                case "REGEX":
+                    builder.append(format("/|(?<param%d>[0-9]+)|", i));
+                    break;
+                case "WILDCARD":
+                    builder.append("/**");
+                    return builder.toString();
+                default:
+                    throw new IllegalArgumentException(templateType);
+            }
+        }
+        return builder.toString();
+    }
+
+    private String concretePath(final int route) {
+        final StringBuilder builder = new StringBuilder(format("/route%d", route));
+        for (int i = 1; i < segmentCount; ++i) {
+            if ("STATIC".equals(templateType)) {
+                builder.append(format("/segment%d", i));
+            } else {
+                builder.append(format("/%d", i));
+            }
+        }
+        return builder.toString();
+    }
+}
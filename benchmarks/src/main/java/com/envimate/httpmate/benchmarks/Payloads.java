@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+final class Payloads {
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int MAP_VALUE_LENGTH = 16;
+
+    private Payloads() {
+    }
+
+    static String stringOfSize(final int size) {
+        final StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; ++i) {
+            builder.append(ALPHABET.charAt(i % ALPHABET.length()));
+        }
+        return builder.toString();
+    }
+
+    static Map<String, Object> mapOfSize(final int size) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        final int numberOfEntries = Math.max(1, size / (MAP_VALUE_LENGTH * 2));
+        for (int i = 0; i < numberOfEntries; ++i) {
+            map.put(format("key%d", i), stringOfSize(MAP_VALUE_LENGTH));
+        }
+        return map;
+    }
+
+    static String routeTemplate(final int index) {
+        return format("/api/resource%d/<id>", index);
+    }
+
+    static String routePath(final int index) {
+        return format("/api/resource%d/123", index);
+    }
+}
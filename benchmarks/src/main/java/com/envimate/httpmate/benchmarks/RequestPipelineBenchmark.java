@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.benchmarks;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.HttpMateBuilder;
+import com.envimate.httpmate.client.HttpMateClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.benchmarks.Payloads.*;
+import static com.envimate.httpmate.client.HttpClientRequest.aPostRequestToThePath;
+import static com.envimate.httpmate.client.HttpMateClient.aHttpMateClientBypassingRequestsDirectlyTo;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPipelineBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int routeCount;
+
+    @Param({"0", "1024", "65536"})
+    public int payloadSize;
+
+    private HttpMate httpMate;
+    private HttpMateClient client;
+    private String path;
+    private String payload;
+
+    @Setup
+    public void setup() {
+        final HttpMateBuilder builder = anHttpMate();
+        for (int i = 0; i < routeCount; ++i) {
+            builder.post(routeTemplate(i), (request, response) -> response.setBody(request.bodyString()));
+        }
+        httpMate = builder.build();
+        client = aHttpMateClientBypassingRequestsDirectlyTo(httpMate).build();
+        path = routePath(routeCount - 1);
+        payload = stringOfSize(payloadSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        httpMate.close();
+    }
+
+    @Benchmark
+    public String handleRequest() {
+        return client.issue(aPostRequestToThePath(path)
+                .withTheBody(payload)
+                .mappedToString());
+    }
+}
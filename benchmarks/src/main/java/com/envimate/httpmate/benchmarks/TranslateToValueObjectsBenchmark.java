@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.benchmarks;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.Processor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.benchmarks.Payloads.stringOfSize;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.processors.TranslateToValueObjectsProcessor.translateToValueObjectsProcessor;
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslateToValueObjectsBenchmark {
+
+    @Param({"4", "16", "64"})
+    public int payloadSize;
+
+    private final Processor processor = translateToValueObjectsProcessor();
+    private Map<String, List<String>> rawHeaders;
+    private Map<String, String> rawQueryParameters;
+    private String rawPath;
+
+    @Setup
+    public void setup() {
+        rawHeaders = new HashMap<>();
+        rawHeaders.put("Content-Type", singletonList("application/json"));
+        rawQueryParameters = new HashMap<>();
+        for (int i = 0; i < payloadSize; ++i) {
+            rawHeaders.put(format("X-Header-%d", i), singletonList(stringOfSize(payloadSize)));
+            rawQueryParameters.put(format("parameter%d", i), stringOfSize(payloadSize));
+        }
+        rawPath = Payloads.routePath(0);
+    }
+
+    @Benchmark
+    public MetaData translate() {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RAW_REQUEST_HEADERS, rawHeaders);
+        metaData.set(RAW_REQUEST_QUERY_PARAMETERS, rawQueryParameters);
+        metaData.set(RAW_METHOD, "POST");
+        metaData.set(RAW_PATH, rawPath);
+        processor.apply(metaData);
+        return metaData;
+    }
+}
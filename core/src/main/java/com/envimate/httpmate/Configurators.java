@@ -38,4 +38,11 @@ public final class Configurators {
             coreModule.setResponseTemplate(responseTemplate);
         };
     }
+
+    public static Configurator toRouteRequestsUsingACompiledRouteTrie() {
+        return dependencyRegistry -> {
+            final CoreModule coreModule = dependencyRegistry.getDependency(CoreModule.class);
+            coreModule.setCompiledRouting(true);
+        };
+    }
 }
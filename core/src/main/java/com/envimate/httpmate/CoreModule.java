@@ -32,6 +32,7 @@ import com.envimate.httpmate.exceptions.ExceptionSerializer;
 import com.envimate.httpmate.filtermap.FilterMapBuilder;
 import com.envimate.httpmate.generator.GenerationCondition;
 import com.envimate.httpmate.generator.Generator;
+import com.envimate.httpmate.generator.Generators;
 import com.envimate.httpmate.handler.Handler;
 import com.envimate.httpmate.handler.distribution.HandlerDistributors;
 import com.envimate.httpmate.logger.LoggerImplementation;
@@ -60,6 +61,7 @@ import static com.envimate.httpmate.exceptions.DefaultExceptionMapper.theDefault
 import static com.envimate.httpmate.exceptions.ExceptionSerializer.exceptionSerializer;
 import static com.envimate.httpmate.filtermap.FilterMapBuilder.filterMapBuilder;
 import static com.envimate.httpmate.generator.Generator.generator;
+import static com.envimate.httpmate.generator.Generators.compiledGenerators;
 import static com.envimate.httpmate.generator.Generators.generators;
 import static com.envimate.httpmate.handler.DetermineHandlerProcessor.determineHandlerProcessor;
 import static com.envimate.httpmate.handler.InvokeHandlerProcessor.invokeHandlerProcessor;
@@ -86,6 +88,7 @@ public final class CoreModule implements ChainModule {
     private final FilterMapBuilder<Throwable, ExceptionMapper<Throwable>> exceptionMappers = filterMapBuilder();
     private LoggerImplementation logger = stdoutAndStderrLogger();
     private final ClosingActions closingActions = closingActions();
+    private boolean compiledRouting = false;
 
     public static CoreModule coreModule() {
         final CoreModule coreModule = new CoreModule();
@@ -100,6 +103,10 @@ public final class CoreModule implements ChainModule {
         handlers.put(condition, handler);
     }
 
+    public void setCompiledRouting(final boolean compiledRouting) {
+        this.compiledRouting = compiledRouting;
+    }
+
     public void setLogger(final LoggerImplementation logger) {
         validateNotNull(logger, "logger");
         this.logger = logger;
@@ -152,7 +159,7 @@ public final class CoreModule implements ChainModule {
                 .append(PROCESS_HEADERS)
                 .append(PROCESS_BODY)
                 .append(PROCESS_BODY_STRING, streamToStringProcessor())
-                .append(DETERMINE_HANDLER, determineHandlerProcessor(generators(lowLevelHandlers)))
+                .append(DETERMINE_HANDLER, determineHandlerProcessor(handlerGenerators()))
                 .append(PREPARE_RESPONSE, initResponseProcessor(), applyResponseTemplateProcessor(responseTemplate))
                 .append(INVOKE_HANDLER, invokeHandlerProcessor())
                 .append(POST_INVOKE)
@@ -173,7 +180,17 @@ public final class CoreModule implements ChainModule {
 
         extender.createChain(ERROR, consume(), consume());
 
+        if (logger instanceof ClosingAction) {
+            closingActions.addClosingAction((ClosingAction) logger);
+        }
         extender.addMetaDatum(CLOSING_ACTIONS, closingActions);
         extender.addMetaDatum(BACK_CHANNEL_FACTORY, localBackChannelFactory());
     }
+
+    private Generators<Handler> handlerGenerators() {
+        if (compiledRouting) {
+            return compiledGenerators(lowLevelHandlers);
+        }
+        return generators(lowLevelHandlers);
+    }
 }
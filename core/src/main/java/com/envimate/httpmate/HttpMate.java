@@ -29,9 +29,12 @@ import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import static com.envimate.httpmate.HttpMateBuilder.httpMateBuilder;
+import static com.envimate.httpmate.chains.MetaDataPool.metaDataPool;
 import static com.envimate.httpmate.closing.ClosingActions.CLOSING_ACTIONS;
+import static com.envimate.httpmate.pooling.PoolingModule.METADATA_POOL;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 /**
@@ -41,10 +44,21 @@ import static com.envimate.httpmate.util.Validators.validateNotNull;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HttpMate implements AutoCloseable {
     private final ChainRegistry chainRegistry;
+    private final MetaDataPool metaDataPool;
 
     public static HttpMate httpMate(final ChainRegistry chainRegistry) {
         validateNotNull(chainRegistry, "chainRegistry");
-        return new HttpMate(chainRegistry);
+        final MetaDataPool metaDataPool = chainRegistry.getOptionalMetaDatum(METADATA_POOL)
+                .orElseGet(() -> metaDataPool(0));
+        return new HttpMate(chainRegistry, metaDataPool);
+    }
+
+    public MetaData borrowRequestMetaData() {
+        return metaDataPool.borrow();
+    }
+
+    public void releaseRequestMetaData(final MetaData metaData) {
+        metaDataPool.release(metaData);
     }
 
     public void handle(final ChainName chainName,
@@ -64,6 +78,17 @@ public final class HttpMate implements AutoCloseable {
         });
     }
 
+    public CompletionStage<Void> handleRequestAsynchronously(final MetaData metaData,
+                                                             final FinalConsumer responseHandler) {
+        return chainRegistry.putIntoChainAsynchronously(HttpMateChains.INIT, metaData, finalMetaData -> {
+            try {
+                responseHandler.consume(metaData);
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
     public <T> T getMetaDatum(final MetaDataKey<T> key) {
         validateNotNull(key, "key");
         return chainRegistry.getMetaDatum(key);
@@ -24,6 +24,7 @@ package com.envimate.httpmate;
 import com.envimate.httpmate.chains.*;
 import com.envimate.httpmate.generator.builder.ConditionStage;
 import com.envimate.httpmate.handler.Handler;
+import com.envimate.httpmate.handler.http.AsynchronousHttpHandler;
 import com.envimate.httpmate.handler.http.HttpHandler;
 import com.envimate.httpmate.http.HttpRequestMethod;
 import lombok.AccessLevel;
@@ -69,6 +70,10 @@ public final class HttpMateBuilder {
         return get(url, (Object) handler);
     }
 
+    public HttpMateBuilder getAsynchronously(final String url, final AsynchronousHttpHandler handler) {
+        return get(url, (Object) handler);
+    }
+
     public HttpMateBuilder get(final String url, final Processor handler) {
         return get(url, (Handler) handler::apply);
     }
@@ -84,6 +89,10 @@ public final class HttpMateBuilder {
         return post(url, (Object) handler);
     }
 
+    public HttpMateBuilder postAsynchronously(final String url, final AsynchronousHttpHandler handler) {
+        return post(url, (Object) handler);
+    }
+
     public HttpMateBuilder post(final String url, final Consumer<MetaData> handler) {
         return post(url, (Handler) handler::accept);
     }
@@ -99,6 +108,10 @@ public final class HttpMateBuilder {
         return put(url, (Object) handler);
     }
 
+    public HttpMateBuilder putAsynchronously(final String url, final AsynchronousHttpHandler handler) {
+        return put(url, (Object) handler);
+    }
+
     public HttpMateBuilder put(final String url, final Consumer<MetaData> handler) {
         return put(url, (Handler) handler::accept);
     }
@@ -114,6 +127,10 @@ public final class HttpMateBuilder {
         return delete(url, (Object) handler);
     }
 
+    public HttpMateBuilder deleteAsynchronously(final String url, final AsynchronousHttpHandler handler) {
+        return delete(url, (Object) handler);
+    }
+
     public HttpMateBuilder delete(final String url, final Consumer<MetaData> handler) {
         return delete(url, (Handler) handler::accept);
     }
@@ -27,13 +27,16 @@ import com.envimate.httpmate.http.Headers;
 import com.envimate.httpmate.http.HttpRequestMethod;
 import com.envimate.httpmate.http.PathParameters;
 import com.envimate.httpmate.http.QueryParameters;
+import com.envimate.httpmate.http.body.ResponseBodyWriter;
 import com.envimate.httpmate.http.headers.ContentType;
 import com.envimate.httpmate.logger.Logger;
 import com.envimate.httpmate.path.Path;
+import com.envimate.httpmate.path.PathTemplate;
 
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
 
@@ -43,6 +46,7 @@ public final class HttpMateChainKeys {
     }
 
     public static final MetaDataKey<Throwable> EXCEPTION = metaDataKey("EXCEPTION");
+    public static final MetaDataKey<CompletionStage<?>> SUSPEND_UNTIL = metaDataKey("SUSPEND_UNTIL");
 
     public static final MetaDataKey<Object> AUTHENTICATION_INFORMATION = metaDataKey("AUTHENTICATION_INFORMATION");
     public static final MetaDataKey<Logger> LOGGER = metaDataKey("LOGGER");
@@ -57,6 +61,7 @@ public final class HttpMateChainKeys {
     public static final MetaDataKey<String> RAW_METHOD = metaDataKey("RAW_METHOD");
     public static final MetaDataKey<String> RAW_PATH = metaDataKey("RAW_PATH");
     public static final MetaDataKey<Path> PATH = metaDataKey("PATH");
+    public static final MetaDataKey<PathTemplate> PATH_TEMPLATE = metaDataKey("PATH_TEMPLATE");
     public static final MetaDataKey<PathParameters> PATH_PARAMETERS = metaDataKey("PATH_PARAMETERS");
     public static final MetaDataKey<QueryParameters> QUERY_PARAMETERS = metaDataKey("QUERY_PARAMETERS");
     public static final MetaDataKey<HttpRequestMethod> METHOD = metaDataKey("METHOD");
@@ -71,8 +76,11 @@ public final class HttpMateChainKeys {
     public static final MetaDataKey<Map<String, Object>> RESPONSE_BODY_MAP = metaDataKey("RESPONSE_BODY_MAP");
     public static final MetaDataKey<String> RESPONSE_BODY_STRING = metaDataKey("RESPONSE_BODY_STRING");
     public static final MetaDataKey<InputStream> RESPONSE_STREAM = metaDataKey("RESPONSE_STREAM");
+    public static final MetaDataKey<ResponseBodyWriter> RESPONSE_BODY_WRITER = metaDataKey("RESPONSE_BODY_WRITER");
 
     public static final MetaDataKey<ContentType> RESPONSE_CONTENT_TYPE = metaDataKey("RESPONSE_CONTENT_TYPE");
     public static final MetaDataKey<Map<String, String>> RESPONSE_HEADERS = metaDataKey("RESPONSE_HEADERS");
+    public static final MetaDataKey<Map<String, List<String>>> ADDITIONAL_RESPONSE_HEADERS =
+            metaDataKey("ADDITIONAL_RESPONSE_HEADERS");
     public static final MetaDataKey<Integer> RESPONSE_STATUS = metaDataKey("RESPONSE_STATUS");
 }
@@ -28,12 +28,17 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Map;
+
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MetricsProvider<T> {
+    public static final MetaDataKey<Map<String, MetaDataKey<?>>> PROVIDED_METRICS = metaDataKey("PROVIDED_METRICS");
+
     private final MetaDataKey<T> key;
     private final MetaData metaData;
 
@@ -29,7 +29,6 @@ import lombok.RequiredArgsConstructor;
 import java.util.LinkedList;
 import java.util.List;
 
-import static com.envimate.httpmate.HttpMateChainKeys.EXCEPTION;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -66,23 +65,6 @@ public class Chain {
         rules.add(routingRule);
     }
 
-    Action accept(final ProcessingContext processingContext) {
-        final MetaData metaData = processingContext.metaData();
-        try {
-            processors.stream()
-                    .map(RegisteredProcessor::processor)
-                    .forEach(processor -> processor.apply(metaData));
-            return rules.stream()
-                    .filter(rule -> rule.matches(metaData))
-                    .findFirst()
-                    .map(Rule::action)
-                    .orElse(defaultAction);
-        } catch (final Exception e) {
-            metaData.set(EXCEPTION, e);
-            return exceptionAction;
-        }
-    }
-
     Action defaultAction() {
         return defaultAction;
     }
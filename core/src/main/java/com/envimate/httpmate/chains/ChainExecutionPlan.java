@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.chains;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import static com.envimate.httpmate.HttpMateChainKeys.EXCEPTION;
+import static com.envimate.httpmate.chains.CompiledChain.compileChain;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Collections.unmodifiableMap;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ChainExecutionPlan {
+    private final Map<ChainName, Integer> chainIndices;
+    private final CompiledChain[] chains;
+
+    static ChainExecutionPlan compileExecutionPlan(final Map<ChainName, Chain> namedChains,
+                                                   final boolean recordEvents) {
+        validateNotNull(namedChains, "namedChains");
+        final Map<ChainName, Integer> chainIndices = new HashMap<>(namedChains.size() * 2);
+        final Chain[] sourceChains = new Chain[namedChains.size()];
+        int index = 0;
+        for (final Map.Entry<ChainName, Chain> entry : namedChains.entrySet()) {
+            chainIndices.put(entry.getKey(), index);
+            sourceChains[index] = entry.getValue();
+            ++index;
+        }
+        final CompiledChain[] chains = new CompiledChain[sourceChains.length];
+        for (int i = 0; i < chains.length; ++i) {
+            chains[i] = compileChain(sourceChains[i], chainIndices, recordEvents);
+        }
+        return new ChainExecutionPlan(unmodifiableMap(chainIndices), chains);
+    }
+
+    void execute(final ChainName entryChain,
+                 final ProcessingContext processingContext) {
+        final Integer entryIndex = chainIndices.get(entryChain);
+        if (entryIndex == null) {
+            throw new NoChainForNameException(entryChain);
+        }
+        run(entryIndex, 0, processingContext);
+    }
+
+    private void run(final int firstChain,
+                     final int firstProcessor,
+                     final ProcessingContext processingContext) {
+        final MetaData metaData = processingContext.metaData();
+        int current = firstChain;
+        int processor = firstProcessor;
+        while (current >= 0) {
+            final CompiledChain chain = chains[current];
+            final CompiledAction action = chain.accept(metaData, processor);
+            processor = 0;
+            if (!action.isSuspension()) {
+                current = action.execute(processingContext);
+            } else if (processingContext.isAsynchronous()) {
+                suspend(current, action, processingContext);
+                return;
+            } else {
+                final Throwable failure = await(action.suspendedUntil());
+                if (failure == null) {
+                    processor = action.resumeAtProcessor();
+                } else {
+                    metaData.set(EXCEPTION, failure);
+                    current = chain.exceptionAction().execute(processingContext);
+                }
+            }
+        }
+        processingContext.finish();
+    }
+
+    private void suspend(final int chain,
+                         final CompiledAction suspension,
+                         final ProcessingContext processingContext) {
+        suspension.suspendedUntil().whenComplete((result, throwable) -> {
+            try {
+                if (throwable == null) {
+                    run(chain, suspension.resumeAtProcessor(), processingContext);
+                } else {
+                    processingContext.metaData().set(EXCEPTION, unwrap(throwable));
+                    final int next = chains[chain].exceptionAction().execute(processingContext);
+                    run(next, 0, processingContext);
+                }
+            } catch (final Throwable e) {
+                processingContext.fail(e);
+            }
+        });
+    }
+
+    private static Throwable await(final CompletionStage<?> stage) {
+        try {
+            stage.toCompletableFuture().get();
+            return null;
+        } catch (final ExecutionException e) {
+            return unwrap(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
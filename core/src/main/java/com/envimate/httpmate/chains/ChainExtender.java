@@ -32,6 +32,7 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import static com.envimate.httpmate.chains.RegisteredProcessor.registeredProcessor;
+import static com.envimate.httpmate.chains.rules.Rule.keyedRule;
 import static com.envimate.httpmate.chains.rules.Rule.rule;
 import static com.envimate.httpmate.chains.rules.RuleDescription.ruleDescription;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
@@ -95,9 +96,10 @@ public final class ChainExtender {
                             final MetaDataKey<T> key,
                             final Predicate<T> predicate,
                             final String description) {
-        route(name, action, m -> m.getOptional(key)
-                .map(predicate::test)
-                .orElse(false), description);
+        validateNotNull(key, "key");
+        validateNotNull(predicate, "predicate");
+        final Rule rule = keyedRule(moduleIdentifier, key, predicate, action, ruleDescription(description));
+        chainRegistry.addRoutingRouleToChain(name, rule);
     }
 
     public void route(final ChainName name,
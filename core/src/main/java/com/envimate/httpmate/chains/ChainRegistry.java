@@ -21,21 +21,29 @@
 
 package com.envimate.httpmate.chains;
 
-import com.envimate.httpmate.chains.rules.*;
+import com.envimate.httpmate.chains.rules.Action;
+import com.envimate.httpmate.chains.rules.Rule;
 import lombok.RequiredArgsConstructor;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static com.envimate.httpmate.chains.Chain.chain;
+import static com.envimate.httpmate.chains.ChainExecutionPlan.compileExecutionPlan;
 import static com.envimate.httpmate.chains.ChainExtender.chainExtender;
 import static com.envimate.httpmate.chains.GraphCreator.createGraph;
 import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.chains.ProcessingContext.asynchronousProcessingContext;
 import static com.envimate.httpmate.chains.ProcessingContext.processingContext;
+import static com.envimate.httpmate.jfr.FlightRecorderModule.FLIGHT_RECORDER_EVENTS;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -44,6 +52,7 @@ public class ChainRegistry {
 
     private final Map<ChainName, Chain> namedChains;
     private final MetaData metaData;
+    private volatile ChainExecutionPlan executionPlan;
 
     static ChainRegistry emptyChainRegistry(final MetaData metaData) {
         validateNotNull(metaData, "metaData");
@@ -54,6 +63,7 @@ public class ChainRegistry {
 
     void extend(final ChainModule module) {
         validateNotNull(module, "module");
+        validateNotFrozen();
         final ModuleIdentifier identifier = module.identifier();
         final ChainExtender extender = chainExtender(this, identifier, metaData);
         module.register(extender);
@@ -62,30 +72,37 @@ public class ChainRegistry {
     public void putIntoChain(final ChainName chainName,
                              final MetaData initialMetaData,
                              final Consumer<MetaData> consumer) {
+        validateNotNull(chainName, "chainName");
+        final ChainExecutionPlan plan = executionPlan;
+        if (isNull(plan)) {
+            throw new RuntimeException("The chain registry has not been built yet");
+        }
         final ProcessingContext processingContext = processingContext(initialMetaData, consumer);
-        accept(chainName, processingContext);
+        plan.execute(chainName, processingContext);
     }
 
-    private void accept(final ChainName chainName,
-                        final ProcessingContext processingContext) {
-        final Chain chain = getChainFor(chainName);
-        final Action action = chain.accept(processingContext);
-        handleAction(action, processingContext);
+    public CompletionStage<Void> putIntoChainAsynchronously(final ChainName chainName,
+                                                            final MetaData initialMetaData,
+                                                            final Consumer<MetaData> consumer) {
+        validateNotNull(chainName, "chainName");
+        final ChainExecutionPlan plan = executionPlan;
+        if (isNull(plan)) {
+            throw new RuntimeException("The chain registry has not been built yet");
+        }
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        final ProcessingContext processingContext = asynchronousProcessingContext(initialMetaData, consumer, completion);
+        try {
+            plan.execute(chainName, processingContext);
+        } catch (final RuntimeException e) {
+            completion.completeExceptionally(e);
+        }
+        return completion;
     }
 
-    private void handleAction(final Action action,
-                              final ProcessingContext processingContext) {
-        if (action instanceof Jump) {
-            final Jump jump = (Jump) action;
-            final ChainName name = jump.target().orElseThrow();
-            accept(name, processingContext);
-        } else if (action instanceof Consume) {
-            processingContext.consume();
-        } else if (action instanceof Drop) {
-            // do nothing
-        } else {
-            throw new RuntimeException("Unknown action: " + action.getClass().getName());
-        }
+    void freeze() {
+        validateNotFrozen();
+        final boolean recordEvents = metaData.getOptional(FLIGHT_RECORDER_EVENTS).orElse(false);
+        executionPlan = compileExecutionPlan(namedChains, recordEvents);
     }
 
     public String dump() {
@@ -116,6 +133,7 @@ public class ChainRegistry {
         validateNotNull(defaultAction, "defaultAction");
         validateNotNull(exceptionAction, "exceptionAction");
         validateNotNull(moduleIdentifier, "moduleIdentifier");
+        validateNotFrozen();
         if(namedChains.containsKey(name)) {
             throw new RuntimeException(format("A chain with name '%s' already exists", name.name()));
         }
@@ -127,6 +145,7 @@ public class ChainRegistry {
                                  final RegisteredProcessor processor) {
         validateNotNull(chainName, "chainName");
         validateNotNull(processor, "processor");
+        validateNotFrozen();
         final Chain chain = getChainFor(chainName);
         chain.prependProcessor(processor);
     }
@@ -135,6 +154,7 @@ public class ChainRegistry {
                                 final RegisteredProcessor processor) {
         validateNotNull(chainName, "chainName");
         validateNotNull(processor, "processor");
+        validateNotFrozen();
         final Chain chain = getChainFor(chainName);
         chain.appendProcessor(processor);
     }
@@ -143,10 +163,17 @@ public class ChainRegistry {
                                 final Rule rule) {
         validateNotNull(chainName, "chainName");
         validateNotNull(rule, "rule");
+        validateNotFrozen();
         final Chain chain = getChainFor(chainName);
         chain.addRoutingRule(rule);
     }
 
+    private void validateNotFrozen() {
+        if (nonNull(executionPlan)) {
+            throw new RuntimeException("The chain registry has already been built and can no longer be modified");
+        }
+    }
+
     private Chain getChainFor(final ChainName chainName) {
         validateNotNull(chainName, "chainName");
         if (namedChains.containsKey(chainName)) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.chains;
+
+import com.envimate.httpmate.chains.rules.Action;
+import com.envimate.httpmate.chains.rules.Consume;
+import com.envimate.httpmate.chains.rules.Drop;
+import com.envimate.httpmate.chains.rules.Jump;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledAction {
+    private static final int NO_TARGET = -1;
+
+    private final ActionType type;
+    private final int target;
+    private final Action action;
+    private final CompletionStage<?> suspension;
+
+    static CompiledAction compileAction(final Action action,
+                                        final Map<ChainName, Integer> chainIndices) {
+        validateNotNull(action, "action");
+        validateNotNull(chainIndices, "chainIndices");
+        if (action instanceof Jump) {
+            final ChainName name = action.target().orElseThrow();
+            final Integer index = chainIndices.get(name);
+            if (index == null) {
+                return new CompiledAction(ActionType.JUMP_TO_UNKNOWN_CHAIN, NO_TARGET, action, null);
+            }
+            return new CompiledAction(ActionType.JUMP, index, action, null);
+        } else if (action instanceof Consume) {
+            return new CompiledAction(ActionType.CONSUME, NO_TARGET, action, null);
+        } else if (action instanceof Drop) {
+            return new CompiledAction(ActionType.DROP, NO_TARGET, action, null);
+        } else {
+            return new CompiledAction(ActionType.UNKNOWN, NO_TARGET, action, null);
+        }
+    }
+
+    static CompiledAction suspension(final CompletionStage<?> stage,
+                                     final int resumeAtProcessor) {
+        validateNotNull(stage, "stage");
+        return new CompiledAction(ActionType.SUSPEND, resumeAtProcessor, null, stage);
+    }
+
+    boolean isSuspension() {
+        return type == ActionType.SUSPEND;
+    }
+
+    CompletionStage<?> suspendedUntil() {
+        return suspension;
+    }
+
+    int resumeAtProcessor() {
+        return target;
+    }
+
+    int execute(final ProcessingContext processingContext) {
+        switch (type) {
+            case JUMP:
+                return target;
+            case CONSUME:
+                processingContext.consume();
+                return NO_TARGET;
+            case DROP:
+                return NO_TARGET;
+            case SUSPEND:
+                throw new IllegalStateException("A suspension can not be executed");
+            case JUMP_TO_UNKNOWN_CHAIN:
+                throw new NoChainForNameException(action.target().orElseThrow());
+            default:
+                throw new RuntimeException("Unknown action: " + action.getClass().getName());
+        }
+    }
+
+    private enum ActionType {
+        JUMP,
+        JUMP_TO_UNKNOWN_CHAIN,
+        CONSUME,
+        DROP,
+        SUSPEND,
+        UNKNOWN
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.chains;
+
+import com.envimate.httpmate.chains.rules.Rule;
+import com.envimate.httpmate.jfr.ChainEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import static com.envimate.httpmate.HttpMateChainKeys.EXCEPTION;
+import static com.envimate.httpmate.HttpMateChainKeys.SUSPEND_UNTIL;
+import static com.envimate.httpmate.chains.CompiledAction.compileAction;
+import static com.envimate.httpmate.chains.CompiledAction.suspension;
+import static com.envimate.httpmate.chains.CompiledRule.compileRule;
+import static com.envimate.httpmate.chains.RecordedProcessor.recordedProcessor;
+import static com.envimate.httpmate.jfr.ChainEvent.chainEvent;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledChain {
+    private final String name;
+    private final boolean recordEvents;
+    private final Processor[] processors;
+    private final CompiledRule[] rules;
+    private final CompiledAction defaultAction;
+    private final CompiledAction exceptionAction;
+
+    static CompiledChain compileChain(final Chain chain,
+                                      final Map<ChainName, Integer> chainIndices,
+                                      final boolean recordEvents) {
+        validateNotNull(chain, "chain");
+        validateNotNull(chainIndices, "chainIndices");
+        final List<RegisteredProcessor> registeredProcessors = chain.processors();
+        final Processor[] processors = new Processor[registeredProcessors.size()];
+        for (int i = 0; i < processors.length; ++i) {
+            final RegisteredProcessor registeredProcessor = registeredProcessors.get(i);
+            if (recordEvents) {
+                processors[i] = recordedProcessor(chain.getName(), registeredProcessor);
+            } else {
+                processors[i] = registeredProcessor.processor();
+            }
+        }
+        final List<Rule> registeredRules = chain.rules();
+        final CompiledRule[] rules = new CompiledRule[registeredRules.size()];
+        for (int i = 0; i < rules.length; ++i) {
+            rules[i] = compileRule(registeredRules.get(i), chainIndices);
+        }
+        final CompiledAction defaultAction = compileAction(chain.defaultAction(), chainIndices);
+        final CompiledAction exceptionAction = compileAction(chain.exceptionAction(), chainIndices);
+        return new CompiledChain(chain.getName().name(), recordEvents, processors, rules, defaultAction, exceptionAction);
+    }
+
+    CompiledAction accept(final MetaData metaData,
+                          final int firstProcessor) {
+        if (!recordEvents) {
+            return process(metaData, firstProcessor);
+        }
+        final ChainEvent event = chainEvent();
+        try {
+            return process(metaData, firstProcessor);
+        } finally {
+            event.complete(name);
+        }
+    }
+
+    private CompiledAction process(final MetaData metaData,
+                                   final int firstProcessor) {
+        try {
+            for (int i = firstProcessor; i < processors.length; ++i) {
+                processors[i].apply(metaData);
+                final Object suspension = metaData.lookup(SUSPEND_UNTIL);
+                if (suspension != null) {
+                    metaData.set(SUSPEND_UNTIL, null);
+                    return suspension((CompletionStage<?>) suspension, i + 1);
+                }
+            }
+            for (final CompiledRule rule : rules) {
+                if (rule.matches(metaData)) {
+                    return rule.action();
+                }
+            }
+            return defaultAction;
+        } catch (final Exception e) {
+            metaData.set(EXCEPTION, e);
+            return exceptionAction;
+        }
+    }
+
+    CompiledAction exceptionAction() {
+        return exceptionAction;
+    }
+}
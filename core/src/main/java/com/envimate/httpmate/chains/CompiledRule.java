@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.chains;
+
+import com.envimate.httpmate.chains.rules.Rule;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+import static com.envimate.httpmate.chains.CompiledAction.compileAction;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledRule {
+    private final Rule rule;
+    private final MetaDataKey<?> key;
+    private final CompiledAction action;
+
+    static CompiledRule compileRule(final Rule rule,
+                                    final Map<ChainName, Integer> chainIndices) {
+        validateNotNull(rule, "rule");
+        final MetaDataKey<?> key = rule.key().orElse(null);
+        final CompiledAction action = compileAction(rule.action(), chainIndices);
+        return new CompiledRule(rule, key, action);
+    }
+
+    boolean matches(final MetaData metaData) {
+        if (key == null) {
+            return rule.matches(metaData);
+        }
+        final Object value = metaData.lookup(key);
+        return value != null && rule.matchesValue(value);
+    }
+
+    CompiledAction action() {
+        return action;
+    }
+}
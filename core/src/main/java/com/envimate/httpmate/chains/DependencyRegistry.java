@@ -27,8 +27,11 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import static com.envimate.httpmate.MetricsProvider.PROVIDED_METRICS;
 import static com.envimate.httpmate.MetricsProvider.metricsProvider;
 import static com.envimate.httpmate.chains.ChainRegistry.emptyChainRegistry;
 import static com.envimate.httpmate.chains.IndexedModules.indexedModules;
@@ -66,6 +69,10 @@ public final class DependencyRegistry {
         validateNotNull(key, "key");
         validateNotNull(defaultValue, "defaultValue");
         metaData.set(key, defaultValue);
+        final Map<String, MetaDataKey<?>> providedMetrics = metaData.getOptional(PROVIDED_METRICS)
+                .orElseGet(LinkedHashMap::new);
+        providedMetrics.put(key.key(), key);
+        metaData.set(PROVIDED_METRICS, providedMetrics);
         return metricsProvider(key, metaData);
     }
 
@@ -86,6 +93,7 @@ public final class DependencyRegistry {
     ChainRegistry buildChainRegistry() {
         final ChainRegistry chainRegistry = emptyChainRegistry(metaData);
         modules.stream().forEach(chainRegistry::extend);
+        chainRegistry.freeze();
         return chainRegistry;
     }
 }
@@ -122,7 +122,8 @@ final class GraphCreator {
         if (action instanceof Jump) {
             final Jump jump = (Jump) action;
             final ChainName to = jump.target().orElseThrow();
-            return of(edge(fromNode, nodes.get(to), color, label));
+            final Node toNode = nodes.computeIfAbsent(to, unknownChain -> node(unknownChain.name(), RED));
+            return of(edge(fromNode, toNode, color, label));
         }
         if (action instanceof Consume) {
             return of(edge(fromNode, CONSUME_NODE, color, label));
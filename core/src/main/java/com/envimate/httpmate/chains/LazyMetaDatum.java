@@ -19,27 +19,30 @@
  * under the License.
  */
 
-package com.envimate.httpmate.http;
+package com.envimate.httpmate.chains;
 
-import lombok.EqualsAndHashCode;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import lombok.ToString;
 
-import static com.envimate.httpmate.util.Validators.validateNotNullNorEmpty;
+import java.util.function.Supplier;
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor
-final class HeaderKey {
-    private final String value;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 
-    static HeaderKey headerKey(final String value) {
-        validateNotNullNorEmpty(value, "stringValue");
-        final String cleanValue = value.toLowerCase();
-        return new HeaderKey(cleanValue);
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class LazyMetaDatum {
+    private final Supplier<?> supplier;
+
+    static LazyMetaDatum lazyMetaDatum(final Supplier<?> supplier) {
+        validateNotNull(supplier, "supplier");
+        return new LazyMetaDatum(supplier);
+    }
+
+    Object evaluate() {
+        return supplier.get();
     }
 
-    String stringValue() {
-        return this.value;
+    @Override
+    public String toString() {
+        return "<not yet evaluated>";
     }
 }
@@ -22,47 +22,60 @@
 package com.envimate.httpmate.chains;
 
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Supplier;
 
+import static com.envimate.httpmate.chains.LazyMetaDatum.lazyMetaDatum;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.chains.MetaDataKeyOrdinals.nameOf;
+import static com.envimate.httpmate.chains.MetaDataKeyOrdinals.numberOfOrdinals;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MetaData {
-    private final Map<String, Object> map;
+    private static final int MINIMAL_CAPACITY = 16;
 
-    static MetaData metaData(final Map<String, Object> map) {
-        validateNotNull(map, "map");
-        return new MetaData(map);
-    }
+    private Object[] slots;
+    private final MetaDataPool pool;
 
     public static MetaData emptyMetaData() {
-        return new MetaData(new HashMap<>());
+        return new MetaData(new Object[initialCapacity()], null);
+    }
+
+    static MetaData pooledMetaData(final MetaDataPool pool) {
+        return new MetaData(new Object[initialCapacity()], pool);
+    }
+
+    private static int initialCapacity() {
+        return Math.max(MINIMAL_CAPACITY, numberOfOrdinals());
     }
 
     public <T> void set(final MetaDataKey<T> key, final T value) {
         validateNotNull(key, "key");
-        map.put(key.key(), value);
+        store(key.ordinal(), value);
     }
 
     public void setUnchecked(final MetaDataKey<?> key, final Object value) {
         validateNotNull(key, "key");
-        map.put(key.key(), value);
+        store(key.ordinal(), value);
+    }
+
+    public <T> void setLazily(final MetaDataKey<T> key, final Supplier<T> supplier) {
+        validateNotNull(key, "key");
+        store(key.ordinal(), lazyMetaDatum(supplier));
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T get(final MetaDataKey<T> key) {
-        return getOptional(key).orElseThrow(() -> new RuntimeException(format(
-                "Could not find meta datum %s in %s", key.key(), map)));
+        final Object datum = lookup(key);
+        if (datum == null) {
+            throw new RuntimeException(format("Could not find meta datum %s in %s", key.key(), this));
+        }
+        return (T) datum;
     }
 
     @SuppressWarnings("unchecked")
@@ -72,7 +85,7 @@ public final class MetaData {
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getOptional(final MetaDataKey<T> key) {
-        final T datum = (T) map.get(key.key());
+        final T datum = (T) lookup(key);
         return ofNullable(datum);
     }
 
@@ -82,23 +95,105 @@ public final class MetaData {
     }
 
     public boolean contains(final MetaDataKey<?> key) {
-        return getOptional(key).isPresent();
+        return lookup(key) != null;
     }
 
     public List<MetaDataKey<?>> keys() {
-        return map.keySet().stream()
-                .map(MetaDataKey::metaDataKey)
-                .collect(toList());
+        final List<MetaDataKey<?>> keys = new ArrayList<>();
+        for (int ordinal = 0; ordinal < slots.length; ++ordinal) {
+            if (slots[ordinal] != null) {
+                keys.add(metaDataKey(nameOf(ordinal)));
+            }
+        }
+        return keys;
     }
 
     @Override
     public String toString() {
-        return map.toString();
+        final StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEachEntry((name, value) -> joiner.add(name + "=" + value));
+        return joiner.toString();
     }
 
     public String prettyPrint() {
-        return map.entrySet().stream()
-                .map(entry -> format("%s = %s", entry.getKey(), entry.getValue()))
-                .collect(joining("\n"));
+        final StringJoiner joiner = new StringJoiner("\n");
+        forEachEntry((name, value) -> joiner.add(format("%s = %s", name, value)));
+        return joiner.toString();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MetaData)) {
+            return false;
+        }
+        final Object[] otherSlots = ((MetaData) other).slots;
+        final int length = Math.max(slots.length, otherSlots.length);
+        for (int ordinal = 0; ordinal < length; ++ordinal) {
+            if (!Objects.equals(slotAt(slots, ordinal), slotAt(otherSlots, ordinal))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int ordinal = 0; ordinal < slots.length; ++ordinal) {
+            if (slots[ordinal] != null) {
+                hashCode += nameOf(ordinal).hashCode() ^ slots[ordinal].hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    boolean belongsTo(final MetaDataPool pool) {
+        return this.pool == pool;
+    }
+
+    void clear() {
+        Arrays.fill(slots, null);
+    }
+
+    Object lookup(final MetaDataKey<?> key) {
+        final int ordinal = key.ordinal();
+        final Object datum = slotAt(slots, ordinal);
+        if (datum instanceof LazyMetaDatum) {
+            final Object evaluated = ((LazyMetaDatum) datum).evaluate();
+            slots[ordinal] = evaluated;
+            return evaluated;
+        }
+        return datum;
+    }
+
+    private void store(final int ordinal, final Object value) {
+        if (ordinal >= slots.length) {
+            final int capacity = Math.max(ordinal + 1, Math.max(slots.length * 2, numberOfOrdinals()));
+            slots = Arrays.copyOf(slots, capacity);
+        }
+        slots[ordinal] = value;
+    }
+
+    private void forEachEntry(final EntryConsumer consumer) {
+        for (int ordinal = 0; ordinal < slots.length; ++ordinal) {
+            if (slots[ordinal] != null) {
+                consumer.accept(nameOf(ordinal), slots[ordinal]);
+            }
+        }
+    }
+
+    private static Object slotAt(final Object[] slots, final int ordinal) {
+        if (ordinal >= slots.length) {
+            return null;
+        }
+        return slots[ordinal];
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer {
+        void accept(String name, Object value);
     }
 }
@@ -26,6 +26,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import static com.envimate.httpmate.chains.MetaDataKeyOrdinals.ordinalOf;
 import static com.envimate.httpmate.util.Validators.validateNotNullNorEmpty;
 
 @ToString
@@ -33,13 +34,20 @@ import static com.envimate.httpmate.util.Validators.validateNotNullNorEmpty;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MetaDataKey<T> {
     private final String key;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final int ordinal;
 
     public static <T> MetaDataKey<T> metaDataKey(final String key) {
         validateNotNullNorEmpty(key, "key");
-        return new MetaDataKey<>(key);
+        return new MetaDataKey<>(key, ordinalOf(key));
     }
 
     String key() {
         return key;
     }
+
+    int ordinal() {
+        return ordinal;
+    }
 }
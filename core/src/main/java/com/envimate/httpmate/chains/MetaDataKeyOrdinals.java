@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.chains;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
+
+/**
+ * Assigns every distinct {@link MetaDataKey} name a slot in {@link MetaData}. The slots are shared by all
+ * {@link MetaData} objects of the process because keys are created as constants, independent of any
+ * {@link ChainRegistry}. Since every {@link MetaData} grows to the number of known names, creating keys
+ * from request data is refused once {@link #MAXIMUM_NUMBER_OF_KEYS} names are known.
+ */
+final class MetaDataKeyOrdinals {
+    static final int MAXIMUM_NUMBER_OF_KEYS = 4096;
+
+    private static final Map<String, Integer> ORDINALS = new ConcurrentHashMap<>();
+    private static final List<String> NAMES = new CopyOnWriteArrayList<>();
+
+    private MetaDataKeyOrdinals() {
+    }
+
+    static int ordinalOf(final String key) {
+        final Integer ordinal = ORDINALS.get(key);
+        if (nonNull(ordinal)) {
+            return ordinal;
+        }
+        return assignOrdinal(key);
+    }
+
+    static String nameOf(final int ordinal) {
+        return NAMES.get(ordinal);
+    }
+
+    static int numberOfOrdinals() {
+        return NAMES.size();
+    }
+
+    private static synchronized int assignOrdinal(final String key) {
+        return ORDINALS.computeIfAbsent(key, newKey -> {
+            if (NAMES.size() >= MAXIMUM_NUMBER_OF_KEYS) {
+                throw new IllegalStateException(format("Can not create meta data key '%s' because there already are "
+                        + "%d distinct meta data keys. Meta data keys should be constants.", newKey, MAXIMUM_NUMBER_OF_KEYS));
+            }
+            NAMES.add(newKey);
+            return NAMES.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.chains;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.chains.MetaData.pooledMetaData;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString(of = "maximumSize")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetaDataPool {
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final int maximumSize;
+    private final BlockingQueue<MetaData> idle;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final Map<MetaData, Throwable> outstanding = new IdentityHashMap<>();
+    private volatile boolean leakDetection;
+
+    public static MetaDataPool metaDataPool(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative but was " + maximumSize);
+        }
+        final BlockingQueue<MetaData> idle = new ArrayBlockingQueue<>(Math.max(1, maximumSize));
+        return new MetaDataPool(maximumSize, idle);
+    }
+
+    public MetaData borrow() {
+        if (maximumSize == 0) {
+            return emptyMetaData();
+        }
+        MetaData metaData = idle.poll();
+        if (metaData == null) {
+            metaData = pooledMetaData(this);
+            created.increment();
+        } else {
+            reused.increment();
+        }
+        if (leakDetection) {
+            synchronized (outstanding) {
+                outstanding.put(metaData, new Throwable("MetaData borrowed here was never released"));
+            }
+        }
+        return metaData;
+    }
+
+    public void release(final MetaData metaData) {
+        validateNotNull(metaData, "metaData");
+        if (!metaData.belongsTo(this)) {
+            return;
+        }
+        if (leakDetection) {
+            synchronized (outstanding) {
+                if (outstanding.remove(metaData) == null) {
+                    throw new IllegalStateException("MetaData has been released twice or was not borrowed while " +
+                            "leak detection was active");
+                }
+            }
+        }
+        metaData.clear();
+        if (!idle.offer(metaData)) {
+            discarded.increment();
+        }
+    }
+
+    public void enableLeakDetection() {
+        leakDetection = true;
+    }
+
+    public boolean isLeakDetectionEnabled() {
+        return leakDetection;
+    }
+
+    public List<Throwable> outstandingBorrows() {
+        synchronized (outstanding) {
+            return new ArrayList<>(outstanding.values());
+        }
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public int idle() {
+        return idle.size();
+    }
+
+    public long created() {
+        return created.sum();
+    }
+
+    public long reused() {
+        return reused.sum();
+    }
+
+    public long discarded() {
+        return discarded.sum();
+    }
+}
@@ -26,6 +26,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static com.envimate.httpmate.chains.RunId.randomRunId;
@@ -38,13 +39,24 @@ final class ProcessingContext {
     private final RunId runId;
     private final MetaData metaData;
     private final Consumer<MetaData> consumer;
+    private final CompletableFuture<Void> completion;
 
     static ProcessingContext processingContext(final MetaData metaData,
                                                final Consumer<MetaData> consumer) {
         validateNotNull(metaData, "metaData");
         validateNotNull(consumer, "consumer");
         final RunId runId = randomRunId();
-        return new ProcessingContext(runId, metaData, consumer);
+        return new ProcessingContext(runId, metaData, consumer, null);
+    }
+
+    static ProcessingContext asynchronousProcessingContext(final MetaData metaData,
+                                                           final Consumer<MetaData> consumer,
+                                                           final CompletableFuture<Void> completion) {
+        validateNotNull(metaData, "metaData");
+        validateNotNull(consumer, "consumer");
+        validateNotNull(completion, "completion");
+        final RunId runId = randomRunId();
+        return new ProcessingContext(runId, metaData, consumer, completion);
     }
 
     MetaData metaData() {
@@ -55,6 +67,23 @@ final class ProcessingContext {
         consumer.accept(metaData);
     }
 
+    boolean isAsynchronous() {
+        return completion != null;
+    }
+
+    void finish() {
+        if (completion != null) {
+            completion.complete(null);
+        }
+    }
+
+    void fail(final Throwable throwable) {
+        if (completion == null) {
+            throw new IllegalStateException("Synchronous processing can not fail asynchronously", throwable);
+        }
+        completion.completeExceptionally(throwable);
+    }
+
     RunId runId() {
         return runId;
     }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.chains;
+
+import com.envimate.httpmate.jfr.ProcessorEvent;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static com.envimate.httpmate.jfr.ProcessorEvent.processorEvent;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class RecordedProcessor implements Processor {
+    private final String chain;
+    private final String module;
+    private final String name;
+    private final Processor processor;
+
+    static Processor recordedProcessor(final ChainName chain, final RegisteredProcessor registeredProcessor) {
+        validateNotNull(chain, "chain");
+        validateNotNull(registeredProcessor, "registeredProcessor");
+        final Processor processor = registeredProcessor.processor();
+        return new RecordedProcessor(chain.name(), registeredProcessor.identifier().internalValueForMapping(),
+                processor.getClass().getName(), processor);
+    }
+
+    @Override
+    public void apply(final MetaData metaData) {
+        final ProcessorEvent event = processorEvent();
+        try {
+            processor.apply(metaData);
+        } finally {
+            event.complete(chain, module, name);
+        }
+    }
+}
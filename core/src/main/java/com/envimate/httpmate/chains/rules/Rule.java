@@ -22,15 +22,18 @@
 package com.envimate.httpmate.chains.rules;
 
 import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.MetaDataKey;
 import com.envimate.httpmate.chains.ModuleIdentifier;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Optional.ofNullable;
 
 @ToString
 @EqualsAndHashCode
@@ -40,6 +43,8 @@ public final class Rule {
     private final Predicate<MetaData> matcher;
     private final Action action;
     private final RuleDescription ruleDescription;
+    private final MetaDataKey<?> key;
+    private final Predicate<Object> valueMatcher;
 
     public static Rule rule(final ModuleIdentifier moduleIdentifier,
                             final Predicate<MetaData> matcher,
@@ -49,13 +54,41 @@ public final class Rule {
         validateNotNull(matcher, "matcher");
         validateNotNull(action, "action");
         validateNotNull(ruleDescription, "ruleDescription");
-        return new Rule(moduleIdentifier, matcher, action, ruleDescription);
+        return new Rule(moduleIdentifier, matcher, action, ruleDescription, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Rule keyedRule(final ModuleIdentifier moduleIdentifier,
+                                     final MetaDataKey<T> key,
+                                     final Predicate<T> valueMatcher,
+                                     final Action action,
+                                     final RuleDescription ruleDescription) {
+        validateNotNull(moduleIdentifier, "moduleIdentifier");
+        validateNotNull(key, "key");
+        validateNotNull(valueMatcher, "valueMatcher");
+        validateNotNull(action, "action");
+        validateNotNull(ruleDescription, "ruleDescription");
+        final Predicate<MetaData> matcher = metaData -> metaData.getOptional(key)
+                .map(valueMatcher::test)
+                .orElse(false);
+        return new Rule(moduleIdentifier, matcher, action, ruleDescription, key, (Predicate<Object>) valueMatcher);
     }
 
     public boolean matches(final MetaData metaData) {
         return matcher.test(metaData);
     }
 
+    public Optional<MetaDataKey<?>> key() {
+        return ofNullable(key);
+    }
+
+    public boolean matchesValue(final Object value) {
+        if (valueMatcher == null) {
+            throw new IllegalStateException("Rule is not keyed on a single meta datum: " + ruleDescription);
+        }
+        return valueMatcher.test(value);
+    }
+
     public Action action() {
         return action;
     }
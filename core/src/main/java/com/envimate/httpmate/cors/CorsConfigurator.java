@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.envimate.httpmate.cors.CorsModule.corsModule;
+import static com.envimate.httpmate.cors.CorsResponseCache.DEFAULT_MAXIMUM_SIZE;
 import static com.envimate.httpmate.cors.domain.ExposedHeaders.exposedHeaders;
 import static com.envimate.httpmate.cors.domain.MaxAge.maxAgeInSeconds;
 import static com.envimate.httpmate.cors.domain.MaxAge.undefinedMaxAge;
@@ -65,6 +66,7 @@ public final class CorsConfigurator implements Configurator {
     private volatile ExposedHeaders exposedHeaders;
     private volatile boolean credentialsSupport = false;
     private volatile MaxAge maxAge = undefinedMaxAge();
+    private volatile int responseCacheSize = DEFAULT_MAXIMUM_SIZE;
 
     public static CorsConfigurator corsConfigurator(final AllowedOrigins allowedOrigins) {
         validateNotNull(allowedOrigins, "allowedOrigins");
@@ -123,6 +125,18 @@ public final class CorsConfigurator implements Configurator {
         return this;
     }
 
+    public CorsConfigurator withResponseCacheSize(final int responseCacheSize) {
+        if (responseCacheSize < 0) {
+            throw new IllegalArgumentException("responseCacheSize must not be negative but was " + responseCacheSize);
+        }
+        this.responseCacheSize = responseCacheSize;
+        return this;
+    }
+
+    public CorsConfigurator withoutResponseCache() {
+        return withResponseCacheSize(0);
+    }
+
     @Override
     public List<ChainModule> supplyModulesIfNotAlreadyPreset() {
         return singletonList(corsModule());
@@ -134,5 +148,6 @@ public final class CorsConfigurator implements Configurator {
         final ResourceSharingPolicy resourceSharingPolicy = resourceSharingPolicy(
                 allowedOrigins, allowedMethods, allowedHeaders, exposedHeaders, credentialsSupport, maxAge);
         corsModule.setResourceSharingPolicy(resourceSharingPolicy);
+        corsModule.setResponseCacheSize(responseCacheSize);
     }
 }
@@ -24,6 +24,7 @@ package com.envimate.httpmate.cors;
 import com.envimate.httpmate.chains.ChainExtender;
 import com.envimate.httpmate.chains.ChainModule;
 import com.envimate.httpmate.chains.ChainName;
+import com.envimate.httpmate.chains.MetaDataKey;
 import com.envimate.httpmate.cors.policy.ResourceSharingPolicy;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -33,7 +34,10 @@ import lombok.ToString;
 import static com.envimate.httpmate.HttpMateChainKeys.METHOD;
 import static com.envimate.httpmate.HttpMateChains.*;
 import static com.envimate.httpmate.chains.ChainName.chainName;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
 import static com.envimate.httpmate.chains.rules.Jump.jumpTo;
+import static com.envimate.httpmate.cors.CorsResponseCache.DEFAULT_MAXIMUM_SIZE;
+import static com.envimate.httpmate.cors.CorsResponseCache.corsResponseCache;
 import static com.envimate.httpmate.cors.PreflightRequestProcessor.preflightRequestProcessor;
 import static com.envimate.httpmate.cors.SimpleCrossOriginRequestProcessor.simpleCrossOriginRequestProcessor;
 import static com.envimate.httpmate.http.HttpRequestMethod.OPTIONS;
@@ -43,8 +47,13 @@ import static com.envimate.httpmate.util.Validators.validateNotNull;
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CorsModule implements ChainModule {
+    public static final MetaDataKey<CorsResponseCache> PREFLIGHT_RESPONSE_CACHE = metaDataKey("PREFLIGHT_RESPONSE_CACHE");
+    public static final MetaDataKey<CorsResponseCache> SIMPLE_CROSS_ORIGIN_RESPONSE_CACHE =
+            metaDataKey("SIMPLE_CROSS_ORIGIN_RESPONSE_CACHE");
+
     private static final ChainName CORS_CHAIN = chainName("CORS");
     private volatile ResourceSharingPolicy resourceSharingPolicy;
+    private volatile int responseCacheSize = DEFAULT_MAXIMUM_SIZE;
 
     public static ChainModule corsModule() {
         return new CorsModule();
@@ -55,11 +64,24 @@ public final class CorsModule implements ChainModule {
         this.resourceSharingPolicy = resourceSharingPolicy;
     }
 
+    public void setResponseCacheSize(final int responseCacheSize) {
+        if (responseCacheSize < 0) {
+            throw new IllegalArgumentException("responseCacheSize must not be negative but was " + responseCacheSize);
+        }
+        this.responseCacheSize = responseCacheSize;
+    }
+
     @Override
     public void register(final ChainExtender extender) {
+        final CorsResponseCache preflightResponseCache = corsResponseCache(responseCacheSize);
+        final CorsResponseCache simpleCrossOriginResponseCache = corsResponseCache(responseCacheSize);
+        extender.addMetaDatum(PREFLIGHT_RESPONSE_CACHE, preflightResponseCache);
+        extender.addMetaDatum(SIMPLE_CROSS_ORIGIN_RESPONSE_CACHE, simpleCrossOriginResponseCache);
+
         extender.createChain(CORS_CHAIN, jumpTo(POST_PROCESS), jumpTo(EXCEPTION_OCCURRED));
-        extender.appendProcessor(CORS_CHAIN, preflightRequestProcessor(resourceSharingPolicy));
+        extender.appendProcessor(CORS_CHAIN, preflightRequestProcessor(resourceSharingPolicy, preflightResponseCache));
         extender.routeIfEquals(PRE_PROCESS, jumpTo(CORS_CHAIN), METHOD, OPTIONS);
-        extender.appendProcessor(PREPARE_RESPONSE, simpleCrossOriginRequestProcessor(resourceSharingPolicy));
+        extender.appendProcessor(PREPARE_RESPONSE,
+                simpleCrossOriginRequestProcessor(resourceSharingPolicy, simpleCrossOriginResponseCache));
     }
 }
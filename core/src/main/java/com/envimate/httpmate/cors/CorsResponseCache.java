@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.cors;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Hits only read the map and stamp the entry with the current tick of a clock that advances on misses.
+ * Once the cache grows beyond its maximum size, the least recently used eighth is evicted in one go,
+ * so only a small fraction of the misses has to look at all entries.
+ */
+@ToString(of = "maximumSize")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CorsResponseCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    private static final int EVICTED_FRACTION = 8;
+
+    private final int maximumSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public static CorsResponseCache corsResponseCache(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative but was " + maximumSize);
+        }
+        return new CorsResponseCache(maximumSize);
+    }
+
+    Map<String, String> responseHeadersFor(final String key,
+                                           final Supplier<Map<String, String>> computation) {
+        if (maximumSize == 0) {
+            misses.increment();
+            return computation.get();
+        }
+        final Entry cached = entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            cached.touch(clock.get());
+            return cached.responseHeaders;
+        }
+        misses.increment();
+        final Entry computed = new Entry(unmodifiableMap(computation.get()), clock.getAndIncrement());
+        final Entry previous = entries.putIfAbsent(key, computed);
+        if (previous != null) {
+            return previous.responseHeaders;
+        }
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+        return computed.responseHeaders;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    private void evict() {
+        evictionLock.lock();
+        try {
+            final List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+            final int evicted = candidates.size() - (maximumSize - maximumSize / EVICTED_FRACTION);
+            if (evicted <= 0) {
+                return;
+            }
+            final long[] lastUsed = new long[candidates.size()];
+            for (int i = 0; i < lastUsed.length; ++i) {
+                lastUsed[i] = candidates.get(i).getValue().lastUsed;
+            }
+            final long[] sorted = lastUsed.clone();
+            Arrays.sort(sorted);
+            final long threshold = sorted[evicted - 1];
+            int remaining = evicted;
+            for (int i = 0; i < lastUsed.length && remaining > 0; ++i) {
+                if (lastUsed[i] < threshold) {
+                    remove(candidates.get(i));
+                    --remaining;
+                }
+            }
+            for (int i = 0; i < lastUsed.length && remaining > 0; ++i) {
+                if (lastUsed[i] == threshold) {
+                    remove(candidates.get(i));
+                    --remaining;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void remove(final Map.Entry<String, Entry> candidate) {
+        entries.remove(candidate.getKey(), candidate.getValue());
+    }
+
+    private static final class Entry {
+        private final Map<String, String> responseHeaders;
+        private volatile long lastUsed;
+
+        private Entry(final Map<String, String> responseHeaders, final long lastUsed) {
+            this.responseHeaders = responseHeaders;
+            this.lastUsed = lastUsed;
+        }
+
+        private void touch(final long now) {
+            if (lastUsed != now) {
+                lastUsed = now;
+            }
+        }
+    }
+}
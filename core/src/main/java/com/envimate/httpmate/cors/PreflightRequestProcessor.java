@@ -27,6 +27,7 @@ import com.envimate.httpmate.cors.domain.Origin;
 import com.envimate.httpmate.cors.domain.RequestedHeaders;
 import com.envimate.httpmate.cors.domain.RequestedMethod;
 import com.envimate.httpmate.cors.policy.ResourceSharingPolicy;
+import com.envimate.httpmate.http.Headers;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -35,9 +36,12 @@ import lombok.ToString;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_HEADERS;
 import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_HEADERS;
 import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_STATUS;
 import static com.envimate.httpmate.cors.Cors.*;
+import static com.envimate.httpmate.cors.domain.Origin.fromString;
+import static com.envimate.httpmate.cors.domain.RequestedHeaders.normalize;
 import static com.envimate.httpmate.http.Http.StatusCodes.OK;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
@@ -45,51 +49,73 @@ import static com.envimate.httpmate.util.Validators.validateNotNull;
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PreflightRequestProcessor implements Processor {
+    private static final char SEPARATOR = '\n';
+
     private final ResourceSharingPolicy resourceSharingPolicy;
+    private final CorsResponseCache cache;
 
-    public static Processor preflightRequestProcessor(final ResourceSharingPolicy resourceSharingPolicy) {
+    public static Processor preflightRequestProcessor(final ResourceSharingPolicy resourceSharingPolicy,
+                                                      final CorsResponseCache cache) {
         validateNotNull(resourceSharingPolicy, "resourceSharingPolicy");
-        return new PreflightRequestProcessor(resourceSharingPolicy);
+        validateNotNull(cache, "cache");
+        return new PreflightRequestProcessor(resourceSharingPolicy, cache);
     }
 
     @Override
     public void apply(final MetaData metaData) {
-        metaData.set(RESPONSE_HEADERS, new HashMap<>());
+        final Map<String, String> responseHeaders = new HashMap<>();
+        metaData.set(RESPONSE_HEADERS, responseHeaders);
         metaData.set(RESPONSE_STATUS, OK);
+        final Headers requestHeaders = metaData.get(REQUEST_HEADERS);
         // 1
-        Origin.load(metaData).ifPresent(origin -> {
-            // 2
-            if(!resourceSharingPolicy.validateOrigin(origin)) {
-                return;
-            }
-            // 3
-            final RequestedMethod requestedMethod = RequestedMethod.load(metaData);
-            // 4
-            final RequestedHeaders requestedHeaders = RequestedHeaders.load(metaData);
-            // 5
-            if(!resourceSharingPolicy.validateRequestedMethod(requestedMethod)) {
-                return;
-            }
-            // 6
-            if(!resourceSharingPolicy.validateRequestedHeaders(requestedHeaders)) {
-                return;
-            }
-            // 7
-            final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
-            responseHeaders.put(ACCESS_CONTROL_ALLOW_ORIGIN, origin.internalValueForMapping());
-            if(resourceSharingPolicy.supportsCredentials()) {
-                responseHeaders.put(ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
-            }
-            // 8
-            resourceSharingPolicy.maxAge().generateHeaderValue()
-                    .ifPresent(maxAge -> responseHeaders.put(ACCESS_CONTROL_MAX_AGE, maxAge));
-            // 9
-            if(!requestedMethod.isSimpleMethod()) {
-                responseHeaders.put(ACCESS_CONTROL_ALLOW_METHODS, requestedMethod.internalValueForMapping());
-            }
-            // 10
-            requestedHeaders.generateHeaderValue()
-                    .ifPresent(allowedHeaders -> responseHeaders.put(ACCESS_CONTROL_ALLOW_HEADERS, allowedHeaders));
+        requestHeaders.getOptionalHeader(ORIGIN).ifPresent(origin -> {
+            final String key = cacheKey(origin, requestHeaders);
+            final Map<String, String> corsHeaders = cache.responseHeadersFor(key, () -> corsHeaders(fromString(origin), metaData));
+            responseHeaders.putAll(corsHeaders);
         });
     }
+
+    private Map<String, String> corsHeaders(final Origin origin,
+                                            final MetaData metaData) {
+        final Map<String, String> responseHeaders = new HashMap<>();
+        // 2
+        if(!resourceSharingPolicy.validateOrigin(origin)) {
+            return responseHeaders;
+        }
+        // 3
+        final RequestedMethod requestedMethod = RequestedMethod.load(metaData);
+        // 4
+        final RequestedHeaders requestedHeaders = RequestedHeaders.load(metaData);
+        // 5
+        if(!resourceSharingPolicy.validateRequestedMethod(requestedMethod)) {
+            return responseHeaders;
+        }
+        // 6
+        if(!resourceSharingPolicy.validateRequestedHeaders(requestedHeaders)) {
+            return responseHeaders;
+        }
+        // 7
+        responseHeaders.put(ACCESS_CONTROL_ALLOW_ORIGIN, origin.internalValueForMapping());
+        if(resourceSharingPolicy.supportsCredentials()) {
+            responseHeaders.put(ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        }
+        // 8
+        resourceSharingPolicy.maxAge().generateHeaderValue()
+                .ifPresent(maxAge -> responseHeaders.put(ACCESS_CONTROL_MAX_AGE, maxAge));
+        // 9
+        if(!requestedMethod.isSimpleMethod()) {
+            responseHeaders.put(ACCESS_CONTROL_ALLOW_METHODS, requestedMethod.internalValueForMapping());
+        }
+        // 10
+        requestedHeaders.generateHeaderValue()
+                .ifPresent(allowedHeaders -> responseHeaders.put(ACCESS_CONTROL_ALLOW_HEADERS, allowedHeaders));
+        return responseHeaders;
+    }
+
+    private static String cacheKey(final String origin,
+                                   final Headers requestHeaders) {
+        final String requestedMethod = requestHeaders.getOptionalHeader(ACCESS_CONTROL_REQUEST_METHOD).orElse("");
+        final String requestedHeaders = requestHeaders.getOptionalHeader(ACCESS_CONTROL_REQUEST_HEADERS).orElse("");
+        return origin + SEPARATOR + requestedMethod + SEPARATOR + normalize(requestedHeaders);
+    }
 }
@@ -23,17 +23,20 @@ package com.envimate.httpmate.cors;
 
 import com.envimate.httpmate.chains.MetaData;
 import com.envimate.httpmate.chains.Processor;
+import com.envimate.httpmate.cors.domain.Origin;
 import com.envimate.httpmate.cors.policy.ResourceSharingPolicy;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_HEADERS;
 import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_HEADERS;
 import static com.envimate.httpmate.cors.Cors.*;
-import static com.envimate.httpmate.cors.domain.Origin.load;
+import static com.envimate.httpmate.cors.domain.Origin.fromString;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @ToString
@@ -41,31 +44,43 @@ import static com.envimate.httpmate.util.Validators.validateNotNull;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SimpleCrossOriginRequestProcessor implements Processor {
     private final ResourceSharingPolicy resourceSharingPolicy;
+    private final CorsResponseCache cache;
 
-    public static Processor simpleCrossOriginRequestProcessor(final ResourceSharingPolicy resourceSharingPolicy) {
+    public static Processor simpleCrossOriginRequestProcessor(final ResourceSharingPolicy resourceSharingPolicy,
+                                                              final CorsResponseCache cache) {
         validateNotNull(resourceSharingPolicy, "resourceSharingPolicy");
-        return new SimpleCrossOriginRequestProcessor(resourceSharingPolicy);
+        validateNotNull(cache, "cache");
+        return new SimpleCrossOriginRequestProcessor(resourceSharingPolicy, cache);
     }
 
     @Override
     public void apply(final MetaData metaData) {
         // 1
-        load(metaData).ifPresent(origin -> {
-            // 2
-            if(!resourceSharingPolicy.validateOrigin(origin)) {
-                return;
+        metaData.get(REQUEST_HEADERS).getOptionalHeader(ORIGIN).ifPresent(origin -> {
+            final Map<String, String> corsHeaders = cache.responseHeadersFor(origin, () -> corsHeaders(fromString(origin)));
+            if (!corsHeaders.isEmpty()) {
+                final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+                responseHeaders.putAll(corsHeaders);
             }
+        });
+    }
 
-            // 3
-            final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
-            responseHeaders.put(ACCESS_CONTROL_ALLOW_ORIGIN, origin.internalValueForMapping());
-            if (resourceSharingPolicy.supportsCredentials()) {
-                responseHeaders.put(ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
-            }
+    private Map<String, String> corsHeaders(final Origin origin) {
+        final Map<String, String> responseHeaders = new HashMap<>();
+        // 2
+        if(!resourceSharingPolicy.validateOrigin(origin)) {
+            return responseHeaders;
+        }
 
-            // 4
-            resourceSharingPolicy.exposedHeaders().generateHeaderValue()
-                    .ifPresent(value -> responseHeaders.put(ACCESS_CONTROL_EXPOSE_HEADERS, value));
-        });
+        // 3
+        responseHeaders.put(ACCESS_CONTROL_ALLOW_ORIGIN, origin.internalValueForMapping());
+        if (resourceSharingPolicy.supportsCredentials()) {
+            responseHeaders.put(ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        }
+
+        // 4
+        resourceSharingPolicy.exposedHeaders().generateHeaderValue()
+                .ifPresent(value -> responseHeaders.put(ACCESS_CONTROL_EXPOSE_HEADERS, value));
+        return responseHeaders;
     }
 }
@@ -45,7 +45,7 @@ public final class RequestedHeader {
 
     public static RequestedHeader requestedHeader(final String name) {
         validateNotNullNorEmpty(name, "name");
-        final String normalized = name.toLowerCase();
+        final String normalized = name.trim().toLowerCase();
         return new RequestedHeader(normalized);
     }
 
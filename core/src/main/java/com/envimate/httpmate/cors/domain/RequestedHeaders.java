@@ -29,6 +29,7 @@ import lombok.ToString;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_HEADERS;
 import static com.envimate.httpmate.cors.Cors.ACCESS_CONTROL_REQUEST_HEADERS;
@@ -51,12 +52,26 @@ public final class RequestedHeaders {
         final String commaSeparatedHeaders = metaData.get(REQUEST_HEADERS)
                 .getOptionalHeader(ACCESS_CONTROL_REQUEST_HEADERS).orElse("");
         validateNotNullNorEmpty(commaSeparatedHeaders, "commaSeparatedHeaders");
-        final List<RequestedHeader> headers = stream(commaSeparatedHeaders.split(","))
+        final List<RequestedHeader> headers = normalizedNames(commaSeparatedHeaders)
                 .map(RequestedHeader::requestedHeader)
                 .collect(toList());
         return new RequestedHeaders(headers);
     }
 
+    public static String normalize(final String commaSeparatedHeaders) {
+        validateNotNull(commaSeparatedHeaders, "commaSeparatedHeaders");
+        return normalizedNames(commaSeparatedHeaders).collect(joining(","));
+    }
+
+    private static Stream<String> normalizedNames(final String commaSeparatedHeaders) {
+        return stream(commaSeparatedHeaders.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(String::toLowerCase)
+                .sorted()
+                .distinct();
+    }
+
     public Optional<String> generateHeaderValue() {
         if(hasOnlySimpleHeaders()) {
             return empty();
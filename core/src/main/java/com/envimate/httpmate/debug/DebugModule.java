@@ -25,6 +25,7 @@ import com.envimate.httpmate.chains.ChainExtender;
 import com.envimate.httpmate.chains.ChainModule;
 import com.envimate.httpmate.chains.ChainName;
 import com.envimate.httpmate.chains.ChainRegistry;
+import com.envimate.httpmate.chains.MetaDataPool;
 import com.envimate.httpmate.path.PathTemplate;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -43,6 +44,7 @@ import static com.envimate.httpmate.chains.ChainRegistry.CHAIN_REGISTRY;
 import static com.envimate.httpmate.chains.rules.Drop.drop;
 import static com.envimate.httpmate.chains.rules.Jump.jumpTo;
 import static com.envimate.httpmate.http.Http.StatusCodes.OK;
+import static com.envimate.httpmate.pooling.PoolingModule.METADATA_POOL;
 import static com.envimate.httpmate.path.PathTemplate.pathTemplate;
 
 @ToString
@@ -59,6 +61,7 @@ public final class DebugModule implements ChainModule {
     @Override
     public void register(final ChainExtender extender) {
         final ChainRegistry registry = extender.getMetaDatum(CHAIN_REGISTRY);
+        extender.getOptionalMetaDatum(METADATA_POOL).ifPresent(MetaDataPool::enableLeakDetection);
         extender.createChain(DEBUG_CHAIN, jumpTo(POST_PROCESS), drop());
         extender.appendProcessor(DEBUG_CHAIN, metaData -> {
             final String dump = registry.dump();
@@ -23,11 +23,13 @@ package com.envimate.httpmate.exceptions;
 
 import com.envimate.httpmate.chains.MetaData;
 import com.envimate.httpmate.filtermap.FilterMap;
+import com.envimate.httpmate.jfr.ExceptionMappingEvent;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import static com.envimate.httpmate.jfr.ExceptionMappingEvent.exceptionMappingEvent;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @ToString
@@ -45,6 +47,11 @@ public final class ExceptionSerializer {
     public void serializeException(final Throwable throwable, final MetaData metaData) {
         validateNotNull(throwable, "throwable");
         final ExceptionMapper<Throwable> mapper = exceptionMappers.get(throwable);
-        mapper.map(throwable, metaData);
+        final ExceptionMappingEvent event = exceptionMappingEvent();
+        try {
+            mapper.map(throwable, metaData);
+        } finally {
+            event.complete(throwable, mapper);
+        }
     }
 }
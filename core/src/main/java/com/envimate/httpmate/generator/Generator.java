@@ -51,6 +51,14 @@ public final class Generator<T> {
         return condition.isSubsetOf(other.condition);
     }
 
+    T value() {
+        return value;
+    }
+
+    GenerationCondition condition() {
+        return condition;
+    }
+
     Optional<T> generate(final MetaData metaData) {
         if(condition.generate(metaData)) {
             return of(value);
@@ -30,19 +30,27 @@ import lombok.ToString;
 import java.util.List;
 import java.util.Optional;
 
+import static com.envimate.httpmate.generator.LinearGeneratorLookup.linearGeneratorLookup;
 import static com.envimate.httpmate.generator.OverlappingConditionsException.overlappingConditionsException;
+import static com.envimate.httpmate.generator.RouteTrieGeneratorLookup.routeTrieGeneratorLookup;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Generators<T> {
-    private final List<Generator<T>> generators;
+    private final GeneratorLookup<T> lookup;
 
     public static <T> Generators<T> generators(final List<Generator<T>> generators) {
         validateNotNull(generators, "generators");
         validateForConflicts(generators);
-        return new Generators<>(generators);
+        return new Generators<>(linearGeneratorLookup(generators));
+    }
+
+    public static <T> Generators<T> compiledGenerators(final List<Generator<T>> generators) {
+        validateNotNull(generators, "generators");
+        validateForConflicts(generators);
+        return new Generators<>(routeTrieGeneratorLookup(generators));
     }
 
     private static <T> void validateForConflicts(final List<Generator<T>> generators) {
@@ -58,10 +66,6 @@ public final class Generators<T> {
     }
 
     public Optional<T> generate(final MetaData metaData) {
-        return generators.stream()
-                .map(generator -> generator.generate(metaData))
-                .filter(Optional::isPresent)
-                .map(Optional::orElseThrow)
-                .findFirst();
+        return lookup.generate(metaData);
     }
 }
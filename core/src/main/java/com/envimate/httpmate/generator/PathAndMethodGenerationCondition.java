@@ -70,13 +70,26 @@ public final class PathAndMethodGenerationCondition implements GenerationConditi
         return equals(other);
     }
 
+    PathTemplate pathTemplate() {
+        return pathTemplate;
+    }
+
+    boolean appliesTo(final HttpRequestMethod method) {
+        for (final HttpRequestMethod candidate : methods) {
+            if (candidate.equals(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean generate(final MetaData metaData) {
         if(!metaData.contains(METHOD)) {
             return false;
         }
         final HttpRequestMethod method = metaData.get(METHOD);
-        if (stream(methods).noneMatch(method::equals)) {
+        if (!appliesTo(method)) {
             return false;
         }
         if(!metaData.contains(PATH)) {
@@ -89,6 +102,7 @@ public final class PathAndMethodGenerationCondition implements GenerationConditi
 
         final Map<String, String> pathParameters = pathTemplate.extractPathParameters(path);
         metaData.set(PATH_PARAMETERS, pathParameters(pathParameters));
+        metaData.set(PATH_TEMPLATE, pathTemplate);
         return true;
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.generator;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.HttpRequestMethod;
+import com.envimate.httpmate.path.Path;
+import com.envimate.httpmate.path.PathTemplateMatch;
+import com.envimate.httpmate.path.PathTemplateTrie;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.http.PathParameters.pathParameters;
+import static com.envimate.httpmate.path.PathTemplateTrie.pathTemplateTrie;
+import static java.util.Optional.empty;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class RouteTrieGeneratorLookup<T> implements GeneratorLookup<T> {
+    private final PathTemplateTrie<Generator<T>> routes;
+    private final List<Generator<T>> fallbackGenerators;
+    private final List<Integer> fallbackPriorities;
+
+    static <T> GeneratorLookup<T> routeTrieGeneratorLookup(final List<Generator<T>> generators) {
+        final PathTemplateTrie<Generator<T>> routes = pathTemplateTrie();
+        final List<Generator<T>> fallbackGenerators = new ArrayList<>();
+        final List<Integer> fallbackPriorities = new ArrayList<>();
+        int priority = 0;
+        for (final Generator<T> generator : generators) {
+            final GenerationCondition condition = generator.condition();
+            if (condition instanceof PathAndMethodGenerationCondition) {
+                final PathAndMethodGenerationCondition pathAndMethodCondition = (PathAndMethodGenerationCondition) condition;
+                routes.insert(pathAndMethodCondition.pathTemplate(), priority, generator);
+            } else {
+                fallbackGenerators.add(generator);
+                fallbackPriorities.add(priority);
+            }
+            ++priority;
+        }
+        return new RouteTrieGeneratorLookup<>(routes, fallbackGenerators, fallbackPriorities);
+    }
+
+    @Override
+    public Optional<T> generate(final MetaData metaData) {
+        final Optional<PathTemplateMatch<Generator<T>>> route = matchRoute(metaData);
+        final int routePriority = route.map(PathTemplateMatch::priority).orElse(Integer.MAX_VALUE);
+        for (int i = 0; i < fallbackGenerators.size() && fallbackPriorities.get(i) < routePriority; ++i) {
+            final Optional<T> generated = fallbackGenerators.get(i).generate(metaData);
+            if (generated.isPresent()) {
+                return generated;
+            }
+        }
+        return route.map(match -> {
+            final Generator<T> generator = match.value();
+            metaData.set(PATH_PARAMETERS, pathParameters(match.pathParameters()));
+            metaData.set(PATH_TEMPLATE, ((PathAndMethodGenerationCondition) generator.condition()).pathTemplate());
+            return generator.value();
+        });
+    }
+
+    private Optional<PathTemplateMatch<Generator<T>>> matchRoute(final MetaData metaData) {
+        final Optional<HttpRequestMethod> method = metaData.getOptional(METHOD);
+        final Optional<Path> path = metaData.getOptional(PATH);
+        if (method.isEmpty() || path.isEmpty()) {
+            return empty();
+        }
+        final HttpRequestMethod requestMethod = method.get();
+        return routes.match(path.get(), generator ->
+                ((PathAndMethodGenerationCondition) generator.condition()).appliesTo(requestMethod));
+    }
+}
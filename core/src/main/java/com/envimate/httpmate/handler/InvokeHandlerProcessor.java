@@ -23,6 +23,7 @@ package com.envimate.httpmate.handler;
 
 import com.envimate.httpmate.chains.MetaData;
 import com.envimate.httpmate.chains.Processor;
+import com.envimate.httpmate.jfr.HandlerEvent;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ import lombok.ToString;
 
 import static com.envimate.httpmate.HttpMateChainKeys.HANDLER;
 import static com.envimate.httpmate.handler.NoHandlerFoundException.noHandlerFoundException;
+import static com.envimate.httpmate.jfr.HandlerEvent.handlerEvent;
 
 @ToString
 @EqualsAndHashCode
@@ -44,6 +46,11 @@ public final class InvokeHandlerProcessor implements Processor {
     public void apply(final MetaData metaData) {
         final Handler handler = metaData.getOptional(HANDLER)
                 .orElseThrow(() -> noHandlerFoundException(metaData));
-        handler.handle(metaData);
+        final HandlerEvent event = handlerEvent();
+        try {
+            handler.handle(metaData);
+        } finally {
+            event.complete(handler, metaData);
+        }
     }
 }
@@ -23,9 +23,11 @@ package com.envimate.httpmate.handler.http;
 
 import com.envimate.httpmate.chains.MetaData;
 import com.envimate.httpmate.handler.http.files.MultiformatPath;
+import com.envimate.httpmate.http.body.ResponseBodyWriter;
 import com.envimate.httpmate.http.headers.ContentType;
 import com.envimate.httpmate.http.headers.cookies.CookieBuilder;
 import com.envimate.httpmate.path.Path;
+import com.envimate.httpmate.resources.JavaResourceCache;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -33,16 +35,21 @@ import lombok.ToString;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.envimate.httpmate.HttpMateChainKeys.*;
-import static com.envimate.httpmate.handler.http.files.FileLoader.loadFile;
 import static com.envimate.httpmate.handler.http.files.FileLoader.loadJavaResource;
 import static com.envimate.httpmate.handler.http.files.MultiformatPath.multiformatPath;
+import static com.envimate.httpmate.handler.http.files.StaticFiles.serveFile;
 import static com.envimate.httpmate.http.Http.Headers.*;
 import static com.envimate.httpmate.http.Http.StatusCodes.FOUND;
 import static com.envimate.httpmate.http.headers.ContentType.fromString;
 import static com.envimate.httpmate.http.headers.cookies.CookieBuilder.cookie;
+import static com.envimate.httpmate.resources.ResourceCacheModule.JAVA_RESOURCE_CACHE;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static com.envimate.httpmate.util.Validators.validateNotNullNorEmpty;
 import static java.lang.String.format;
@@ -63,9 +70,26 @@ public final class HttpResponse {
         metaData.get(RESPONSE_HEADERS).put(key, value);
     }
 
+    public void appendHeader(final String key, final String value) {
+        validateNotNull(key, "key");
+        validateNotNull(value, "value");
+        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+        if (!responseHeaders.containsKey(key)) {
+            responseHeaders.put(key, value);
+            return;
+        }
+        final Map<String, List<String>> additionalHeaders = metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS)
+                .orElseGet(() -> {
+                    final Map<String, List<String>> headers = new LinkedHashMap<>();
+                    metaData.set(ADDITIONAL_RESPONSE_HEADERS, headers);
+                    return headers;
+                });
+        additionalHeaders.computeIfAbsent(key, ignored -> new ArrayList<>(1)).add(value);
+    }
+
     public void setCookie(final CookieBuilder cookie) {
         validateNotNull(cookie, "cookie");
-        addHeader(SET_COOKIE, cookie.build());
+        appendHeader(SET_COOKIE, cookie.build());
     }
 
     public void setCookie(final String name, final String value) {
@@ -116,6 +140,11 @@ public final class HttpResponse {
         metaData.set(RESPONSE_STREAM, inputStream);
     }
 
+    public void setBody(final ResponseBodyWriter responseBodyWriter) {
+        validateNotNull(responseBodyWriter, "responseBodyWriter");
+        metaData.set(RESPONSE_BODY_WRITER, responseBodyWriter);
+    }
+
     public void setFileAsBody(final String path) {
         validateNotNullNorEmpty(path, "path");
         final File file = new File(path);
@@ -124,13 +153,17 @@ public final class HttpResponse {
 
     public void setFileAsBody(final File file) {
         validateNotNull(file, "file");
-        final InputStream stream = loadFile(file);
-        setBody(stream);
+        serveFile(file.toPath(), metaData);
     }
 
     public void setJavaResourceAsBody(final String path) {
         validateNotNullNorEmpty(path, "path");
         final MultiformatPath multiformatPath = multiformatPath(path);
+        final Optional<JavaResourceCache> cache = metaData.getOptional(JAVA_RESOURCE_CACHE);
+        if (cache.isPresent()) {
+            cache.get().serve(multiformatPath, metaData);
+            return;
+        }
         final InputStream stream = loadJavaResource(multiformatPath);
         setBody(stream);
     }
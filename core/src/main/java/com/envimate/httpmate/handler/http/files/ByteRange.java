@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.handler.http.files;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Optional;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ByteRange {
+    private static final String BYTES_UNIT = "bytes=";
+    private static final ByteRange UNSATISFIABLE = new ByteRange(-1, 0);
+
+    private final long offset;
+    private final long length;
+
+    static Optional<ByteRange> byteRange(final String header, final long size) {
+        final String trimmed = header.trim();
+        if (!trimmed.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return empty();
+        }
+        final String specification = trimmed.substring(BYTES_UNIT.length());
+        final int dash = specification.indexOf('-');
+        if (dash < 0 || specification.indexOf(',') >= 0) {
+            return empty();
+        }
+        final String first = specification.substring(0, dash).trim();
+        final String last = specification.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                final long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0 || size == 0) {
+                    return of(UNSATISFIABLE);
+                }
+                final long length = Math.min(suffixLength, size);
+                return of(new ByteRange(size - length, length));
+            }
+            final long start = Long.parseLong(first);
+            if (start >= size) {
+                return of(UNSATISFIABLE);
+            }
+            final long end;
+            if (last.isEmpty()) {
+                end = size - 1;
+            } else {
+                end = Math.min(Long.parseLong(last), size - 1);
+            }
+            if (end < start) {
+                return empty();
+            }
+            return of(new ByteRange(start, end - start + 1));
+        } catch (final NumberFormatException e) {
+            return empty();
+        }
+    }
+
+    boolean isSatisfiable() {
+        return offset >= 0;
+    }
+
+    long offset() {
+        return offset;
+    }
+
+    long length() {
+        return length;
+    }
+
+    String contentRange(final long size) {
+        if (!isSatisfiable()) {
+            return "bytes */" + size;
+        }
+        return "bytes " + offset + "-" + (offset + length - 1) + "/" + size;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.handler.http.files;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static com.envimate.httpmate.handler.http.files.FileDoesNotExistException.filesystemFileDoesNotExistException;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.lang.Long.toHexString;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class FileMetadata {
+    private static final DateTimeFormatter HTTP_DATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+    private static final long MILLISECONDS_PER_SECOND = 1000;
+
+    private final long size;
+    private final long lastModifiedMillis;
+    private final String etag;
+    private final String lastModified;
+
+    static FileMetadata fileMetadataOf(final Path file) {
+        validateNotNull(file, "file");
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (final IOException e) {
+            throw filesystemFileDoesNotExistException(file.toString(), e);
+        }
+        if (!attributes.isRegularFile()) {
+            throw filesystemFileDoesNotExistException(file.toString(), null);
+        }
+        return fileMetadata(attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    static FileMetadata fileMetadata(final long size, final long lastModifiedMillis) {
+        final String etag = "\"" + toHexString(lastModifiedMillis) + "-" + toHexString(size) + "\"";
+        final String lastModified = HTTP_DATE.format(Instant.ofEpochMilli(lastModifiedMillis));
+        return new FileMetadata(size, lastModifiedMillis, etag, lastModified);
+    }
+
+    long size() {
+        return size;
+    }
+
+    long lastModifiedSeconds() {
+        return lastModifiedMillis / MILLISECONDS_PER_SECOND;
+    }
+
+    String etag() {
+        return etag;
+    }
+
+    String lastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.handler.http.files;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.Headers;
+import com.envimate.httpmate.http.HttpRequestMethod;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.handler.http.files.ByteRange.byteRange;
+import static com.envimate.httpmate.handler.http.files.FileMetadata.fileMetadataOf;
+import static com.envimate.httpmate.http.Http.Headers.*;
+import static com.envimate.httpmate.http.Http.StatusCodes.*;
+import static com.envimate.httpmate.http.HttpRequestMethod.GET;
+import static com.envimate.httpmate.http.HttpRequestMethod.HEAD;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.emptyResponseBody;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.fileResponseBody;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+public final class StaticFiles {
+    private static final String BYTES = "bytes";
+    private static final String ANY_ETAG = "*";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private StaticFiles() {
+    }
+
+    public static void serveFile(final Path file, final MetaData metaData) {
+        validateNotNull(file, "file");
+        validateNotNull(metaData, "metaData");
+        final FileMetadata fileMetadata = fileMetadataOf(file);
+        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+        responseHeaders.put(ETAG, fileMetadata.etag());
+        responseHeaders.put(LAST_MODIFIED, fileMetadata.lastModified());
+        responseHeaders.put(ACCEPT_RANGES, BYTES);
+
+        final Optional<HttpRequestMethod> method = metaData.getOptional(METHOD);
+        final Headers requestHeaders = metaData.getOptional(REQUEST_HEADERS).orElse(null);
+        if (requestHeaders == null) {
+            metaData.set(RESPONSE_BODY_WRITER, fileResponseBody(file, 0, fileMetadata.size()));
+            return;
+        }
+        final boolean isGet = method.map(GET::equals).orElse(false);
+        final boolean isHead = method.map(HEAD::equals).orElse(false);
+        if ((isGet || isHead) && isNotModified(requestHeaders, fileMetadata)) {
+            metaData.set(RESPONSE_STATUS, NOT_MODIFIED);
+            metaData.set(RESPONSE_BODY_WRITER, emptyResponseBody());
+            return;
+        }
+        final long size = fileMetadata.size();
+        final Optional<ByteRange> range = requestHeaders.getOptionalHeader(RANGE)
+                .filter(ignored -> isGet)
+                .filter(ignored -> ifRangeMatches(requestHeaders, fileMetadata))
+                .flatMap(header -> byteRange(header, size));
+        if (range.isEmpty()) {
+            metaData.set(RESPONSE_BODY_WRITER, fileResponseBody(file, 0, size));
+            return;
+        }
+        final ByteRange byteRange = range.get();
+        responseHeaders.put(CONTENT_RANGE, byteRange.contentRange(size));
+        if (!byteRange.isSatisfiable()) {
+            metaData.set(RESPONSE_STATUS, RANGE_NOT_SATISFIABLE);
+            metaData.set(RESPONSE_BODY_WRITER, emptyResponseBody());
+            return;
+        }
+        metaData.set(RESPONSE_STATUS, PARTIAL_CONTENT);
+        metaData.set(RESPONSE_BODY_WRITER, fileResponseBody(file, byteRange.offset(), byteRange.length()));
+    }
+
+    private static boolean isNotModified(final Headers requestHeaders, final FileMetadata fileMetadata) {
+        final Optional<String> ifNoneMatch = requestHeaders.getOptionalHeader(IF_NONE_MATCH);
+        if (ifNoneMatch.isPresent()) {
+            final String etag = fileMetadata.etag();
+            for (final String candidate : ifNoneMatch.get().split(",")) {
+                final String trimmed = candidate.trim();
+                if (trimmed.equals(ANY_ETAG) || withoutWeakPrefix(trimmed).equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return requestHeaders.getOptionalHeader(IF_MODIFIED_SINCE)
+                .flatMap(StaticFiles::parseHttpDate)
+                .map(ifModifiedSince -> fileMetadata.lastModifiedSeconds() <= ifModifiedSince.getEpochSecond())
+                .orElse(false);
+    }
+
+    private static boolean ifRangeMatches(final Headers requestHeaders, final FileMetadata fileMetadata) {
+        return requestHeaders.getOptionalHeader(IF_RANGE)
+                .map(String::trim)
+                .map(ifRange -> ifRange.equals(fileMetadata.etag()) || ifRange.equals(fileMetadata.lastModified()))
+                .orElse(true);
+    }
+
+    private static String withoutWeakPrefix(final String etag) {
+        if (etag.startsWith(WEAK_ETAG_PREFIX)) {
+            return etag.substring(WEAK_ETAG_PREFIX.length());
+        }
+        return etag;
+    }
+
+    private static Optional<Instant> parseHttpDate(final String value) {
+        try {
+            return Optional.of(Instant.from(RFC_1123_DATE_TIME.parse(value.trim())));
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -26,31 +26,72 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.BiConsumer;
 
-import static com.envimate.httpmate.http.HeaderKey.headerKey;
-import static com.envimate.httpmate.util.Maps.*;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static com.envimate.httpmate.util.Validators.validateNotNullNorEmpty;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Headers {
-    private final Map<HeaderKey, HeaderValue> headers;
+    private static final String VALUE_SEPARATOR = ", ";
+    private static final int NOT_FOUND = -1;
+
+    private final String[] names;
+    private final String[] values;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final int[] hashes;
 
     public static Headers headers(final Map<String, List<String>> stringMap) {
         validateNotNull(stringMap, "stringMap");
-        final Map<HeaderKey, HeaderValue> headers = transformMap(stringMap, HeaderKey::headerKey, HeaderValue::headerValue);
-        return new Headers(headers);
+        int size = 0;
+        for (final List<String> values : stringMap.values()) {
+            validateNotNull(values, "values");
+            size += Math.max(1, values.size());
+        }
+        final String[] names = new String[size];
+        final String[] values = new String[size];
+        final int[] hashes = new int[size];
+        int index = 0;
+        for (final Map.Entry<String, List<String>> entry : stringMap.entrySet()) {
+            final String name = entry.getKey();
+            validateNotNullNorEmpty(name, "name");
+            final int hash = caseInsensitiveHash(name);
+            final List<String> headerValues = entry.getValue().isEmpty() ? singletonList("") : entry.getValue();
+            for (final String value : headerValues) {
+                names[index] = name;
+                values[index] = value;
+                hashes[index] = hash;
+                ++index;
+            }
+        }
+        return new Headers(names, values, hashes);
     }
 
     public Optional<String> getOptionalHeader(final String key) {
-        final HeaderKey headerKey = headerKey(key);
-        return getOptionally(headers, headerKey)
-                .map(HeaderValue::stringValue);
+        validateNotNull(key, "key");
+        final int hash = caseInsensitiveHash(key);
+        final int first = indexOf(key, hash, 0);
+        if (first == NOT_FOUND) {
+            return empty();
+        }
+        final int second = indexOf(key, hash, first + 1);
+        if (second == NOT_FOUND) {
+            return of(values[first]);
+        }
+        final StringJoiner joiner = new StringJoiner(VALUE_SEPARATOR);
+        for (int index = first; index != NOT_FOUND; index = indexOf(key, hash, index + 1)) {
+            joiner.add(values[index]);
+        }
+        return of(joiner.toString());
     }
 
     public String getHeader(final String key) {
@@ -58,7 +99,54 @@ public final class Headers {
                 .orElseThrow(() -> new IllegalArgumentException(format("No header with name %s", key)));
     }
 
+    public List<String> getHeaderValues(final String key) {
+        validateNotNull(key, "key");
+        final int hash = caseInsensitiveHash(key);
+        final int first = indexOf(key, hash, 0);
+        if (first == NOT_FOUND) {
+            return emptyList();
+        }
+        final List<String> headerValues = new ArrayList<>(1);
+        for (int index = first; index != NOT_FOUND; index = indexOf(key, hash, index + 1)) {
+            headerValues.add(values[index]);
+        }
+        return headerValues;
+    }
+
+    public boolean contains(final String key) {
+        validateNotNull(key, "key");
+        return indexOf(key, caseInsensitiveHash(key), 0) != NOT_FOUND;
+    }
+
+    public void forEach(final BiConsumer<String, String> consumer) {
+        validateNotNull(consumer, "consumer");
+        for (int index = 0; index < names.length; ++index) {
+            consumer.accept(names[index], values[index]);
+        }
+    }
+
     public Map<String, String> asStringMap() {
-        return valueObjectsToStrings(headers, HeaderKey::stringValue, HeaderValue::stringValue);
+        final Map<String, String> map = new HashMap<>(names.length * 2);
+        for (int index = 0; index < names.length; ++index) {
+            map.merge(names[index].toLowerCase(), values[index], (first, second) -> first + VALUE_SEPARATOR + second);
+        }
+        return map;
+    }
+
+    private int indexOf(final String key, final int hash, final int start) {
+        for (int index = start; index < names.length; ++index) {
+            if (hashes[index] == hash && names[index].equalsIgnoreCase(key)) {
+                return index;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static int caseInsensitiveHash(final String name) {
+        int hash = 0;
+        for (int index = 0; index < name.length(); ++index) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(index)));
+        }
+        return hash;
     }
 }
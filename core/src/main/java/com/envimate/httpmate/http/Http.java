@@ -28,12 +28,14 @@ public final class Http {
 
     public static final class StatusCodes {
         public static final int OK = 200;
+        public static final int NO_CONTENT = 204;
+        public static final int PARTIAL_CONTENT = 206;
 
         public static final int MULTIPLE_CHOICE = 300;
         public static final int MOVED_PERMANENTLY = 301;
         public static final int FOUND = 302;
         public static final int SEE_OTHER = 303;
-        public static final int NOT_MODIFIED = 303;
+        public static final int NOT_MODIFIED = 304;
         public static final int TEMPORARY_REDIRECT = 307;
         public static final int PERMANENT_REDIRECT = 308;
 
@@ -42,6 +44,7 @@ public final class Http {
         public static final int FORBIDDEN = 403;
         public static final int NOT_FOUND = 404;
         public static final int METHOD_NOT_ALLOWED = 405;
+        public static final int RANGE_NOT_SATISFIABLE = 416;
 
         public static final int INTERNAL_SERVER_ERROR = 500;
     }
@@ -55,6 +58,17 @@ public final class Http {
         public static final String COOKIE = "Cookie";
         public static final String SET_COOKIE = "Set-Cookie";
         public static final String LOCATION = "Location";
+        public static final String ETAG = "ETag";
+        public static final String LAST_MODIFIED = "Last-Modified";
+        public static final String IF_NONE_MATCH = "If-None-Match";
+        public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+        public static final String RANGE = "Range";
+        public static final String IF_RANGE = "If-Range";
+        public static final String ACCEPT_RANGES = "Accept-Ranges";
+        public static final String CONTENT_RANGE = "Content-Range";
+        public static final String ACCEPT_ENCODING = "Accept-Encoding";
+        public static final String CONTENT_ENCODING = "Content-Encoding";
+        public static final String VARY = "Vary";
     }
 
     public static final class Methods {
@@ -63,5 +77,6 @@ public final class Http {
         public static final String PUT = "PUT";
         public static final String DELETE = "DELETE";
         public static final String OPTIONS = "OPTIONS";
+        public static final String HEAD = "HEAD";
     }
 }
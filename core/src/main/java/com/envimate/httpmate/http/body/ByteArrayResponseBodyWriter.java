@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.http.body;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.OptionalLong;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ByteArrayResponseBodyWriter implements ResponseBodyWriter {
+    private final byte[] bytes;
+
+    static ResponseBodyWriter byteArrayResponseBodyWriter(final byte[] bytes) {
+        validateNotNull(bytes, "bytes");
+        return new ByteArrayResponseBodyWriter(bytes);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        outputStream.write(bytes);
+    }
+
+    @Override
+    public OptionalLong contentLength() {
+        return OptionalLong.of(bytes.length);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.http.body;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FileResponseBodyWriter implements ResponseBodyWriter {
+    private final Path file;
+    private final long offset;
+    private final long length;
+
+    static ResponseBodyWriter fileResponseBodyWriter(final Path file, final long offset, final long length) {
+        validateNotNull(file, "file");
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative but was " + offset);
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative but was " + length);
+        }
+        return new FileResponseBodyWriter(file, offset, length);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        final WritableByteChannel target = Channels.newChannel(outputStream);
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                final long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    throw new IOException("File " + file + " ended before " + length + " bytes could be sent");
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    public boolean isMappable() {
+        return length <= Integer.MAX_VALUE;
+    }
+
+    public MappedByteBuffer map() throws IOException {
+        final FileChannel channel = FileChannel.open(file, READ);
+        try {
+            return channel.map(READ_ONLY, offset, length);
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Override
+    public OptionalLong contentLength() {
+        return OptionalLong.of(length);
+    }
+}
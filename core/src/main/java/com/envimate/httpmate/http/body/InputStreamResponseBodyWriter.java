@@ -19,30 +19,34 @@
  * under the License.
  */
 
-package com.envimate.httpmate.multipart.internal;
+package com.envimate.httpmate.http.body;
 
-import org.apache.commons.fileupload.FileItemIterator;
-import org.apache.commons.fileupload.FileUploadException;
-import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
-import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
-import static com.envimate.httpmate.multipart.internal.MockHttpServletRequest.mockHttpServletRequest;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 
-public final class FileUpload {
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class InputStreamResponseBodyWriter implements ResponseBodyWriter {
+    private final InputStream inputStream;
 
-    private FileUpload() {
+    static ResponseBodyWriter inputStreamResponseBodyWriter(final InputStream inputStream) {
+        validateNotNull(inputStream, "inputStream");
+        return new InputStreamResponseBodyWriter(inputStream);
     }
 
-    public static FileItemIterator parse(final InputStream body, final String contentType) {
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
         try {
-            final ServletFileUpload upload = new ServletFileUpload();
-            final HttpServletRequest request = mockHttpServletRequest(body, contentType);
-            return upload.getItemIterator(request);
-        } catch (final FileUploadException | IOException e) {
-            throw new RuntimeException(e);
+            inputStream.transferTo(outputStream);
+        } finally {
+            inputStream.close();
         }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.http.body;
+
+import com.envimate.httpmate.chains.MetaData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_BODY_WRITER;
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_STREAM;
+import static com.envimate.httpmate.http.body.ByteArrayResponseBodyWriter.byteArrayResponseBodyWriter;
+import static com.envimate.httpmate.http.body.FileResponseBodyWriter.fileResponseBodyWriter;
+import static com.envimate.httpmate.http.body.InputStreamResponseBodyWriter.inputStreamResponseBodyWriter;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public final class ResponseBodyWriters {
+    private static final byte[] EMPTY = new byte[0];
+
+    private ResponseBodyWriters() {
+    }
+
+    public static ResponseBodyWriter emptyResponseBody() {
+        return byteArrayResponseBodyWriter(EMPTY);
+    }
+
+    public static ResponseBodyWriter stringResponseBody(final String body) {
+        validateNotNull(body, "body");
+        return byteArrayResponseBodyWriter(body.getBytes(UTF_8));
+    }
+
+    public static ResponseBodyWriter bytesResponseBody(final byte[] body) {
+        validateNotNull(body, "body");
+        return byteArrayResponseBodyWriter(body);
+    }
+
+    public static ResponseBodyWriter inputStreamResponseBody(final InputStream body) {
+        validateNotNull(body, "body");
+        return inputStreamResponseBodyWriter(body);
+    }
+
+    public static ResponseBodyWriter fileResponseBody(final Path file, final long offset, final long length) {
+        return fileResponseBodyWriter(file, offset, length);
+    }
+
+    public static ResponseBodyWriter responseBodyWriterFrom(final MetaData metaData) {
+        validateNotNull(metaData, "metaData");
+        return metaData.getOptional(RESPONSE_BODY_WRITER)
+                .or(() -> metaData.getOptional(RESPONSE_STREAM).map(ResponseBodyWriters::inputStreamResponseBody))
+                .orElseGet(ResponseBodyWriters::emptyResponseBody);
+    }
+
+    public static void writeResponseBody(final ResponseBodyWriter writer,
+                                         final OutputStream outputStream) {
+        validateNotNull(writer, "writer");
+        validateNotNull(outputStream, "outputStream");
+        try {
+            writer.writeTo(outputStream);
+            if (writer.contentLength().isEmpty()) {
+                // committing before close keeps containers from turning a short stream into a sized response
+                outputStream.flush();
+            }
+            outputStream.close();
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static byte[] responseBodyAsBytes(final MetaData metaData) {
+        final ResponseBodyWriter writer = responseBodyWriterFrom(metaData);
+        final OptionalLong contentLength = writer.contentLength();
+        final int initialSize;
+        if (contentLength.isPresent()) {
+            initialSize = (int) contentLength.getAsLong();
+        } else {
+            initialSize = 32;
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(initialSize);
+        try {
+            writer.writeTo(outputStream);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    public static String responseBodyAsString(final MetaData metaData) {
+        return new String(responseBodyAsBytes(metaData), UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.envimate.httpmate.Chain")
+@Label("Chain")
+@Category("HttpMate")
+@Description("A pass through one HttpMate chain")
+@StackTrace(false)
+@Registered(false)
+public final class ChainEvent extends Event {
+    @Label("Chain")
+    private String chain;
+
+    private ChainEvent() {
+    }
+
+    public static ChainEvent chainEvent() {
+        final ChainEvent event = new ChainEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(final String chain) {
+        end();
+        if (shouldCommit()) {
+            this.chain = chain;
+            commit();
+        }
+    }
+}
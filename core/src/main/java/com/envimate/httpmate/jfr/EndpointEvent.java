@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.envimate.httpmate.Endpoint")
+@Label("Endpoint")
+@Category("HttpMate")
+@Description("Reading a request from or writing a response to the network")
+@StackTrace(false)
+@Registered(false)
+public final class EndpointEvent extends Event {
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Bytes")
+    private long bytes;
+
+    private EndpointEvent() {
+    }
+
+    public static EndpointEvent endpointEvent() {
+        final EndpointEvent event = new EndpointEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(final String endpoint, final String operation, final long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.endpoint = endpoint;
+            this.operation = operation;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jfr;
+
+import com.envimate.httpmate.chains.ChainExtender;
+import com.envimate.httpmate.chains.ChainModule;
+import com.envimate.httpmate.chains.DependencyRegistry;
+import com.envimate.httpmate.chains.MetaDataKey;
+import jdk.jfr.FlightRecorder;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FlightRecorderModule implements ChainModule {
+    public static final MetaDataKey<Boolean> FLIGHT_RECORDER_EVENTS = metaDataKey("FLIGHT_RECORDER_EVENTS");
+
+    public static ChainModule flightRecorderModule() {
+        return new FlightRecorderModule();
+    }
+
+    @Override
+    public void configure(final DependencyRegistry dependencyRegistry) {
+        FlightRecorder.register(ChainEvent.class);
+        FlightRecorder.register(ProcessorEvent.class);
+        FlightRecorder.register(HandlerEvent.class);
+        FlightRecorder.register(ExceptionMappingEvent.class);
+        FlightRecorder.register(EndpointEvent.class);
+        dependencyRegistry.setMetaDatum(FLIGHT_RECORDER_EVENTS, true);
+    }
+
+    @Override
+    public void register(final ChainExtender extender) {
+    }
+}
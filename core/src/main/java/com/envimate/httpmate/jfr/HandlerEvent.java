@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jfr;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.handler.Handler;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+import static com.envimate.httpmate.HttpMateChainKeys.RAW_METHOD;
+import static com.envimate.httpmate.HttpMateChainKeys.RAW_PATH;
+
+@Name("com.envimate.httpmate.Handler")
+@Label("Handler")
+@Category("HttpMate")
+@Description("The invocation of the handler of an HttpMate request")
+@StackTrace(false)
+@Registered(false)
+public final class HandlerEvent extends Event {
+    @Label("Method")
+    private String method;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Handler")
+    private String handler;
+
+    private HandlerEvent() {
+    }
+
+    public static HandlerEvent handlerEvent() {
+        final HandlerEvent event = new HandlerEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(final Handler handler, final MetaData metaData) {
+        end();
+        if (shouldCommit()) {
+            this.handler = handler.getClass().getName();
+            this.method = metaData.getOptional(RAW_METHOD).orElse(null);
+            this.path = metaData.getOptional(RAW_PATH).orElse(null);
+            commit();
+        }
+    }
+}
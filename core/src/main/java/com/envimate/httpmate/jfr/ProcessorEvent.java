@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.envimate.httpmate.Processor")
+@Label("Processor")
+@Category("HttpMate")
+@Description("The invocation of one processor registered in an HttpMate chain")
+@StackTrace(false)
+@Registered(false)
+public final class ProcessorEvent extends Event {
+    @Label("Chain")
+    private String chain;
+
+    @Label("Module")
+    private String module;
+
+    @Label("Processor")
+    private String processor;
+
+    private ProcessorEvent() {
+    }
+
+    public static ProcessorEvent processorEvent() {
+        final ProcessorEvent event = new ProcessorEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(final String chain, final String module, final String processor) {
+        end();
+        if (shouldCommit()) {
+            this.chain = chain;
+            this.module = module;
+            this.processor = processor;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.logger;
+
+import com.envimate.httpmate.closing.ClosingAction;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.envimate.httpmate.logger.LogRingBuffer.logRingBuffer;
+import static com.envimate.httpmate.logger.OverflowBehavior.DROP;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@ToString
+public final class AsynchronousLogger implements LoggerImplementation, ClosingAction {
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final String THREAD_NAME = "httpmate-logger";
+    private static final long IDLE_PARK_NANOS = MILLISECONDS.toNanos(100);
+    private static final long BLOCKED_PARK_NANOS = MICROSECONDS.toNanos(50);
+
+    private final LoggerImplementation delegate;
+    private final LogRingBuffer buffer;
+    private final OverflowBehavior overflowBehavior;
+    private final LongAdder dropped = new LongAdder();
+    @ToString.Exclude
+    private final Object consumer = new Object();
+    @ToString.Exclude
+    private final Thread drainer;
+    private volatile boolean idle;
+    private volatile boolean closed;
+
+    private AsynchronousLogger(final LoggerImplementation delegate,
+                               final LogRingBuffer buffer,
+                               final OverflowBehavior overflowBehavior) {
+        this.delegate = delegate;
+        this.buffer = buffer;
+        this.overflowBehavior = overflowBehavior;
+        this.drainer = new Thread(this::drain, THREAD_NAME);
+        this.drainer.setDaemon(true);
+    }
+
+    public static AsynchronousLogger asynchronousLogger(final LoggerImplementation delegate) {
+        return asynchronousLogger(delegate, DEFAULT_CAPACITY, DROP);
+    }
+
+    public static AsynchronousLogger asynchronousLogger(final LoggerImplementation delegate,
+                                                        final int capacity,
+                                                        final OverflowBehavior overflowBehavior) {
+        validateNotNull(delegate, "delegate");
+        validateNotNull(overflowBehavior, "overflowBehavior");
+        final AsynchronousLogger logger = new AsynchronousLogger(delegate, logRingBuffer(capacity), overflowBehavior);
+        logger.drainer.start();
+        return logger;
+    }
+
+    @Override
+    public void log(final LogMessage logMessage) {
+        validateNotNull(logMessage, "logMessage");
+        if (closed) {
+            deliverAfterClosing(logMessage);
+            return;
+        }
+        while (!buffer.offer(logMessage)) {
+            if (overflowBehavior == DROP) {
+                dropped.increment();
+                return;
+            }
+            if (closed) {
+                deliverAfterClosing(logMessage);
+                return;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+        }
+        if (closed) {
+            // the final drain may already have happened before the message was enqueued
+            drainExclusively();
+            return;
+        }
+        if (idle) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(drainer);
+        if (Thread.currentThread() != drainer) {
+            try {
+                drainer.join();
+            } catch (final InterruptedException e) {
+                // the drainer still delivers everything that is pending before it terminates
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        drainExclusively();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public int pending() {
+        return buffer.size();
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    public OverflowBehavior overflowBehavior() {
+        return overflowBehavior;
+    }
+
+    private void drain() {
+        while (true) {
+            drainExclusively();
+            if (closed) {
+                drainExclusively();
+                return;
+            }
+            idle = true;
+            if (buffer.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            idle = false;
+        }
+    }
+
+    private void deliverAfterClosing(final LogMessage message) {
+        synchronized (consumer) {
+            drainAvailable();
+            deliver(message);
+        }
+    }
+
+    private void drainExclusively() {
+        synchronized (consumer) {
+            drainAvailable();
+        }
+    }
+
+    private void drainAvailable() {
+        LogMessage message = buffer.poll();
+        while (message != null) {
+            deliver(message);
+            message = buffer.poll();
+        }
+    }
+
+    private void deliver(final LogMessage message) {
+        try {
+            delegate.log(message);
+        } catch (final RuntimeException e) {
+            dropped.increment();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.envimate.httpmate.CoreModule;
 import com.envimate.httpmate.chains.Configurator;
 
 import static com.envimate.httpmate.chains.Configurator.configuratorForType;
+import static com.envimate.httpmate.logger.AsynchronousLogger.asynchronousLogger;
 import static com.envimate.httpmate.logger.Loggers.*;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
@@ -50,6 +51,15 @@ public final class LoggerConfigurators {
         return toLogUsing(stdoutAndStderrLogger());
     }
 
+    public static Configurator toLogAsynchronouslyUsing(final LoggerImplementation logger) {
+        validateNotNull(logger, "logger");
+        return toLogUsing(asynchronousLogger(logger));
+    }
+
+    public static Configurator toLogAsynchronouslyToStdoutAndStderr() {
+        return toLogAsynchronouslyUsing(stdoutAndStderrLogger());
+    }
+
     public static Configurator toDropAllLogMessages() {
         return toLogUsing(noLogger());
     }
@@ -102,24 +102,22 @@ public final class MarshallingModule implements ChainModule {
     }
 
     private void processUnmarshalling(final MetaData metaData) {
-        metaData.getOptional(REQUEST_BODY_STRING).ifPresent(body -> {
-            final ContentType contentType = metaData.get(REQUEST_CONTENT_TYPE);
+        final ContentType contentType = metaData.get(REQUEST_CONTENT_TYPE);
 
-            final Unmarshaller unmarshaller;
-            if (contentType.isEmpty()) {
-                unmarshaller = unmarshallers.get(defaultContentType);
-            } else {
-                unmarshaller = unmarshallers.get(contentType);
-            }
+        final Unmarshaller unmarshaller;
+        if (contentType.isEmpty()) {
+            unmarshaller = unmarshallers.get(defaultContentType);
+        } else {
+            unmarshaller = unmarshallers.get(contentType);
+        }
 
-            if (isNull(unmarshaller)) {
-                failIfConfiguredToDoSo(() -> unsupportedContentTypeException(contentType, unmarshallers.keySet()));
-            } else {
-                final Map<String, Object> mapBody = ofNullable(unmarshaller.unmarshall(body))
-                        .orElseGet(HashMap::new);
-                metaData.set(REQUEST_BODY_MAP, mapBody);
-            }
-        });
+        if (isNull(unmarshaller)) {
+            failIfConfiguredToDoSo(() -> unsupportedContentTypeException(contentType, unmarshallers.keySet()));
+        } else {
+            metaData.setLazily(REQUEST_BODY_MAP, () -> metaData.getOptional(REQUEST_BODY_STRING)
+                    .map(body -> ofNullable(unmarshaller.unmarshall(body)).orElseGet(HashMap::new))
+                    .orElse(null));
+        }
     }
 
     private void processMarshalling(final MetaData metaData) {
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.metrics;
+
+import com.envimate.httpmate.path.PathTemplate;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Collections.unmodifiableList;
+
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HttpMetrics {
+    public static final String UNMATCHED_ROUTE = "unmatched";
+    public static final String OTHER_METHOD = "OTHER";
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS", "CONNECT", "TRACE"};
+
+    private volatile Map<PathTemplate, AtomicReferenceArray<RouteMetrics>> routes = new IdentityHashMap<>();
+    private final AtomicReferenceArray<RouteMetrics> unmatched = new AtomicReferenceArray<>(METHODS.length + 1);
+    private final List<RouteMetrics> allRouteMetrics = new CopyOnWriteArrayList<>();
+
+    public static HttpMetrics httpMetrics() {
+        return new HttpMetrics();
+    }
+
+    public RouteMetrics routeMetrics(final PathTemplate pathTemplate, final String method) {
+        validateNotNull(pathTemplate, "pathTemplate");
+        final int methodIndex = indexOf(method);
+        final AtomicReferenceArray<RouteMetrics> byMethod = routes.get(pathTemplate);
+        if (byMethod != null) {
+            final RouteMetrics metrics = byMethod.get(methodIndex);
+            if (metrics != null) {
+                return metrics;
+            }
+        }
+        return createRouteMetrics(pathTemplate, methodIndex);
+    }
+
+    public RouteMetrics unmatchedRouteMetrics(final String method) {
+        final int methodIndex = indexOf(method);
+        final RouteMetrics metrics = unmatched.get(methodIndex);
+        if (metrics != null) {
+            return metrics;
+        }
+        return createUnmatchedRouteMetrics(methodIndex);
+    }
+
+    public Optional<RouteMetrics> lookup(final String method, final String route) {
+        validateNotNull(method, "method");
+        validateNotNull(route, "route");
+        return allRouteMetrics.stream()
+                .filter(metrics -> metrics.method().equals(method) && metrics.route().equals(route))
+                .findFirst();
+    }
+
+    public List<RouteMetrics> allRouteMetrics() {
+        return unmodifiableList(allRouteMetrics);
+    }
+
+    private synchronized RouteMetrics createRouteMetrics(final PathTemplate pathTemplate, final int methodIndex) {
+        AtomicReferenceArray<RouteMetrics> byMethod = routes.get(pathTemplate);
+        if (byMethod == null) {
+            byMethod = new AtomicReferenceArray<>(METHODS.length + 1);
+            final Map<PathTemplate, AtomicReferenceArray<RouteMetrics>> copy = new IdentityHashMap<>(routes);
+            copy.put(pathTemplate, byMethod);
+            routes = copy;
+        }
+        return createIn(byMethod, methodIndex, pathTemplate.toString());
+    }
+
+    private synchronized RouteMetrics createUnmatchedRouteMetrics(final int methodIndex) {
+        return createIn(unmatched, methodIndex, UNMATCHED_ROUTE);
+    }
+
+    private RouteMetrics createIn(final AtomicReferenceArray<RouteMetrics> byMethod,
+                                  final int methodIndex,
+                                  final String route) {
+        final RouteMetrics existing = byMethod.get(methodIndex);
+        if (existing != null) {
+            return existing;
+        }
+        final RouteMetrics metrics = RouteMetrics.routeMetrics(methodName(methodIndex), route);
+        byMethod.set(methodIndex, metrics);
+        allRouteMetrics.add(metrics);
+        return metrics;
+    }
+
+    private static int indexOf(final String method) {
+        if (method != null) {
+            for (int index = 0; index < METHODS.length; ++index) {
+                if (METHODS[index].equalsIgnoreCase(method)) {
+                    return index;
+                }
+            }
+        }
+        return METHODS.length;
+    }
+
+    private static String methodName(final int methodIndex) {
+        if (methodIndex < METHODS.length) {
+            return METHODS[methodIndex];
+        }
+        return OTHER_METHOD;
+    }
+}
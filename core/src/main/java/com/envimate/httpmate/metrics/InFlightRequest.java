@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.metrics;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Optional;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Optional.ofNullable;
+
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class InFlightRequest {
+    private final long startNanos;
+    private RouteMetrics routeMetrics;
+
+    static InFlightRequest requestStartedNow() {
+        return new InFlightRequest(System.nanoTime());
+    }
+
+    void countIn(final RouteMetrics routeMetrics) {
+        validateNotNull(routeMetrics, "routeMetrics");
+        this.routeMetrics = routeMetrics;
+        routeMetrics.requestStarted();
+    }
+
+    Optional<RouteMetrics> countedIn() {
+        return ofNullable(routeMetrics);
+    }
+
+    long nanosSinceStart() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.metrics;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAXIMUM_EXPONENT = 42;
+    private static final int BUCKETS = (MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final long MAXIMUM_TRACKABLE_VALUE = (1L << (MAXIMUM_EXPONENT + 1)) - 1;
+
+    @ToString.Exclude
+    private final AtomicLongArray counts;
+    private final LongAdder sum;
+
+    public static LatencyHistogram latencyHistogram() {
+        return new LatencyHistogram(new AtomicLongArray(BUCKETS), new LongAdder());
+    }
+
+    public void record(final long nanos) {
+        final long value = Math.min(Math.max(nanos, 0), MAXIMUM_TRACKABLE_VALUE);
+        counts.incrementAndGet(bucketOf(value));
+        sum.add(value);
+    }
+
+    public long count() {
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    public long sumInNanos() {
+        return sum.sum();
+    }
+
+    public long countAtOrBelow(final long nanos) {
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS && upperBoundOf(bucket) <= nanos; ++bucket) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    public long valueAtQuantile(final double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1 but was " + quantile);
+        }
+        final long[] snapshot = snapshot();
+        long total = 0;
+        for (final long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+            seen += snapshot[bucket];
+            if (seen >= rank) {
+                return upperBoundOf(bucket);
+            }
+        }
+        return MAXIMUM_TRACKABLE_VALUE;
+    }
+
+    long[] snapshot() {
+        final long[] snapshot = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+            snapshot[bucket] = counts.get(bucket);
+        }
+        return snapshot;
+    }
+
+    static int buckets() {
+        return BUCKETS;
+    }
+
+    static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
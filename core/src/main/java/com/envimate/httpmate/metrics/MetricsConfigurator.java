@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.metrics;
+
+import com.envimate.httpmate.chains.ChainModule;
+import com.envimate.httpmate.chains.Configurator;
+import com.envimate.httpmate.chains.DependencyRegistry;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+import static com.envimate.httpmate.metrics.MetricsModule.DEFAULT_METRICS_PATH;
+import static com.envimate.httpmate.metrics.MetricsModule.metricsModule;
+import static com.envimate.httpmate.util.Validators.validateNotNullNorEmpty;
+import static java.util.Collections.singletonList;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsConfigurator implements Configurator {
+    private volatile String metricsPath = DEFAULT_METRICS_PATH;
+
+    static MetricsConfigurator metricsConfigurator() {
+        return new MetricsConfigurator();
+    }
+
+    public MetricsConfigurator exposingThemAt(final String metricsPath) {
+        validateNotNullNorEmpty(metricsPath, "metricsPath");
+        this.metricsPath = metricsPath;
+        return this;
+    }
+
+    @Override
+    public List<ChainModule> supplyModulesIfNotAlreadyPreset() {
+        return singletonList(metricsModule());
+    }
+
+    @Override
+    public void configure(final DependencyRegistry dependencyRegistry) {
+        final MetricsModule metricsModule = dependencyRegistry.getDependency(MetricsModule.class);
+        metricsModule.setMetricsPath(metricsPath);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.metrics;
+
+import com.envimate.httpmate.chains.ChainExtender;
+import com.envimate.httpmate.chains.ChainModule;
+import com.envimate.httpmate.chains.ChainName;
+import com.envimate.httpmate.chains.ChainRegistry;
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.MetaDataKey;
+import com.envimate.httpmate.http.Headers;
+import com.envimate.httpmate.path.PathTemplate;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.HttpMateChains.*;
+import static com.envimate.httpmate.MetricsProvider.PROVIDED_METRICS;
+import static com.envimate.httpmate.chains.ChainName.chainName;
+import static com.envimate.httpmate.chains.ChainRegistry.CHAIN_REGISTRY;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.chains.rules.Drop.drop;
+import static com.envimate.httpmate.chains.rules.Jump.jumpTo;
+import static com.envimate.httpmate.http.Http.Headers.CONTENT_LENGTH;
+import static com.envimate.httpmate.http.Http.Headers.CONTENT_TYPE;
+import static com.envimate.httpmate.http.Http.StatusCodes.OK;
+import static com.envimate.httpmate.metrics.HttpMetrics.httpMetrics;
+import static com.envimate.httpmate.metrics.InFlightRequest.requestStartedNow;
+import static com.envimate.httpmate.path.PathTemplate.pathTemplate;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsModule implements ChainModule {
+    public static final MetaDataKey<HttpMetrics> HTTP_METRICS = metaDataKey("HTTP_METRICS");
+    public static final String DEFAULT_METRICS_PATH = "/metrics";
+
+    private static final MetaDataKey<InFlightRequest> IN_FLIGHT_REQUEST = metaDataKey("IN_FLIGHT_REQUEST");
+    private static final ChainName METRICS_CHAIN = chainName("METRICS");
+
+    private volatile String metricsPath = DEFAULT_METRICS_PATH;
+
+    public static ChainModule metricsModule() {
+        return new MetricsModule();
+    }
+
+    public void setMetricsPath(final String metricsPath) {
+        validateNotNull(metricsPath, "metricsPath");
+        this.metricsPath = metricsPath;
+    }
+
+    @Override
+    public void register(final ChainExtender extender) {
+        final HttpMetrics metrics = httpMetrics();
+        final ChainRegistry registry = extender.getMetaDatum(CHAIN_REGISTRY);
+        extender.addMetaDatum(HTTP_METRICS, metrics);
+
+        extender.appendProcessor(INIT, metaData -> metaData.set(IN_FLIGHT_REQUEST, requestStartedNow()));
+        extender.appendProcessor(PREPARE_RESPONSE, metaData ->
+                metaData.get(IN_FLIGHT_REQUEST).countIn(routeMetricsOf(metrics, metaData)));
+        extender.appendProcessor(POST_PROCESS, metaData -> record(metrics, metaData));
+
+        final PathTemplate pathTemplate = pathTemplate(metricsPath);
+        extender.createChain(METRICS_CHAIN, jumpTo(POST_PROCESS), drop());
+        extender.appendProcessor(METRICS_CHAIN, metaData -> {
+            final Map<String, String> headers = new HashMap<>();
+            headers.put(CONTENT_TYPE, PrometheusFormat.CONTENT_TYPE);
+            metaData.set(PATH_TEMPLATE, pathTemplate);
+            metaData.set(RESPONSE_BODY_STRING, PrometheusFormat.render(metrics, providedGauges(registry)));
+            metaData.set(RESPONSE_STATUS, OK);
+            metaData.set(RESPONSE_HEADERS, headers);
+        });
+        extender.routeIf(PRE_PROCESS, jumpTo(METRICS_CHAIN), PATH, pathTemplate::matches, pathTemplate.toString());
+    }
+
+    private static void record(final HttpMetrics metrics, final MetaData metaData) {
+        final InFlightRequest inFlightRequest = metaData.get(IN_FLIGHT_REQUEST);
+        final Optional<RouteMetrics> countedRouteMetrics = inFlightRequest.countedIn();
+        countedRouteMetrics.ifPresent(RouteMetrics::requestFinished);
+        final RouteMetrics routeMetrics = countedRouteMetrics.orElseGet(() -> routeMetricsOf(metrics, metaData));
+        final int status = metaData.contains(RESPONSE_STATUS) ? metaData.get(RESPONSE_STATUS) : 0;
+        routeMetrics.record(status, inFlightRequest.nanosSinceStart(), requestBytes(metaData), responseBytes(metaData));
+    }
+
+    private static RouteMetrics routeMetricsOf(final HttpMetrics metrics, final MetaData metaData) {
+        final String method = metaData.contains(RAW_METHOD) ? metaData.get(RAW_METHOD) : null;
+        if (metaData.contains(PATH_TEMPLATE)) {
+            return metrics.routeMetrics(metaData.get(PATH_TEMPLATE), method);
+        }
+        return metrics.unmatchedRouteMetrics(method);
+    }
+
+    private static long requestBytes(final MetaData metaData) {
+        if (!metaData.contains(REQUEST_HEADERS)) {
+            return 0;
+        }
+        final Headers headers = metaData.get(REQUEST_HEADERS);
+        if (!headers.contains(CONTENT_LENGTH)) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(headers.getHeader(CONTENT_LENGTH).trim()));
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long responseBytes(final MetaData metaData) {
+        if (!metaData.contains(RESPONSE_BODY_WRITER)) {
+            return 0;
+        }
+        return metaData.get(RESPONSE_BODY_WRITER).contentLength().orElse(0);
+    }
+
+    private static Map<String, Number> providedGauges(final ChainRegistry registry) {
+        final Map<String, Number> gauges = new LinkedHashMap<>();
+        registry.getOptionalMetaDatum(PROVIDED_METRICS).ifPresent(providedMetrics ->
+                providedMetrics.forEach((name, key) -> registry.getOptionalMetaDatum(key)
+                        .filter(Number.class::isInstance)
+                        .ifPresent(value -> gauges.put(name.toLowerCase(Locale.ROOT), (Number) value))));
+        return gauges;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.envimate.httpmate.metrics.LatencyHistogram.buckets;
+import static com.envimate.httpmate.metrics.LatencyHistogram.upperBoundOf;
+import static com.envimate.httpmate.metrics.RouteMetrics.HIGHEST_STATUS;
+import static com.envimate.httpmate.metrics.RouteMetrics.LOWEST_STATUS;
+
+final class PrometheusFormat {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String PREFIX = "httpmate_";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final String[] BOUNDARIES = {
+            "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10"
+    };
+
+    private PrometheusFormat() {
+    }
+
+    static String render(final HttpMetrics metrics, final Map<String, Number> gauges) {
+        final StringBuilder builder = new StringBuilder();
+        final List<RouteMetrics> routes = metrics.allRouteMetrics();
+
+        header(builder, "requests_total", "counter", "Completed requests by route and status code");
+        for (final RouteMetrics route : routes) {
+            for (int status = LOWEST_STATUS; status <= HIGHEST_STATUS; ++status) {
+                final long count = route.requestsWithStatus(status);
+                if (count > 0) {
+                    sample(builder, "requests_total", route, "status", Integer.toString(status), count);
+                }
+            }
+        }
+
+        header(builder, "requests_in_flight", "gauge", "Requests currently being processed by route");
+        routes.forEach(route -> sample(builder, "requests_in_flight", route, null, null, route.inFlight()));
+
+        header(builder, "request_duration_seconds", "histogram", "Request latency by route");
+        routes.forEach(route -> histogram(builder, route));
+
+        header(builder, "request_bytes_total", "counter", "Request body bytes by route");
+        routes.forEach(route -> sample(builder, "request_bytes_total", route, null, null, route.requestBytes()));
+
+        header(builder, "response_bytes_total", "counter", "Response body bytes by route");
+        routes.forEach(route -> sample(builder, "response_bytes_total", route, null, null, route.responseBytes()));
+
+        gauges.forEach((name, value) -> {
+            header(builder, name, "gauge", name);
+            builder.append(PREFIX).append(name).append(' ').append(value).append('\n');
+        });
+        return builder.toString();
+    }
+
+    private static void histogram(final StringBuilder builder, final RouteMetrics route) {
+        final long[] snapshot = route.latency().snapshot();
+        long cumulative = 0;
+        int bucket = 0;
+        for (final String boundary : BOUNDARIES) {
+            final long boundaryInNanos = (long) (Double.parseDouble(boundary) * NANOS_PER_SECOND);
+            while (bucket < buckets() && upperBoundOf(bucket) <= boundaryInNanos) {
+                cumulative += snapshot[bucket];
+                ++bucket;
+            }
+            sample(builder, "request_duration_seconds_bucket", route, "le", boundary, cumulative);
+        }
+        while (bucket < buckets()) {
+            cumulative += snapshot[bucket];
+            ++bucket;
+        }
+        sample(builder, "request_duration_seconds_bucket", route, "le", "+Inf", cumulative);
+        builder.append(PREFIX).append("request_duration_seconds_sum");
+        labels(builder, route, null, null);
+        builder.append(' ').append(route.latency().sumInNanos() / NANOS_PER_SECOND).append('\n');
+        sample(builder, "request_duration_seconds_count", route, null, null, cumulative);
+    }
+
+    private static void header(final StringBuilder builder, final String name, final String type, final String help) {
+        builder.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(final StringBuilder builder,
+                               final String name,
+                               final RouteMetrics route,
+                               final String extraLabel,
+                               final String extraValue,
+                               final long value) {
+        builder.append(PREFIX).append(name);
+        labels(builder, route, extraLabel, extraValue);
+        builder.append(' ').append(value).append('\n');
+    }
+
+    private static void labels(final StringBuilder builder,
+                               final RouteMetrics route,
+                               final String extraLabel,
+                               final String extraValue) {
+        builder.append("{method=\"");
+        escape(builder, route.method());
+        builder.append("\",route=\"");
+        escape(builder, route.route());
+        builder.append('"');
+        if (extraLabel != null) {
+            builder.append(',').append(extraLabel).append("=\"");
+            escape(builder, extraValue);
+            builder.append('"');
+        }
+        builder.append('}');
+    }
+
+    private static void escape(final StringBuilder builder, final String value) {
+        for (int index = 0; index < value.length(); ++index) {
+            final char character = value.charAt(index);
+            if (character == '\\' || character == '"') {
+                builder.append('\\').append(character);
+            } else if (character == '\n') {
+                builder.append("\\n");
+            } else {
+                builder.append(character);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.metrics;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.envimate.httpmate.metrics.LatencyHistogram.latencyHistogram;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RouteMetrics {
+    static final int LOWEST_STATUS = 100;
+    static final int HIGHEST_STATUS = 599;
+
+    private final String method;
+    private final String route;
+    private final LongAdder inFlight = new LongAdder();
+    @ToString.Exclude
+    private final AtomicLongArray statuses = new AtomicLongArray(HIGHEST_STATUS - LOWEST_STATUS + 1);
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    @ToString.Exclude
+    private final LatencyHistogram latency = latencyHistogram();
+
+    static RouteMetrics routeMetrics(final String method, final String route) {
+        validateNotNull(method, "method");
+        validateNotNull(route, "route");
+        return new RouteMetrics(method, route);
+    }
+
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    public void requestFinished() {
+        inFlight.decrement();
+    }
+
+    public void record(final int status, final long nanos, final long requestBytes, final long responseBytes) {
+        if (status >= LOWEST_STATUS && status <= HIGHEST_STATUS) {
+            statuses.incrementAndGet(status - LOWEST_STATUS);
+        }
+        latency.record(nanos);
+        this.requestBytes.add(requestBytes);
+        this.responseBytes.add(responseBytes);
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String route() {
+        return route;
+    }
+
+    public long requests() {
+        long requests = 0;
+        for (int index = 0; index < statuses.length(); ++index) {
+            requests += statuses.get(index);
+        }
+        return requests;
+    }
+
+    public long requestsWithStatus(final int status) {
+        if (status < LOWEST_STATUS || status > HIGHEST_STATUS) {
+            return 0;
+        }
+        return statuses.get(status - LOWEST_STATUS);
+    }
+
+    public long inFlight() {
+        return inFlight.sum();
+    }
+
+    public long requestBytes() {
+        return requestBytes.sum();
+    }
+
+    public long responseBytes() {
+        return responseBytes.sum();
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+}
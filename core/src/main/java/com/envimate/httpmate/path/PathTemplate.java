@@ -83,12 +83,16 @@ public final class PathTemplate {
         return stateMachine.accept(inputPosition);
     }
 
+    List<String> elements() {
+        return elements;
+    }
+
     public String toString() {
         return this.elements.stream()
                 .collect(joining("/", "/", ""));
     }
 
-    private static StateMachineMatcher<String> elementFromStringSpecification(final String stringSpecification) {
+    static StateMachineMatcher<String> elementFromStringSpecification(final String stringSpecification) {
         if (isRecursiveWildcard(stringSpecification)) {
             return anyMatcher();
         }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.path;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PathTemplateMatch<T> {
+    private final T value;
+    private final int priority;
+    private final Map<String, String> pathParameters;
+
+    static <T> PathTemplateMatch<T> pathTemplateMatch(final T value,
+                                                      final int priority,
+                                                      final Map<String, String> pathParameters) {
+        validateNotNull(value, "value");
+        validateNotNull(pathParameters, "pathParameters");
+        return new PathTemplateMatch<>(value, priority, pathParameters);
+    }
+
+    public T value() {
+        return value;
+    }
+
+    public int priority() {
+        return priority;
+    }
+
+    public Map<String, String> pathParameters() {
+        return pathParameters;
+    }
+}
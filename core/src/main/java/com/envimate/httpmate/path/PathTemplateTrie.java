@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.path;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static com.envimate.httpmate.path.PathTemplateTrieNode.rootNode;
+import static com.envimate.httpmate.path.PathTemplateTrieSearch.pathTemplateTrieSearch;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PathTemplateTrie<T> {
+    private final PathTemplateTrieNode<T> root;
+
+    public static <T> PathTemplateTrie<T> pathTemplateTrie() {
+        return new PathTemplateTrie<>(rootNode());
+    }
+
+    public void insert(final PathTemplate pathTemplate,
+                       final int priority,
+                       final T value) {
+        validateNotNull(pathTemplate, "pathTemplate");
+        validateNotNull(value, "value");
+        PathTemplateTrieNode<T> node = root;
+        node.lowerPriorityTo(priority);
+        for (final String element : pathTemplate.elements()) {
+            node = node.child(element);
+            node.lowerPriorityTo(priority);
+        }
+        node.addEntry(priority, value);
+    }
+
+    public Optional<PathTemplateMatch<T>> match(final Path path,
+                                                final Predicate<T> filter) {
+        validateNotNull(path, "path");
+        validateNotNull(filter, "filter");
+        final List<String> elements = splitIntoElements(path.raw());
+        final PathTemplateTrieSearch<T> search = pathTemplateTrieSearch(elements, filter);
+        root.search(search, 0);
+        return search.result();
+    }
+
+    private static List<String> splitIntoElements(final String raw) {
+        final List<String> elements = new ArrayList<>();
+        int start = 0;
+        while (start < raw.length()) {
+            int end = raw.indexOf('/', start);
+            if (end < 0) {
+                end = raw.length();
+            }
+            if (end > start) {
+                elements.add(raw.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.path;
+
+import com.envimate.httpmate.path.statemachine.StateMachineMatcher;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PathTemplateTrieEdge<T> {
+    private final String specification;
+    private final StateMachineMatcher<String> matcher;
+    private final PathTemplateTrieNode<T> target;
+
+    static <T> PathTemplateTrieEdge<T> pathTemplateTrieEdge(final String specification,
+                                                            final StateMachineMatcher<String> matcher,
+                                                            final PathTemplateTrieNode<T> target) {
+        return new PathTemplateTrieEdge<>(specification, matcher, target);
+    }
+
+    boolean hasSpecification(final String specification) {
+        return this.specification.equals(specification);
+    }
+
+    StateMachineMatcher<String> matcher() {
+        return matcher;
+    }
+
+    PathTemplateTrieNode<T> target() {
+        return target;
+    }
+}
@@ -19,31 +19,29 @@
  * under the License.
  */
 
-package com.envimate.httpmate.http;
+package com.envimate.httpmate.path;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.List;
-
-import static com.envimate.httpmate.util.Validators.validateNotNull;
-import static java.lang.String.join;
-
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-final class HeaderValue {
-    private final String value;
+final class PathTemplateTrieEntry<T> {
+    private final int priority;
+    private final T value;
+
+    static <T> PathTemplateTrieEntry<T> pathTemplateTrieEntry(final int priority, final T value) {
+        return new PathTemplateTrieEntry<>(priority, value);
+    }
 
-    static HeaderValue headerValue(final List<String> values) {
-        validateNotNull(values, "values");
-        final String value = join(", ", values);
-        return new HeaderValue(value);
+    int priority() {
+        return priority;
     }
 
-    String stringValue() {
-        return this.value;
+    T value() {
+        return value;
     }
 }
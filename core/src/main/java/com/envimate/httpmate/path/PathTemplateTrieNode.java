@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.path;
+
+import com.envimate.httpmate.path.statemachine.StateMachineMatcher;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.*;
+
+import static com.envimate.httpmate.path.AnyMatcher.isRecursiveWildcard;
+import static com.envimate.httpmate.path.PathTemplate.elementFromStringSpecification;
+import static com.envimate.httpmate.path.PathTemplateTrieEdge.pathTemplateTrieEdge;
+import static com.envimate.httpmate.path.PathTemplateTrieEntry.pathTemplateTrieEntry;
+import static java.util.Objects.nonNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PathTemplateTrieNode<T> {
+    private final boolean recursiveWildcard;
+    private final Map<String, PathTemplateTrieNode<T>> staticChildren;
+    private final List<PathTemplateTrieEdge<T>> dynamicChildren;
+    private final List<PathTemplateTrieEntry<T>> entries;
+    private PathTemplateTrieNode<T> wildcardChild;
+    private int lowestPriority = Integer.MAX_VALUE;
+
+    static <T> PathTemplateTrieNode<T> rootNode() {
+        return node(false);
+    }
+
+    private static <T> PathTemplateTrieNode<T> node(final boolean recursiveWildcard) {
+        return new PathTemplateTrieNode<>(recursiveWildcard, new HashMap<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    PathTemplateTrieNode<T> child(final String specification) {
+        if (isRecursiveWildcard(specification)) {
+            if (wildcardChild == null) {
+                wildcardChild = node(true);
+            }
+            return wildcardChild;
+        }
+        if (CaptureMatcher.isWildcard(specification) || RegexMatcher.isRegex(specification)) {
+            return dynamicChild(specification);
+        }
+        return staticChildren.computeIfAbsent(specification, s -> node(false));
+    }
+
+    private PathTemplateTrieNode<T> dynamicChild(final String specification) {
+        for (final PathTemplateTrieEdge<T> edge : dynamicChildren) {
+            if (edge.hasSpecification(specification)) {
+                return edge.target();
+            }
+        }
+        final StateMachineMatcher<String> matcher = elementFromStringSpecification(specification);
+        final PathTemplateTrieNode<T> target = node(false);
+        dynamicChildren.add(pathTemplateTrieEdge(specification, matcher, target));
+        return target;
+    }
+
+    void lowerPriorityTo(final int priority) {
+        lowestPriority = Math.min(lowestPriority, priority);
+    }
+
+    void addEntry(final int priority, final T value) {
+        int index = 0;
+        while (index < entries.size() && entries.get(index).priority() <= priority) {
+            ++index;
+        }
+        entries.add(index, pathTemplateTrieEntry(priority, value));
+    }
+
+    void search(final PathTemplateTrieSearch<T> search, final int position) {
+        if (lowestPriority >= search.bestPriority()) {
+            return;
+        }
+        if (search.isEnd(position)) {
+            search.offer(entries);
+            if (nonNull(wildcardChild)) {
+                wildcardChild.search(search, position);
+            }
+            return;
+        }
+        final String element = search.element(position);
+        final PathTemplateTrieNode<T> staticChild = staticChildren.get(element);
+        if (nonNull(staticChild)) {
+            staticChild.search(search, position + 1);
+        }
+        for (final PathTemplateTrieEdge<T> edge : dynamicChildren) {
+            final Optional<Map<String, String>> captures = edge.matcher().matchAndReturnCaptures(element);
+            if (captures.isPresent()) {
+                search.pushCaptures(captures.get());
+                edge.target().search(search, position + 1);
+                search.popCaptures();
+            }
+        }
+        if (nonNull(wildcardChild)) {
+            wildcardChild.search(search, position);
+        }
+        if (recursiveWildcard) {
+            search(search, position + 1);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.path;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.envimate.httpmate.path.PathTemplateMatch.pathTemplateMatch;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PathTemplateTrieSearch<T> {
+    private final List<String> elements;
+    private final Predicate<T> filter;
+    private final List<Map<String, String>> captureStack;
+    private int bestPriority = Integer.MAX_VALUE;
+    private T bestValue;
+    private Map<String, String> bestCaptures;
+
+    static <T> PathTemplateTrieSearch<T> pathTemplateTrieSearch(final List<String> elements,
+                                                                final Predicate<T> filter) {
+        return new PathTemplateTrieSearch<>(elements, filter, new ArrayList<>());
+    }
+
+    boolean isEnd(final int position) {
+        return position >= elements.size();
+    }
+
+    String element(final int position) {
+        return elements.get(position);
+    }
+
+    int bestPriority() {
+        return bestPriority;
+    }
+
+    void pushCaptures(final Map<String, String> captures) {
+        captureStack.add(captures);
+    }
+
+    void popCaptures() {
+        captureStack.remove(captureStack.size() - 1);
+    }
+
+    void offer(final List<PathTemplateTrieEntry<T>> entries) {
+        for (final PathTemplateTrieEntry<T> entry : entries) {
+            if (entry.priority() >= bestPriority) {
+                return;
+            }
+            if (filter.test(entry.value())) {
+                bestPriority = entry.priority();
+                bestValue = entry.value();
+                bestCaptures = collectCaptures();
+                return;
+            }
+        }
+    }
+
+    Optional<PathTemplateMatch<T>> result() {
+        if (bestValue == null) {
+            return empty();
+        }
+        return of(pathTemplateMatch(bestValue, bestPriority, bestCaptures));
+    }
+
+    private Map<String, String> collectCaptures() {
+        final Map<String, String> captures = new HashMap<>();
+        captureStack.forEach(elementCaptures -> elementCaptures.forEach(captures::putIfAbsent));
+        return captures;
+    }
+}
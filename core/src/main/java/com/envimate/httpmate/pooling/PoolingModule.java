@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.pooling;
+
+import com.envimate.httpmate.chains.ChainExtender;
+import com.envimate.httpmate.chains.ChainModule;
+import com.envimate.httpmate.chains.DependencyRegistry;
+import com.envimate.httpmate.chains.MetaDataKey;
+import com.envimate.httpmate.chains.MetaDataPool;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.chains.MetaDataPool.metaDataPool;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PoolingModule implements ChainModule {
+    public static final MetaDataKey<MetaDataPool> METADATA_POOL = metaDataKey("METADATA_POOL");
+
+    private final int maximumSize;
+
+    public static ChainModule poolingModule(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative but was " + maximumSize);
+        }
+        return new PoolingModule(maximumSize);
+    }
+
+    @Override
+    public void configure(final DependencyRegistry dependencyRegistry) {
+        dependencyRegistry.setMetaDatum(METADATA_POOL, metaDataPool(maximumSize));
+    }
+
+    @Override
+    public void register(final ChainExtender extender) {
+    }
+}
@@ -30,14 +30,15 @@ import lombok.ToString;
 
 import java.io.InputStream;
 
-import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_BODY_STREAM;
-import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_BODY_STRING;
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.http.Http.Headers.CONTENT_LENGTH;
 import static com.envimate.httpmate.util.Streams.inputStreamToString;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class StreamToStringProcessor implements Processor {
+    private static final int UNKNOWN_LENGTH = -1;
 
     public static Processor streamToStringProcessor() {
         return new StreamToStringProcessor();
@@ -46,7 +47,22 @@ public final class StreamToStringProcessor implements Processor {
     @Override
     public void apply(final MetaData metaData) {
         final InputStream inputStream = metaData.get(REQUEST_BODY_STREAM);
-        final String bodyString = inputStreamToString(inputStream);
-        metaData.set(REQUEST_BODY_STRING, bodyString);
+        final int expectedLength = expectedLength(metaData);
+        metaData.setLazily(REQUEST_BODY_STRING, () -> inputStreamToString(inputStream, expectedLength));
+    }
+
+    private static int expectedLength(final MetaData metaData) {
+        return metaData.getOptional(REQUEST_HEADERS)
+                .flatMap(headers -> headers.getOptionalHeader(CONTENT_LENGTH))
+                .map(StreamToStringProcessor::parseLength)
+                .orElse(UNKNOWN_LENGTH);
+    }
+
+    private static int parseLength(final String contentLength) {
+        try {
+            return Integer.parseInt(contentLength.trim());
+        } catch (final NumberFormatException e) {
+            return UNKNOWN_LENGTH;
+        }
     }
 }
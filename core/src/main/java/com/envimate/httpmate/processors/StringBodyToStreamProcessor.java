@@ -28,9 +28,12 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.InputStream;
+
 import static com.envimate.httpmate.HttpMateChainKeys.*;
 import static com.envimate.httpmate.http.Http.Headers.CONTENT_TYPE;
-import static com.envimate.httpmate.util.Streams.stringToInputStream;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.inputStreamResponseBody;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.stringResponseBody;
 
 @ToString
 @EqualsAndHashCode
@@ -46,9 +49,15 @@ public final class StringBodyToStreamProcessor implements Processor {
         metaData.getOptional(RESPONSE_CONTENT_TYPE)
                 .ifPresent(contentType -> metaData.getOptional(RESPONSE_HEADERS)
                         .ifPresent(headers -> headers.put(CONTENT_TYPE, contentType.internalValueForMapping())));
-        if (!metaData.contains(RESPONSE_STREAM)) {
-            metaData.getOptional(RESPONSE_BODY_STRING).ifPresent(stringResponse ->
-                    metaData.set(RESPONSE_STREAM, stringToInputStream(stringResponse)));
+        if (metaData.contains(RESPONSE_BODY_WRITER)) {
+            return;
+        }
+        final InputStream stream = metaData.getOptional(RESPONSE_STREAM).orElse(null);
+        if (stream != null) {
+            metaData.set(RESPONSE_BODY_WRITER, inputStreamResponseBody(stream));
+            return;
         }
+        metaData.getOptional(RESPONSE_BODY_STRING).ifPresent(stringResponse ->
+                metaData.set(RESPONSE_BODY_WRITER, stringResponseBody(stringResponse)));
     }
 }
@@ -22,38 +22,40 @@
 package com.envimate.httpmate.purejavaendpoint;
 
 import com.envimate.httpmate.HttpMate;
-import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
-import java.io.IOException;
-import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
-import static com.envimate.httpmate.purejavaendpoint.PureJavaEndpointHandler.javaOnlyEndpointHandler;
+import static com.envimate.httpmate.purejavaendpoint.PureJavaEndpointBuilder.pureJavaEndpointBuilder;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PureJavaEndpoint implements AutoCloseable {
     private final HttpServer httpServer;
+    private final ExecutorService ownedExecutor;
 
-    public static PortStage pureJavaEndpointFor(final HttpMate httpMate) {
-        return port -> {
-            final HttpServer httpServer;
-            try {
-                httpServer = HttpServer.create(new InetSocketAddress(port), 0);
-                final HttpHandler httpHandler = javaOnlyEndpointHandler(httpMate);
-                httpServer.createContext("/", httpHandler);
-                httpServer.setExecutor(null);
-                httpServer.start();
-            } catch (final IOException e) {
-                throw new RuntimeException(e);
-            }
-            return new PureJavaEndpoint(httpServer);
-        };
+    public static PureJavaEndpointBuilder pureJavaEndpointFor(final HttpMate httpMate) {
+        validateNotNull(httpMate, "httpMate");
+        return pureJavaEndpointBuilder(httpMate);
+    }
+
+    public static PortStage pureJavaEndpointFor(final HttpMate httpMate,
+                                                final Executor executor) {
+        return pureJavaEndpointFor(httpMate).handlingRequestsOn(executor);
+    }
+
+    static PureJavaEndpoint pureJavaEndpoint(final HttpServer httpServer, final ExecutorService ownedExecutor) {
+        return new PureJavaEndpoint(httpServer, ownedExecutor);
     }
 
     @Override
     public void close() {
         httpServer.stop(0);
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
     }
 }
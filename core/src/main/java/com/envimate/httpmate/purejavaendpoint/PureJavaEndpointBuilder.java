@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.purejavaendpoint;
+
+import com.envimate.httpmate.HttpMate;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static com.envimate.httpmate.purejavaendpoint.PureJavaEndpoint.pureJavaEndpoint;
+import static com.envimate.httpmate.purejavaendpoint.PureJavaEndpointHandler.javaOnlyEndpointHandler;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PureJavaEndpointBuilder implements PortStage {
+    private static final int SYSTEM_DEFAULT_BACKLOG = 0;
+
+    private final HttpMate httpMate;
+    private Executor executor;
+    private Supplier<ExecutorService> ownedExecutor;
+    private int backlog = SYSTEM_DEFAULT_BACKLOG;
+
+    static PureJavaEndpointBuilder pureJavaEndpointBuilder(final HttpMate httpMate) {
+        return new PureJavaEndpointBuilder(httpMate);
+    }
+
+    public PureJavaEndpointBuilder handlingRequestsOn(final Executor executor) {
+        validateNotNull(executor, "executor");
+        this.executor = executor;
+        this.ownedExecutor = null;
+        return this;
+    }
+
+    public PureJavaEndpointBuilder handlingRequestsOnAFixedThreadPoolOf(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1 but was " + threads);
+        }
+        this.executor = null;
+        this.ownedExecutor = () -> Executors.newFixedThreadPool(threads);
+        return this;
+    }
+
+    public PureJavaEndpointBuilder handlingRequestsOnVirtualThreads() {
+        final Method factory = virtualThreadPerTaskExecutorFactory();
+        this.executor = null;
+        this.ownedExecutor = () -> virtualThreadPerTaskExecutor(factory);
+        return this;
+    }
+
+    public PureJavaEndpointBuilder withABacklogOf(final int backlog) {
+        if (backlog < 1) {
+            throw new IllegalArgumentException("backlog must be at least 1 but was " + backlog);
+        }
+        this.backlog = backlog;
+        return this;
+    }
+
+    @Override
+    public PureJavaEndpoint listeningOnThePort(final int port) {
+        final ExecutorService createdExecutor = ownedExecutor != null ? ownedExecutor.get() : null;
+        final HttpServer httpServer;
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(port), backlog);
+        } catch (final IOException e) {
+            if (createdExecutor != null) {
+                createdExecutor.shutdown();
+            }
+            throw new RuntimeException(e);
+        }
+        final HttpHandler httpHandler = javaOnlyEndpointHandler(httpMate);
+        httpServer.createContext("/", httpHandler);
+        httpServer.setExecutor(createdExecutor != null ? createdExecutor : executor);
+        httpServer.start();
+        return pureJavaEndpoint(httpServer, createdExecutor);
+    }
+
+    private static Method virtualThreadPerTaskExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+        }
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor(final Method factory) {
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not create a virtual thread executor", e);
+        }
+    }
+}
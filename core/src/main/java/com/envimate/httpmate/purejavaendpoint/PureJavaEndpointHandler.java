@@ -23,25 +23,38 @@ package com.envimate.httpmate.purejavaendpoint;
 
 import com.envimate.httpmate.HttpMate;
 import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.body.ResponseBodyWriter;
+import com.envimate.httpmate.jfr.EndpointEvent;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 
 import static com.envimate.httpmate.HttpMateChainKeys.*;
-import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
-import static com.envimate.httpmate.util.Streams.streamInputStreamToOutputStream;
-import static com.envimate.httpmate.util.Streams.stringToInputStream;
-import static java.util.Collections.singletonList;
+import static com.envimate.httpmate.http.Http.Headers.CONTENT_LENGTH;
+import static com.envimate.httpmate.http.Http.Methods.HEAD;
+import static com.envimate.httpmate.http.Http.StatusCodes.NOT_MODIFIED;
+import static com.envimate.httpmate.http.Http.StatusCodes.NO_CONTENT;
+import static com.envimate.httpmate.http.Http.StatusCodes.OK;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.responseBodyWriterFrom;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.writeResponseBody;
+import static com.envimate.httpmate.jfr.EndpointEvent.WRITE;
+import static com.envimate.httpmate.jfr.EndpointEvent.endpointEvent;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 final class PureJavaEndpointHandler implements HttpHandler {
+    private static final long CHUNKED = 0;
+    private static final long NO_BODY = -1;
+    private static final String ENDPOINT = "purejava";
+
     private final HttpMate httpMate;
 
     static HttpHandler javaOnlyEndpointHandler(final HttpMate httpMate) {
@@ -57,7 +70,7 @@ final class PureJavaEndpointHandler implements HttpHandler {
         final Map<String, List<String>> headers = httpExchange.getRequestHeaders();
         final InputStream body = httpExchange.getRequestBody();
 
-        final MetaData metaData = emptyMetaData();
+        final MetaData metaData = httpMate.borrowRequestMetaData();
         metaData.set(RAW_REQUEST_HEADERS, headers);
         metaData.set(RAW_REQUEST_QUERY_PARAMETERS, queryParameters);
         metaData.set(RAW_METHOD, requestMethod);
@@ -65,15 +78,67 @@ final class PureJavaEndpointHandler implements HttpHandler {
         metaData.set(REQUEST_BODY_STREAM, body);
         metaData.set(IS_HTTP_REQUEST, true);
 
-        httpMate.handleRequest(metaData, httpResponse -> {
-            final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
-            responseHeaders.forEach((key, value) -> httpExchange.getResponseHeaders().put(key, singletonList(value)));
-            final int responseStatus = metaData.get(RESPONSE_STATUS);
-            httpExchange.sendResponseHeaders(responseStatus, 0);
-            final OutputStream outputStream = httpExchange.getResponseBody();
-            final InputStream responseBody = metaData.getOptional(RESPONSE_STREAM).orElseGet(() -> stringToInputStream(""));
-            streamInputStreamToOutputStream(responseBody, outputStream);
-        });
+        try {
+            httpMate.handleRequest(metaData, httpResponse -> {
+                final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+                responseHeaders.forEach((key, value) -> httpExchange.getResponseHeaders().set(key, value));
+                metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS).ifPresent(additionalHeaders -> additionalHeaders
+                        .forEach((name, values) -> values.forEach(value -> httpExchange.getResponseHeaders().add(name, value))));
+                final int responseStatus = metaData.get(RESPONSE_STATUS);
+                final ResponseBodyWriter responseBody = responseBodyWriterFrom(metaData);
+                if (forbidsBody(requestMethod, responseStatus)) {
+                    if (HEAD.equalsIgnoreCase(requestMethod)) {
+                        responseBody.contentLength().ifPresent(length ->
+                                httpExchange.getResponseHeaders().set(CONTENT_LENGTH, Long.toString(length)));
+                    }
+                    sendWithoutBody(httpExchange, body, responseStatus);
+                    return;
+                }
+                final long responseLength = responseLength(responseBody);
+                if (responseLength == NO_BODY) {
+                    sendWithoutBody(httpExchange, body, responseStatus);
+                    return;
+                }
+                httpExchange.sendResponseHeaders(responseStatus, responseLength);
+                final OutputStream outputStream = httpExchange.getResponseBody();
+                final EndpointEvent event = endpointEvent();
+                try {
+                    writeResponseBody(responseBody, outputStream);
+                } finally {
+                    event.complete(ENDPOINT, WRITE, responseBody.contentLength().orElse(NO_BODY));
+                }
+            });
+        } finally {
+            httpMate.releaseRequestMetaData(metaData);
+        }
+    }
+
+    // the exchange is finished as soon as headers without a body are sent, so the request
+    // body has to be drained first or the server closes the connection instead of reusing it
+    private static void sendWithoutBody(final HttpExchange httpExchange,
+                                        final InputStream requestBody,
+                                        final int responseStatus) throws IOException {
+        requestBody.close();
+        httpExchange.sendResponseHeaders(responseStatus, NO_BODY);
+    }
+
+    private static boolean forbidsBody(final String requestMethod, final int responseStatus) {
+        return HEAD.equalsIgnoreCase(requestMethod)
+                || responseStatus < OK
+                || responseStatus == NO_CONTENT
+                || responseStatus == NOT_MODIFIED;
+    }
+
+    private static long responseLength(final ResponseBodyWriter responseBody) {
+        final OptionalLong contentLength = responseBody.contentLength();
+        if (contentLength.isEmpty()) {
+            return CHUNKED;
+        }
+        final long length = contentLength.getAsLong();
+        if (length == 0) {
+            return NO_BODY;
+        }
+        return length;
     }
 
     private static Map<String, String> queryToMap(final String query) {
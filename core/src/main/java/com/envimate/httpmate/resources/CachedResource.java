@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.resources;
+
+import com.envimate.httpmate.chains.MetaData;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.http.Http.Headers.*;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.bytesResponseBody;
+
+@ToString(of = "path")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CachedResource {
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+    private static final String QUALITY = "q=";
+
+    private final String path;
+    private final byte[] content;
+    private final byte[] gzipContent;
+    private final byte[] brotliContent;
+
+    static CachedResource cachedResource(final String path,
+                                         final byte[] content,
+                                         final byte[] gzipContent,
+                                         final byte[] brotliContent) {
+        return new CachedResource(path, content, gzipContent, brotliContent);
+    }
+
+    long weight() {
+        return content.length + lengthOf(gzipContent) + lengthOf(brotliContent);
+    }
+
+    void serveTo(final MetaData metaData) {
+        if (gzipContent == null && brotliContent == null) {
+            metaData.set(RESPONSE_BODY_WRITER, bytesResponseBody(content));
+            return;
+        }
+        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+        responseHeaders.put(VARY, ACCEPT_ENCODING);
+        final String acceptEncoding = metaData.getOptional(REQUEST_HEADERS)
+                .flatMap(headers -> headers.getOptionalHeader(ACCEPT_ENCODING))
+                .orElse("");
+        if (brotliContent != null && accepts(acceptEncoding, BROTLI)) {
+            responseHeaders.put(CONTENT_ENCODING, BROTLI);
+            metaData.set(RESPONSE_BODY_WRITER, bytesResponseBody(brotliContent));
+        } else if (gzipContent != null && accepts(acceptEncoding, GZIP)) {
+            responseHeaders.put(CONTENT_ENCODING, GZIP);
+            metaData.set(RESPONSE_BODY_WRITER, bytesResponseBody(gzipContent));
+        } else {
+            metaData.set(RESPONSE_BODY_WRITER, bytesResponseBody(content));
+        }
+    }
+
+    private static boolean accepts(final String acceptEncoding, final String encoding) {
+        for (final String candidate : acceptEncoding.split(",")) {
+            final String[] parts = candidate.split(";");
+            if (!parts[0].trim().equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; ++i) {
+                final String parameter = parts[i].trim();
+                if (parameter.startsWith(QUALITY)) {
+                    return !isZero(parameter.substring(QUALITY.length()));
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(final String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (final NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static long lengthOf(final byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+}
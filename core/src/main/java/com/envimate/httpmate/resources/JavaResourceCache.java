@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.resources;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.handler.http.files.MultiformatPath;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.envimate.httpmate.handler.http.files.FileLoader.loadJavaResource;
+import static com.envimate.httpmate.handler.http.files.MultiformatPath.multiformatPath;
+import static com.envimate.httpmate.resources.CachedResource.cachedResource;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.lang.Thread.currentThread;
+
+@ToString(of = {"maximumBytes", "compressedVariants"})
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JavaResourceCache {
+    public static final long DEFAULT_MAXIMUM_BYTES = 32L * 1024 * 1024;
+
+    private static final String BROTLI_SUFFIX = ".br";
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final long maximumBytes;
+    private final boolean compressedVariants;
+    private final Map<String, CachedResource> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long cachedBytes;
+
+    public static JavaResourceCache javaResourceCache(final long maximumBytes, final boolean compressedVariants) {
+        if (maximumBytes < 0) {
+            throw new IllegalArgumentException("maximumBytes must not be negative but was " + maximumBytes);
+        }
+        return new JavaResourceCache(maximumBytes, compressedVariants);
+    }
+
+    public void serve(final MultiformatPath path, final MetaData metaData) {
+        validateNotNull(path, "path");
+        validateNotNull(metaData, "metaData");
+        lookup(path).serveTo(metaData);
+    }
+
+    public void preload(final String prefix) {
+        validateNotNull(prefix, "prefix");
+        final String directory = multiformatPath(prefix).formatted("", "");
+        final ClassLoader classLoader = currentThread().getContextClassLoader();
+        try {
+            final Enumeration<URL> roots = classLoader.getResources(directory);
+            while (roots.hasMoreElements()) {
+                for (final String resource : resourcesUnder(roots.nextElement(), directory)) {
+                    if (!compressedVariants || !isVariant(resource)) {
+                        lookup(multiformatPath(resource));
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CachedResource lookup(final MultiformatPath path) {
+        final String key = path.formatted("", "");
+        final CachedResource cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final CachedResource loaded = load(path, key);
+        if (loaded.weight() <= maximumBytes) {
+            store(key, loaded);
+        }
+        return loaded;
+    }
+
+    private void store(final String key, final CachedResource resource) {
+        synchronized (entries) {
+            final CachedResource replaced = entries.put(key, resource);
+            if (replaced != null) {
+                cachedBytes -= replaced.weight();
+            }
+            cachedBytes += resource.weight();
+            final Iterator<CachedResource> eldest = entries.values().iterator();
+            while (cachedBytes > maximumBytes) {
+                cachedBytes -= eldest.next().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private CachedResource load(final MultiformatPath path, final String key) {
+        final byte[] content = readFully(loadJavaResource(path));
+        if (!compressedVariants) {
+            return cachedResource(key, content, null, null);
+        }
+        final byte[] brotli = sibling(key + BROTLI_SUFFIX);
+        final byte[] siblingGzip = sibling(key + GZIP_SUFFIX);
+        final byte[] gzip = siblingGzip != null ? siblingGzip : gzipIfSmaller(content);
+        return cachedResource(key, content, gzip, brotli);
+    }
+
+    private static byte[] sibling(final String name) {
+        final URL resource = currentThread().getContextClassLoader().getResource(name);
+        if (resource == null) {
+            return null;
+        }
+        try {
+            return readFully(resource.openStream());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzipIfSmaller(final byte[] content) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 2 + 32);
+        try {
+            final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+            gzipOutputStream.write(content);
+            gzipOutputStream.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (outputStream.size() >= content.length) {
+            return null;
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] readFully(final InputStream inputStream) {
+        try {
+            try {
+                return inputStream.readAllBytes();
+            } finally {
+                inputStream.close();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> resourcesUnder(final URL root, final String directory) throws IOException {
+        final String protocol = root.getProtocol();
+        if ("file".equals(protocol)) {
+            final Path base = toPath(root);
+            final Stream<Path> files = Files.walk(base);
+            try {
+                return files
+                        .filter(Files::isRegularFile)
+                        .map(file -> directory + "/" + base.relativize(file).toString().replace('\\', '/'))
+                        .collect(Collectors.toList());
+            } finally {
+                files.close();
+            }
+        } else if ("jar".equals(protocol)) {
+            final JarURLConnection connection = (JarURLConnection) root.openConnection();
+            connection.setUseCaches(false);
+            final JarFile jarFile = connection.getJarFile();
+            try {
+                final String entryPrefix = directory + "/";
+                return jarFile.stream()
+                        .filter(entry -> !entry.isDirectory())
+                        .map(JarEntry::getName)
+                        .filter(name -> name.startsWith(entryPrefix))
+                        .collect(Collectors.toList());
+            } finally {
+                jarFile.close();
+            }
+        } else {
+            throw new UnsupportedOperationException("Not able to preload resources from '" + root +
+                    "' because protocol '" + protocol + "' is not supported");
+        }
+    }
+
+    private static Path toPath(final URL url) {
+        try {
+            return Paths.get(url.toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalArgumentException("Not able to preload resources from '" + url + "'", e);
+        }
+    }
+
+    private static boolean isVariant(final String resource) {
+        return resource.endsWith(BROTLI_SUFFIX) || resource.endsWith(GZIP_SUFFIX);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long cachedBytes() {
+        synchronized (entries) {
+            return cachedBytes;
+        }
+    }
+
+    public long maximumBytes() {
+        return maximumBytes;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.resources;
+
+import com.envimate.httpmate.chains.ChainModule;
+import com.envimate.httpmate.chains.Configurator;
+import com.envimate.httpmate.chains.DependencyRegistry;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.httpmate.resources.JavaResourceCache.DEFAULT_MAXIMUM_BYTES;
+import static com.envimate.httpmate.resources.ResourceCacheModule.resourceCacheModule;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Collections.singletonList;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResourceCacheConfigurator implements Configurator {
+    private final List<String> preloadedPrefixes = new ArrayList<>();
+    private volatile long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+    private volatile boolean compressedVariants;
+
+    static ResourceCacheConfigurator resourceCacheConfigurator() {
+        return new ResourceCacheConfigurator();
+    }
+
+    public ResourceCacheConfigurator withAMaximumOfBytes(final long maximumBytes) {
+        if (maximumBytes < 0) {
+            throw new IllegalArgumentException("maximumBytes must not be negative but was " + maximumBytes);
+        }
+        this.maximumBytes = maximumBytes;
+        return this;
+    }
+
+    public ResourceCacheConfigurator withCompressedVariants() {
+        compressedVariants = true;
+        return this;
+    }
+
+    public ResourceCacheConfigurator preloadingTheResourcesUnder(final String... prefixes) {
+        validateNotNull(prefixes, "prefixes");
+        for (final String prefix : prefixes) {
+            validateNotNull(prefix, "prefix");
+            preloadedPrefixes.add(prefix);
+        }
+        return this;
+    }
+
+    @Override
+    public List<ChainModule> supplyModulesIfNotAlreadyPreset() {
+        return singletonList(resourceCacheModule());
+    }
+
+    @Override
+    public void configure(final DependencyRegistry dependencyRegistry) {
+        final ResourceCacheModule resourceCacheModule = dependencyRegistry.getDependency(ResourceCacheModule.class);
+        resourceCacheModule.setMaximumBytes(maximumBytes);
+        resourceCacheModule.setCompressedVariants(compressedVariants);
+        preloadedPrefixes.forEach(resourceCacheModule::addPreloadedPrefix);
+    }
+}
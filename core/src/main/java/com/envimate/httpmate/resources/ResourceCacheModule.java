@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.resources;
+
+import com.envimate.httpmate.chains.ChainExtender;
+import com.envimate.httpmate.chains.ChainModule;
+import com.envimate.httpmate.chains.MetaDataKey;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.httpmate.HttpMateChains.INIT;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.resources.JavaResourceCache.DEFAULT_MAXIMUM_BYTES;
+import static com.envimate.httpmate.resources.JavaResourceCache.javaResourceCache;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResourceCacheModule implements ChainModule {
+    public static final MetaDataKey<JavaResourceCache> JAVA_RESOURCE_CACHE = metaDataKey("JAVA_RESOURCE_CACHE");
+
+    private final List<String> preloadedPrefixes = new ArrayList<>();
+    private volatile long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+    private volatile boolean compressedVariants;
+
+    public static ChainModule resourceCacheModule() {
+        return new ResourceCacheModule();
+    }
+
+    public void setMaximumBytes(final long maximumBytes) {
+        if (maximumBytes < 0) {
+            throw new IllegalArgumentException("maximumBytes must not be negative but was " + maximumBytes);
+        }
+        this.maximumBytes = maximumBytes;
+    }
+
+    public void setCompressedVariants(final boolean compressedVariants) {
+        this.compressedVariants = compressedVariants;
+    }
+
+    public void addPreloadedPrefix(final String prefix) {
+        validateNotNull(prefix, "prefix");
+        preloadedPrefixes.add(prefix);
+    }
+
+    @Override
+    public void register(final ChainExtender extender) {
+        final JavaResourceCache cache = javaResourceCache(maximumBytes, compressedVariants);
+        preloadedPrefixes.forEach(cache::preload);
+        extender.addMetaDatum(JAVA_RESOURCE_CACHE, cache);
+        extender.appendProcessor(INIT, metaData -> metaData.set(JAVA_RESOURCE_CACHE, cache));
+    }
+}
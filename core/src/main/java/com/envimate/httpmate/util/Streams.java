@@ -22,6 +22,7 @@
 package com.envimate.httpmate.util;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -34,6 +35,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 public final class Streams {
     private static final int BUFFER_SIZE = 1024;
+    private static final int MAXIMUM_PRESIZED_BUFFER = 16 * 1024 * 1024;
 
     private Streams() {
     }
@@ -50,6 +52,24 @@ public final class Streams {
         return "";
     }
 
+    public static String inputStreamToString(final InputStream inputStream,
+                                             final int expectedLength) {
+        validateNotNull(inputStream, "inputStream");
+        final int initialSize;
+        if (expectedLength < 0) {
+            initialSize = BUFFER_SIZE;
+        } else {
+            initialSize = Math.min(expectedLength, MAXIMUM_PRESIZED_BUFFER);
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(initialSize);
+        try {
+            inputStream.transferTo(outputStream);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        return outputStream.toString(UTF_8);
+    }
+
     public static void streamInputStreamToOutputStream(final InputStream inputStream,
                                                        final OutputStream outputStream) {
         try {
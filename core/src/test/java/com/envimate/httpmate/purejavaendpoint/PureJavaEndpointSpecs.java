@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.purejavaendpoint;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.handler.http.HttpHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.HttpMateChainKeys.METHOD;
+import static com.envimate.httpmate.http.HttpRequestMethod.HEAD;
+import static com.envimate.httpmate.purejavaendpoint.PureJavaEndpoint.pureJavaEndpointFor;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public final class PureJavaEndpointSpecs {
+    private static final int FIRST_JAVA_VERSION_WITH_VIRTUAL_THREADS = 21;
+    private static final int POOL_SIZE = 2;
+    private static final int BACKLOG = 64;
+
+    @Test
+    public void requestsAreHandledOnASuppliedExecutor() throws IOException {
+        final ExecutorService executor = Executors.newCachedThreadPool(command -> new Thread(command, "supplied"));
+        try {
+            final HttpMate httpMate = anHttpMate()
+                    .get("/test", (request, response) -> response.setBody(Thread.currentThread().getName()))
+                    .build();
+            final int port = freePort();
+            final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMate, executor).listeningOnThePort(port);
+            try (Socket socket = new Socket("localhost", port)) {
+                assertThat(exchange(socket, "GET", "/test", new HashMap<>()), is("200 supplied"));
+            } finally {
+                endpoint.close();
+            }
+            assertThat(executor.isShutdown(), is(false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void aFixedThreadPoolHandlesRequestsConcurrently() throws Exception {
+        final CountDownLatch bothRequestsArrived = new CountDownLatch(POOL_SIZE);
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> {
+                    bothRequestsArrived.countDown();
+                    response.setBody(String.valueOf(awaitQuietly(bothRequestsArrived)));
+                })
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMate)
+                .handlingRequestsOnAFixedThreadPoolOf(POOL_SIZE)
+                .listeningOnThePort(port);
+        final ExecutorService clients = Executors.newFixedThreadPool(POOL_SIZE);
+        try {
+            final Future<String> first = clients.submit(() -> get(port, "/test"));
+            final Future<String> second = clients.submit(() -> get(port, "/test"));
+            assertThat(first.get(), is("200 true"));
+            assertThat(second.get(), is("200 true"));
+        } finally {
+            clients.shutdownNow();
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void anEndpointWithAnExplicitBacklogServesRequests() throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMate)
+                .handlingRequestsOnAFixedThreadPoolOf(POOL_SIZE)
+                .withABacklogOf(BACKLOG)
+                .listeningOnThePort(port);
+        try {
+            assertThat(get(port, "/test"), is("200 foo"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void invalidPoolSizesAndBacklogsAreRejected() {
+        final HttpMate httpMate = anHttpMate().build();
+        assertThrows(IllegalArgumentException.class, () -> pureJavaEndpointFor(httpMate).handlingRequestsOnAFixedThreadPoolOf(0));
+        assertThrows(IllegalArgumentException.class, () -> pureJavaEndpointFor(httpMate).withABacklogOf(0));
+    }
+
+    @Test
+    public void virtualThreadsAreRejectedBeforeAPortIsBoundOnOlderRuntimes() throws IOException {
+        assumeTrue(Runtime.version().feature() < FIRST_JAVA_VERSION_WITH_VIRTUAL_THREADS);
+        final HttpMate httpMate = anHttpMate().build();
+        assertThrows(UnsupportedOperationException.class, () -> pureJavaEndpointFor(httpMate).handlingRequestsOnVirtualThreads());
+    }
+
+    @Test
+    public void requestsAreHandledOnVirtualThreadsOnNewerRuntimes() throws IOException {
+        assumeTrue(Runtime.version().feature() >= FIRST_JAVA_VERSION_WITH_VIRTUAL_THREADS);
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMate)
+                .handlingRequestsOnVirtualThreads()
+                .listeningOnThePort(port);
+        try {
+            assertThat(get(port, "/test"), is("200 foo"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void bodiesOfKnownSizeAreSentWithAFixedContentLength() throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMate).listeningOnThePort(port);
+        try (Socket socket = new Socket("localhost", port)) {
+            final Map<String, String> headers = new HashMap<>();
+            assertThat(exchange(socket, "GET", "/test", headers), is("200 foo"));
+            assertThat(headers.get("content-length"), is("3"));
+            assertThat(headers.get("transfer-encoding"), is(nullValue()));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void headResponsesAnnounceTheLengthWithoutSendingTheBody() throws IOException {
+        final HttpHandler handler = (request, response) -> response.setBody("foo");
+        final HttpMate httpMate = anHttpMate()
+                .serving(handler).when(metaData -> metaData.getOptional(METHOD).map(HEAD::equals).orElse(false))
+                .get("/next", (request, response) -> response.setBody("next"))
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMate).listeningOnThePort(port);
+        try (Socket socket = new Socket("localhost", port)) {
+            final Map<String, String> headers = new HashMap<>();
+            assertThat(exchange(socket, "HEAD", "/test", headers), is("200 "));
+            assertThat(headers.get("content-length"), is("3"));
+            assertThat(exchange(socket, "GET", "/next", new HashMap<>()), is("200 next"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void notModifiedResponsesAreSentWithoutABody() throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> {
+                    response.setStatus(304);
+                    response.setBody("foo");
+                })
+                .get("/next", (request, response) -> response.setBody("next"))
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMate).listeningOnThePort(port);
+        try (Socket socket = new Socket("localhost", port)) {
+            assertThat(exchange(socket, "GET", "/test", new HashMap<>()), is("304 "));
+            assertThat(exchange(socket, "GET", "/next", new HashMap<>()), is("200 next"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    private static String get(final int port, final String path) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            return exchange(socket, "GET", path, new HashMap<>());
+        }
+    }
+
+    private static String exchange(final Socket socket,
+                                   final String method,
+                                   final String path,
+                                   final Map<String, String> headers) throws IOException {
+        final OutputStream outputStream = socket.getOutputStream();
+        outputStream.write((method + " " + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(ISO_8859_1));
+        outputStream.flush();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), ISO_8859_1));
+        final String status = readLine(reader).split(" ")[1];
+        String line = readLine(reader);
+        while (!line.isEmpty()) {
+            final String[] header = line.split(":", 2);
+            headers.put(header[0].trim().toLowerCase(), header[1].trim());
+            line = readLine(reader);
+        }
+        if ("HEAD".equals(method) || "304".equals(status)) {
+            return status + " ";
+        }
+        final int contentLength = Integer.parseInt(headers.getOrDefault("content-length", "0"));
+        final char[] body = new char[contentLength];
+        int read = 0;
+        while (read < contentLength) {
+            read += reader.read(body, read, contentLength - read);
+        }
+        return status + " " + new String(body);
+    }
+
+    private static String readLine(final BufferedReader reader) throws IOException {
+        final String line = reader.readLine();
+        if (line == null) {
+            throw new AssertionError("connection was closed");
+        }
+        return line;
+    }
+
+    private static boolean awaitQuietly(final CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
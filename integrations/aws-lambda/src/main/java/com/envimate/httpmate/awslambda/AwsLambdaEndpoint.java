@@ -33,14 +33,15 @@ import lombok.RequiredArgsConstructor;
 
 import java.io.InputStream;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.envimate.httpmate.HttpMateChainKeys.*;
 import static com.envimate.httpmate.awslambda.AwsLambdaLogger.awsLambdaLogger;
-import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
 import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.responseBodyAsString;
 import static com.envimate.httpmate.util.Maps.mapToMultiMap;
-import static com.envimate.httpmate.util.Streams.inputStreamToString;
 import static com.envimate.httpmate.util.Streams.stringToInputStream;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static java.util.Optional.ofNullable;
@@ -64,13 +65,14 @@ public final class AwsLambdaEndpoint {
     public APIGatewayProxyResponseEvent delegate(final APIGatewayProxyRequestEvent event, final Context context) {
         final String httpRequestMethod = event.getHttpMethod();
         final String path = event.getPath();
-        final Map<String, String> headers = event.getHeaders();
+        final Map<String, List<String>> headers = ofNullable(event.getMultiValueHeaders())
+                .orElseGet(() -> mapToMultiMap(ofNullable(event.getHeaders()).orElseGet(HashMap::new)));
         final String body = ofNullable(event.getBody()).orElse("");
         final InputStream bodyStream = stringToInputStream(body);
         final Map<String, String> queryParameters = ofNullable(event.getQueryStringParameters()).orElseGet(HashMap::new);
 
-        final MetaData metaData = emptyMetaData();
-        metaData.set(RAW_REQUEST_HEADERS, mapToMultiMap(headers));
+        final MetaData metaData = httpMate.borrowRequestMetaData();
+        metaData.set(RAW_REQUEST_HEADERS, headers);
         metaData.set(RAW_REQUEST_QUERY_PARAMETERS, queryParameters);
         metaData.set(RAW_METHOD, httpRequestMethod);
         metaData.set(RAW_PATH, path);
@@ -78,14 +80,18 @@ public final class AwsLambdaEndpoint {
         metaData.set(CONTEXT_KEY, context);
         metaData.set(IS_HTTP_REQUEST, true);
 
-        httpMate.handleRequest(metaData, response -> {
-            throw new UnsupportedOperationException();
-        });
-
-        final int statusCode = metaData.get(RESPONSE_STATUS);
-        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
-        final InputStream responseStream = metaData.get(RESPONSE_STREAM);
-        final String responseBody = inputStreamToString(responseStream);
-        return new APIGatewayProxyResponseEvent().withStatusCode(statusCode).withHeaders(responseHeaders).withBody(responseBody);
+        try {
+            final MultiValueHeadersResponseEvent responseEvent = new MultiValueHeadersResponseEvent();
+            httpMate.handleRequest(metaData, response -> {
+                responseEvent.setStatusCode(metaData.get(RESPONSE_STATUS));
+                responseEvent.setHeaders(metaData.get(RESPONSE_HEADERS));
+                metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS).ifPresent(additionalHeaders ->
+                        responseEvent.setMultiValueHeaders(new LinkedHashMap<>(additionalHeaders)));
+                responseEvent.setBody(responseBodyAsString(metaData));
+            });
+            return responseEvent;
+        } finally {
+            httpMate.releaseRequestMetaData(metaData);
+        }
     }
 }
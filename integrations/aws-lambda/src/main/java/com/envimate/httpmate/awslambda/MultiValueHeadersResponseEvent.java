@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.awslambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link APIGatewayProxyResponseEvent} that also carries the {@code multiValueHeaders} field of the
+ * API Gateway proxy integration, which the events library in use does not model yet.
+ * API Gateway merges it with the single-valued headers, so a header like {@code Set-Cookie} can be sent
+ * more than once.
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class MultiValueHeadersResponseEvent extends APIGatewayProxyResponseEvent {
+    private static final long serialVersionUID = 1L;
+
+    private Map<String, List<String>> multiValueHeaders;
+
+    public Map<String, List<String>> getMultiValueHeaders() {
+        return multiValueHeaders;
+    }
+
+    public void setMultiValueHeaders(final Map<String, List<String>> multiValueHeaders) {
+        this.multiValueHeaders = multiValueHeaders;
+    }
+
+    public MultiValueHeadersResponseEvent withMultiValueHeaders(final Map<String, List<String>> multiValueHeaders) {
+        setMultiValueHeaders(multiValueHeaders);
+        return this;
+    }
+}
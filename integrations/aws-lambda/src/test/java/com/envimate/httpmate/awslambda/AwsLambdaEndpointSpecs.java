@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.awslambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.envimate.httpmate.HttpMate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.awslambda.AwsLambdaEndpoint.awsLambdaEndpointFor;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class AwsLambdaEndpointSpecs {
+
+    @Test
+    public void aSingleCookieIsSentAsASingleValuedHeader() {
+        final HttpMate httpMate = anHttpMate()
+                .get("/cookie", (request, response) -> response.setCookie("first", "qwer"))
+                .build();
+        final MultiValueHeadersResponseEvent response = delegate(httpMate, "/cookie");
+        assertThat(response.getHeaders().get("Set-Cookie"), is("first=\"qwer\""));
+        assertThat(response.getMultiValueHeaders(), is(nullValue()));
+    }
+
+    @Test
+    public void furtherCookiesAreSentAsMultiValueHeaders() {
+        final HttpMate httpMate = anHttpMate()
+                .get("/cookie", (request, response) -> {
+                    response.setCookie("first", "qwer");
+                    response.setCookie("second", "asdf");
+                    response.setCookie("third", "yxcv");
+                })
+                .build();
+        final MultiValueHeadersResponseEvent response = delegate(httpMate, "/cookie");
+        assertThat(response.getHeaders().get("Set-Cookie"), is("first=\"qwer\""));
+        assertThat(response.getMultiValueHeaders().get("Set-Cookie"), is(List.of("second=\"asdf\"", "third=\"yxcv\"")));
+    }
+
+    private static MultiValueHeadersResponseEvent delegate(final HttpMate httpMate, final String path) {
+        final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent()
+                .withHttpMethod("GET")
+                .withPath(path);
+        final APIGatewayProxyResponseEvent response = awsLambdaEndpointFor(httpMate).delegate(event, null);
+        assertThat(response.getStatusCode(), is(200));
+        return (MultiValueHeadersResponseEvent) response;
+    }
+}
@@ -60,7 +60,7 @@ public final class HttpMateClientBuilder {
         builder.withResponseMapping(SimpleHttpResponseObject.class, (response, targetType) -> {
             if (targetType.equals(SimpleHttpResponseObject.class)) {
                 final String body = inputStreamToString(response.content());
-                return httpClientResponse(response.statusCode(), response.headers(), body);
+                return httpClientResponse(response.statusCode(), response.headers(), response.multiValueHeaders(), body);
             }
             throw unsupportedTargetTypeException(SimpleHttpResponseObject.class, targetType);
         });
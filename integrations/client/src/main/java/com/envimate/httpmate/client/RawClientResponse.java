@@ -27,11 +27,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static com.envimate.httpmate.http.Http.Headers.CONTENT_TYPE;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 
 @ToString
@@ -39,11 +42,11 @@ import static java.util.Optional.ofNullable;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RawClientResponse {
     private final int statusCode;
-    private final Map<String, String> headers;
+    private final Map<String, List<String>> headers;
     private final InputStream content;
 
     public static RawClientResponse rawClientResponse(final int statusCode,
-                                                      final Map<String, String> headers,
+                                                      final Map<String, List<String>> headers,
                                                       final InputStream content) {
         validateNotNull(headers, "headers");
         validateNotNull(content, "content");
@@ -55,11 +58,25 @@ public final class RawClientResponse {
     }
 
     public Map<String, String> headers() {
+        final Map<String, String> firstValues = new LinkedHashMap<>(headers.size());
+        headers.forEach((key, values) -> {
+            if (!values.isEmpty()) {
+                firstValues.put(key, values.get(0));
+            }
+        });
+        return firstValues;
+    }
+
+    public Map<String, List<String>> multiValueHeaders() {
         return headers;
     }
 
     public Optional<String> header(final String key) {
-        return ofNullable(headers.get(key));
+        return headerValues(key).stream().findFirst();
+    }
+
+    public List<String> headerValues(final String key) {
+        return ofNullable(headers.get(key)).orElse(emptyList());
     }
 
     public Optional<String> contentType() {
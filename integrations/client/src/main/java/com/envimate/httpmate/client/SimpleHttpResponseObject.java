@@ -27,8 +27,10 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.List;
 import java.util.Map;
 
+import static com.envimate.httpmate.util.Maps.mapToMultiMap;
 import static java.lang.String.valueOf;
 
 @ToString
@@ -37,12 +39,20 @@ import static java.lang.String.valueOf;
 public final class SimpleHttpResponseObject {
     private final int statusCode;
     private final Map<String, String> headers;
+    private final Map<String, List<String>> multiValueHeaders;
     private final String body;
 
     public static SimpleHttpResponseObject httpClientResponse(final int statusCode,
                                                               final Map<String, String> headers,
                                                               final String body) {
-        return new SimpleHttpResponseObject(statusCode, headers, body);
+        return httpClientResponse(statusCode, headers, mapToMultiMap(headers), body);
+    }
+
+    public static SimpleHttpResponseObject httpClientResponse(final int statusCode,
+                                                              final Map<String, String> headers,
+                                                              final Map<String, List<String>> multiValueHeaders,
+                                                              final String body) {
+        return new SimpleHttpResponseObject(statusCode, headers, multiValueHeaders, body);
     }
 
     public int getStatusCode() {
@@ -53,6 +63,10 @@ public final class SimpleHttpResponseObject {
         return headers;
     }
 
+    public Map<String, List<String>> getMultiValueHeaders() {
+        return multiValueHeaders;
+    }
+
     public String getBody() {
         return body;
     }
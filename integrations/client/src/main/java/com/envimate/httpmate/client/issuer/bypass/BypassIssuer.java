@@ -31,13 +31,18 @@ import com.envimate.httpmate.client.issuer.Issuer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 import static com.envimate.httpmate.HttpMateChainKeys.*;
 import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
 import static com.envimate.httpmate.client.RawClientResponse.rawClientResponse;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.responseBodyAsBytes;
 import static com.envimate.httpmate.util.Maps.mapToMultiMap;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static java.util.stream.Collectors.toMap;
@@ -72,14 +77,21 @@ public final class BypassIssuer implements Issuer {
         final SynchronizationWrapper<MetaData> wrapper = new SynchronizationWrapper<>();
         this.httpMate.handleRequest(metaData, wrapper::setObject);
 
-        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+        final Map<String, List<String>> responseHeaders = new LinkedHashMap<>();
+        metaData.get(RESPONSE_HEADERS).forEach((name, value) -> headerValues(responseHeaders, name).add(value));
+        metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS).ifPresent(additionalHeaders -> additionalHeaders
+                .forEach((name, values) -> headerValues(responseHeaders, name).addAll(values)));
         final int responseStatus = metaData.get(RESPONSE_STATUS);
-        final InputStream responseBody = metaData.get(RESPONSE_STREAM);
+        final InputStream responseBody = new ByteArrayInputStream(responseBodyAsBytes(metaData));
 
         final RawClientResponse response = rawClientResponse(responseStatus, responseHeaders, responseBody);
         return responseMapper.apply(response);
     }
 
+    private static List<String> headerValues(final Map<String, List<String>> headers, final String name) {
+        return headers.computeIfAbsent(name, ignored -> new ArrayList<>(1));
+    }
+
     @Override
     public void close() {
     }
@@ -35,7 +35,9 @@ import org.apache.http.protocol.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -89,10 +91,11 @@ public final class RealIssuer implements Issuer {
             final HttpClientConnection connectionObject = connection.connectionObject();
             final HttpResponse response = httpRequestExecutor.execute(lowLevelRequest, connectionObject, context);
             final int statusCode = response.getStatusLine().getStatusCode();
-            final Map<String, String> headers = new HashMap<>();
+            final Map<String, List<String>> headers = new HashMap<>();
             stream(response.getAllHeaders())
-                    .forEach(header -> headers.put(header.getName().toLowerCase(), header.getValue()));
-            final InputStream body = response.getEntity().getContent();
+                    .forEach(header -> headers.computeIfAbsent(header.getName().toLowerCase(), name -> new ArrayList<>())
+                            .add(header.getValue()));
+            final InputStream body = responseBody(response);
             final RawClientResponse rawClientResponse = rawClientResponse(statusCode, headers, body);
             return responseMapper.apply(rawClientResponse);
         } catch (final IOException | HttpException e) {
@@ -100,6 +103,14 @@ public final class RealIssuer implements Issuer {
         }
     }
 
+    private static InputStream responseBody(final HttpResponse response) throws IOException {
+        final HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return InputStream.nullInputStream();
+        }
+        return entity.getContent();
+    }
+
     @Override
     public void close() {
         connectionFactory.close();
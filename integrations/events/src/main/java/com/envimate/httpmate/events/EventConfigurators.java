@@ -41,6 +41,10 @@ public final class EventConfigurators {
         return configuratorForType(EventModule.class, eventModule -> eventModule.setMessageBus(messageBus));
     }
 
+    public static Configurator toDispatchEventsUsingAThreadPoolOfSize(final int poolSize) {
+        return configuratorForType(EventModule.class, eventModule -> eventModule.setPoolSize(poolSize));
+    }
+
     public static Configurator toEnrichTheIntermediateMapUsing(final RequestMapEnricher enricher) {
         validateNotNull(enricher, "enricher");
         return configuratorForType(EventModule.class, eventModule -> eventModule.addRequestMapEnricher(enricher));
@@ -70,6 +70,7 @@ public final class EventModule implements ChainModule {
     private static final int DEFAULT_POOL_SIZE = 4;
 
     private volatile MessageBus messageBus;
+    private volatile int poolSize = DEFAULT_POOL_SIZE;
     private volatile boolean closeMessageBusOnClose = true;
     private final List<Generator<EventType>> eventTypeGenerators = new LinkedList<>();
 
@@ -81,10 +82,6 @@ public final class EventModule implements ChainModule {
     public static EventModule eventModule() {
         final EventModule eventModule = new EventModule();
         eventModule.addRequestMapEnricher((map, request) -> request.optionalBodyMap().ifPresent(map::putAll));
-        final MessageBus defaultMessageBus = aMessageBus().forType(ASYNCHRONOUS)
-                .withAsynchronousConfiguration(constantPoolSizeAsynchronousConfiguration(DEFAULT_POOL_SIZE))
-                .build();
-        eventModule.setMessageBus(defaultMessageBus);
         return eventModule;
     }
 
@@ -92,6 +89,13 @@ public final class EventModule implements ChainModule {
         this.messageBus = messageBus;
     }
 
+    public void setPoolSize(final int poolSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be positive but was " + poolSize);
+        }
+        this.poolSize = poolSize;
+    }
+
     public void setCloseMessageBusOnClose(final boolean closeMessageBusOnClose) {
         this.closeMessageBusOnClose = closeMessageBusOnClose;
     }
@@ -126,7 +130,7 @@ public final class EventModule implements ChainModule {
         final HandlerDistributors handlerDistributors = configurationMetaData.get(HANDLER_DISTRIBUTORS);
         handlerDistributors.register(handler -> handler instanceof EventType,
                 (handler, condition) -> addEventMapping((EventType) handler, condition));
-        configurationMetaData.set(MESSAGE_BUS, messageBus);
+        configurationMetaData.setLazily(MESSAGE_BUS, this::messageBus);
     }
 
     @Override
@@ -140,6 +144,7 @@ public final class EventModule implements ChainModule {
         requestMapEnrichers.forEach(enricher -> extender.appendProcessor(MAP_REQUEST_TO_EVENT, enricher));
 
         extender.createChain(SUBMIT_EVENT, jumpTo(MAP_EVENT_TO_RESPONSE), jumpTo(EXCEPTION_OCCURRED));
+        final MessageBus messageBus = messageBus();
         extender.appendProcessor(SUBMIT_EVENT, dispatchEventProcessor(messageBus));
 
         extender.createChain(MAP_EVENT_TO_RESPONSE, jumpTo(POST_INVOKE), jumpTo(EXCEPTION_OCCURRED));
@@ -169,6 +174,15 @@ public final class EventModule implements ChainModule {
         }
     }
 
+    private synchronized MessageBus messageBus() {
+        if (messageBus == null) {
+            messageBus = aMessageBus().forType(ASYNCHRONOUS)
+                    .withAsynchronousConfiguration(constantPoolSizeAsynchronousConfiguration(poolSize))
+                    .build();
+        }
+        return messageBus;
+    }
+
     @SuppressWarnings("unchecked")
     private void registerEventHandlers(final MessageBus messageBus,
                                        final ChainRegistry chainRegistry) {
@@ -24,41 +24,67 @@ package com.envimate.httpmate.jettywithwebsockets;
 import com.envimate.httpmate.HttpMate;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.servlet.ServletHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
 
 import javax.servlet.Servlet;
+import java.util.concurrent.Executor;
 
 import static com.envimate.httpmate.closing.ClosingActions.CLOSING_ACTIONS;
+import static com.envimate.httpmate.jetty.DelegatingThreadPool.delegatingThreadPool;
 import static com.envimate.httpmate.servletwithwebsockets.WebSocketAwareHttpMateServlet.webSocketAwareHttpMateServlet;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class JettyEndpointWithWebSocketsSupport implements AutoCloseable {
     private final HttpMate httpMate;
 
     public static PortStage jettyEndpointWithWebSocketsSupportFor(final HttpMate httpMate) {
-        return port -> {
+        return port -> startJetty(httpMate, port, new QueuedThreadPool());
+    }
+
+    public static PortStage jettyEndpointWithWebSocketsSupportFor(final HttpMate httpMate,
+                                                                  final Executor executor) {
+        validateNotNull(executor, "executor");
+        return port -> startJetty(httpMate, port, delegatingThreadPool(executor));
+    }
+
+    private static JettyEndpointWithWebSocketsSupport startJetty(final HttpMate httpMate,
+                                                                 final int port,
+                                                                 final ThreadPool threadPool) {
+        final Server server = new Server(threadPool);
+        try {
+            final ServerConnector connector = new ServerConnector(server);
+            connector.setPort(port);
+            server.setConnectors(new Connector[]{connector});
+            final ServletHandler servletHandler = new ServletHandler();
+            server.setHandler(servletHandler);
+            final Servlet servlet = webSocketAwareHttpMateServlet(httpMate);
+            final ServletHolder servletHolder = new ServletHolder(servlet);
+            servletHandler.addServletWithMapping(servletHolder, "/*");
+            server.start();
+            httpMate.getMetaDatum(CLOSING_ACTIONS).addClosingAction(() -> {
+                try {
+                    server.stop();
+                } catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        } catch (final Exception e) {
+            final RuntimeException exception = new RuntimeException(e);
             try {
-                final Server server = new Server(port);
-                final ServletHandler servletHandler = new ServletHandler();
-                server.setHandler(servletHandler);
-                final Servlet servlet = webSocketAwareHttpMateServlet(httpMate);
-                final ServletHolder servletHolder = new ServletHolder(servlet);
-                servletHandler.addServletWithMapping(servletHolder, "/*");
-                server.start();
-                httpMate.getMetaDatum(CLOSING_ACTIONS).addClosingAction(() -> {
-                    try {
-                        server.stop();
-                    } catch (final Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-            } catch (final Exception e) {
-                throw new RuntimeException(e);
+                server.stop();
+            } catch (final Exception stopException) {
+                exception.addSuppressed(stopException);
             }
-            return new JettyEndpointWithWebSocketsSupport(httpMate);
-        };
+            throw exception;
+        }
+        return new JettyEndpointWithWebSocketsSupport(httpMate);
     }
 
     @Override
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jetty;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Makes sure that exactly one side completes an asynchronous request: either HttpMate once the
+ * handler is done, or the container when the request times out or fails first.
+ */
+final class AsynchronousCompletion implements AsyncListener {
+    private static final int OPEN = 0;
+    private static final int RESPONDING = 1;
+    private static final int EXPIRED = 2;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final AsyncContext asyncContext;
+    private final HttpServletResponse response;
+    private final AtomicInteger state = new AtomicInteger(OPEN);
+
+    private AsynchronousCompletion(final AsyncContext asyncContext,
+                                   final HttpServletResponse response) {
+        this.asyncContext = asyncContext;
+        this.response = response;
+    }
+
+    static AsynchronousCompletion startAsynchronously(final HttpServletRequest request,
+                                                      final HttpServletResponse response,
+                                                      final Duration timeout) {
+        final AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeout.toMillis());
+        final AsynchronousCompletion completion = new AsynchronousCompletion(asyncContext, response);
+        asyncContext.addListener(completion);
+        return completion;
+    }
+
+    boolean claimResponse() {
+        return state.compareAndSet(OPEN, RESPONDING) || state.get() == RESPONDING;
+    }
+
+    void complete(final Throwable throwable) {
+        if (!claimResponse()) {
+            return;
+        }
+        if (throwable != null && !response.isCommitted()) {
+            response.setStatus(INTERNAL_SERVER_ERROR);
+        }
+        try {
+            asyncContext.complete();
+        } catch (final IllegalStateException ignored) {
+            // the request timed out while the response was being written and the container completed it
+        }
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        expire(SERVICE_UNAVAILABLE);
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        expire(INTERNAL_SERVER_ERROR);
+    }
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+    }
+
+    private void expire(final int status) {
+        if (!state.compareAndSet(OPEN, EXPIRED)) {
+            return;
+        }
+        if (!response.isCommitted()) {
+            response.setStatus(status);
+        }
+        asyncContext.complete();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jetty;
+
+import lombok.ToString;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPoolBudget;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@ToString(of = "executor")
+public final class DelegatingThreadPool implements ThreadPool.SizedThreadPool {
+    private final Executor executor;
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final ThreadPoolBudget budget;
+
+    private DelegatingThreadPool(final Executor executor) {
+        this.executor = executor;
+        this.budget = new ThreadPoolBudget(this);
+    }
+
+    public static DelegatingThreadPool delegatingThreadPool(final Executor executor) {
+        validateNotNull(executor, "executor");
+        return new DelegatingThreadPool(executor);
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (executor instanceof ThreadPoolExecutor) {
+            executor.execute(command);
+            return;
+        }
+        executor.execute(() -> {
+            runningTasks.incrementAndGet();
+            try {
+                command.run();
+            } finally {
+                runningTasks.decrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).awaitTermination(Long.MAX_VALUE, MILLISECONDS);
+        }
+    }
+
+    @Override
+    public int getMinThreads() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getCorePoolSize();
+        }
+        return 0;
+    }
+
+    @Override
+    public int getMaxThreads() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setMinThreads(final int threads) {
+        throw new UnsupportedOperationException("The size of a supplied executor can not be changed by Jetty");
+    }
+
+    @Override
+    public void setMaxThreads(final int threads) {
+        throw new UnsupportedOperationException("The size of a supplied executor can not be changed by Jetty");
+    }
+
+    @Override
+    public int getThreads() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getPoolSize();
+        }
+        return runningTasks.get();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        if (executor instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+            return Math.max(0, threadPoolExecutor.getPoolSize() - threadPoolExecutor.getActiveCount());
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        if (executor instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+            return threadPoolExecutor.getActiveCount() >= threadPoolExecutor.getMaximumPoolSize();
+        }
+        return false;
+    }
+
+    @Override
+    public ThreadPoolBudget getThreadPoolBudget() {
+        return budget;
+    }
+}
@@ -27,30 +27,85 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import static com.envimate.httpmate.closing.ClosingActions.CLOSING_ACTIONS;
+import static com.envimate.httpmate.jetty.DelegatingThreadPool.delegatingThreadPool;
+import static com.envimate.httpmate.jetty.JettyEndpointHandler.asynchronousJettyEndpointHandler;
 import static com.envimate.httpmate.jetty.JettyEndpointHandler.jettyEndpointHandler;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class JettyEndpoint implements AutoCloseable {
+    public static final Duration DEFAULT_ASYNCHRONOUS_TIMEOUT = Duration.ofSeconds(30);
+
     private final HttpMate httpMate;
 
     public static PortStage jettyEndpointFor(final HttpMate httpMate) {
-        return port -> {
+        return port -> startJetty(httpMate, port, jettyEndpointHandler(httpMate), new QueuedThreadPool());
+    }
+
+    public static PortStage jettyEndpointFor(final HttpMate httpMate,
+                                             final Executor executor) {
+        validateNotNull(executor, "executor");
+        return port -> startJetty(httpMate, port, jettyEndpointHandler(httpMate), delegatingThreadPool(executor));
+    }
+
+    public static PortStage asynchronousJettyEndpointFor(final HttpMate httpMate) {
+        return asynchronousJettyEndpointFor(httpMate, DEFAULT_ASYNCHRONOUS_TIMEOUT);
+    }
+
+    public static PortStage asynchronousJettyEndpointFor(final HttpMate httpMate,
+                                                         final Duration timeout) {
+        final Handler handler = asynchronousJettyEndpointHandler(httpMate, timeout);
+        return port -> startJetty(httpMate, port, handler, new QueuedThreadPool());
+    }
+
+    public static PortStage asynchronousJettyEndpointFor(final HttpMate httpMate,
+                                                         final Executor executor) {
+        return asynchronousJettyEndpointFor(httpMate, executor, DEFAULT_ASYNCHRONOUS_TIMEOUT);
+    }
+
+    public static PortStage asynchronousJettyEndpointFor(final HttpMate httpMate,
+                                                         final Executor executor,
+                                                         final Duration timeout) {
+        validateNotNull(executor, "executor");
+        final Handler handler = asynchronousJettyEndpointHandler(httpMate, timeout);
+        return port -> startJetty(httpMate, port, handler, delegatingThreadPool(executor));
+    }
+
+    private static JettyEndpoint startJetty(final HttpMate httpMate,
+                                            final int port,
+                                            final Handler handler,
+                                            final ThreadPool threadPool) {
+        final Server server = new Server(threadPool);
+        try {
+            final ServerConnector connector = new ServerConnector(server);
+            connector.setPort(port);
+            server.setConnectors(new Connector[]{connector});
+            final HttpConnectionFactory connectionFactory = extractConnectionFactory(server);
+            connectionFactory.getHttpConfiguration().setFormEncodedMethods();
+            server.setHandler(handler);
+            server.start();
+            httpMate.getMetaDatum(CLOSING_ACTIONS).addClosingAction(closeJetty(server));
+        } catch (final Exception e) {
+            final RuntimeException exception = new RuntimeException("Could not create Jetty Endpoint", e);
             try {
-                final Server server = new Server(port);
-                final HttpConnectionFactory connectionFactory = extractConnectionFactory(server);
-                connectionFactory.getHttpConfiguration().setFormEncodedMethods();
-                server.setHandler(jettyEndpointHandler(httpMate));
-                server.start();
-                httpMate.getMetaDatum(CLOSING_ACTIONS).addClosingAction(closeJetty(server));
-            } catch (final Exception e) {
-                throw new RuntimeException("Could not create Jetty Endpoint", e);
+                server.stop();
+            } catch (final Exception stopException) {
+                exception.addSuppressed(stopException);
             }
-            return new JettyEndpoint(httpMate);
-        };
+            throw exception;
+        }
+        return new JettyEndpoint(httpMate);
     }
 
     private static ClosingAction closeJetty(final Server server) {
@@ -23,8 +23,11 @@ package com.envimate.httpmate.jetty;
 
 import com.envimate.httpmate.HttpMate;
 import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.body.FileResponseBodyWriter;
+import com.envimate.httpmate.http.body.ResponseBodyWriter;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.jetty.server.HttpOutput;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 
@@ -33,25 +36,38 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static com.envimate.httpmate.HttpMateChainKeys.*;
-import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
-import static com.envimate.httpmate.util.Streams.streamInputStreamToOutputStream;
-import static com.envimate.httpmate.util.Streams.stringToInputStream;
+import static com.envimate.httpmate.jetty.AsynchronousCompletion.startAsynchronously;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.responseBodyWriterFrom;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.writeResponseBody;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
-import static java.util.Collections.singletonList;
+import static java.util.Collections.list;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 final class JettyEndpointHandler extends AbstractHandler {
     private final HttpMate httpMate;
+    private final boolean asynchronous;
+    private final Duration asynchronousTimeout;
 
     static AbstractHandler jettyEndpointHandler(final HttpMate httpMate) {
         validateNotNull(httpMate, "httpMate");
-        return new JettyEndpointHandler(httpMate);
+        return new JettyEndpointHandler(httpMate, false, null);
+    }
+
+    static AbstractHandler asynchronousJettyEndpointHandler(final HttpMate httpMate,
+                                                            final Duration timeout) {
+        validateNotNull(httpMate, "httpMate");
+        validateNotNull(timeout, "timeout");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive but was " + timeout);
+        }
+        return new JettyEndpointHandler(httpMate, true, timeout);
     }
 
     @Override
@@ -65,7 +81,7 @@ final class JettyEndpointHandler extends AbstractHandler {
         final Map<String, String> queryParameters = extractQueryParameters(request);
         final InputStream body = request.getInputStream();
 
-        final MetaData metaData = emptyMetaData();
+        final MetaData metaData = httpMate.borrowRequestMetaData();
         metaData.set(RAW_REQUEST_HEADERS, headers);
         metaData.set(RAW_REQUEST_QUERY_PARAMETERS, queryParameters);
         metaData.set(RAW_METHOD, method);
@@ -73,15 +89,46 @@ final class JettyEndpointHandler extends AbstractHandler {
         metaData.set(REQUEST_BODY_STREAM, body);
         metaData.set(IS_HTTP_REQUEST, true);
 
-        httpMate.handleRequest(metaData, httpResponse -> {
-            final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
-            responseHeaders.forEach(httpServletResponse::setHeader);
-            final int responseStatus = metaData.get(RESPONSE_STATUS);
-            httpServletResponse.setStatus(responseStatus);
-            final OutputStream outputStream = httpServletResponse.getOutputStream();
-            final InputStream inputStream = metaData.getOptional(RESPONSE_STREAM).orElseGet(() -> stringToInputStream(""));
-            streamInputStreamToOutputStream(inputStream, outputStream);
-        });
+        if (asynchronous) {
+            final AsynchronousCompletion completion =
+                    startAsynchronously(httpServletRequest, httpServletResponse, asynchronousTimeout);
+            request.setHandled(true);
+            httpMate.handleRequestAsynchronously(metaData, httpResponse -> {
+                if (completion.claimResponse()) {
+                    writeResponse(metaData, httpServletResponse);
+                }
+            }).whenComplete((ignored, throwable) -> {
+                completion.complete(throwable);
+                httpMate.releaseRequestMetaData(metaData);
+            });
+        } else {
+            try {
+                httpMate.handleRequest(metaData, httpResponse -> writeResponse(metaData, httpServletResponse));
+            } finally {
+                httpMate.releaseRequestMetaData(metaData);
+            }
+        }
+    }
+
+    private static void writeResponse(final MetaData metaData,
+                                      final HttpServletResponse httpServletResponse) throws IOException {
+        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+        responseHeaders.forEach(httpServletResponse::setHeader);
+        metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS).ifPresent(additionalHeaders -> additionalHeaders
+                .forEach((name, values) -> values.forEach(value -> httpServletResponse.addHeader(name, value))));
+        final int responseStatus = metaData.get(RESPONSE_STATUS);
+        httpServletResponse.setStatus(responseStatus);
+        final ResponseBodyWriter responseBody = responseBodyWriterFrom(metaData);
+        responseBody.contentLength().ifPresent(httpServletResponse::setContentLengthLong);
+        final OutputStream outputStream = httpServletResponse.getOutputStream();
+        if (responseBody instanceof FileResponseBodyWriter && outputStream instanceof HttpOutput) {
+            final FileResponseBodyWriter fileResponseBody = (FileResponseBodyWriter) responseBody;
+            if (fileResponseBody.isMappable()) {
+                ((HttpOutput) outputStream).sendContent(fileResponseBody.map());
+                return;
+            }
+        }
+        writeResponseBody(responseBody, outputStream);
     }
 
     private static Map<String, List<String>> extractHeaders(final HttpServletRequest request) {
@@ -89,8 +136,8 @@ final class JettyEndpointHandler extends AbstractHandler {
         final Map<String, List<String>> headers = new HashMap<>();
         while (headerNames.hasMoreElements()) {
             final String headerName = headerNames.nextElement();
-            final String value = request.getHeader(headerName);
-            headers.put(headerName, singletonList(value));
+            final List<String> values = list(request.getHeaders(headerName));
+            headers.put(headerName, values);
         }
         return headers;
     }
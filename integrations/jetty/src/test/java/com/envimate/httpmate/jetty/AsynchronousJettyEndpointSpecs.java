@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jetty;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.handler.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.jetty.JettyEndpoint.asynchronousJettyEndpointFor;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AsynchronousJettyEndpointSpecs {
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+    private static final long LATE_COMPLETION_IN_MILLISECONDS = 600;
+
+    @Test
+    public void anAsynchronousHandlerThatCompletesInTimeIsAnsweredNormally() throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .getAsynchronously("/test", (request, response) -> {
+                    response.setBody("foo");
+                    return CompletableFuture.completedFuture(response);
+                })
+                .build();
+        final int port = freePort();
+        final JettyEndpoint endpoint = asynchronousJettyEndpointFor(httpMate, TIMEOUT).listeningOnThePort(port);
+        try (Socket socket = new Socket("localhost", port)) {
+            assertThat(exchange(socket, "/test"), is("200 foo"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void aSlowHandlerIsTimedOutAndItsLateResponseIsDiscarded() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final CountDownLatch lateCompletionProcessed = new CountDownLatch(1);
+        final HttpMate httpMate = anHttpMate()
+                .getAsynchronously("/slow", (request, response) -> {
+                    final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+                    scheduler.schedule(() -> {
+                        response.setStatus(299);
+                        response.setBody("late");
+                        future.complete(response);
+                        lateCompletionProcessed.countDown();
+                    }, LATE_COMPLETION_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                    return future;
+                })
+                .get("/next", (request, response) -> {
+                    awaitQuietly(lateCompletionProcessed);
+                    response.setBody("next");
+                })
+                .build();
+        final int port = freePort();
+        final JettyEndpoint endpoint = asynchronousJettyEndpointFor(httpMate, TIMEOUT).listeningOnThePort(port);
+        try (Socket socket = new Socket("localhost", port)) {
+            assertThat(exchange(socket, "/slow"), is("503 "));
+            assertThat(exchange(socket, "/next"), is("200 next"));
+            assertThat(lateCompletionProcessed.getCount(), is(0L));
+        } finally {
+            endpoint.close();
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static String exchange(final Socket socket, final String path) throws IOException {
+        final OutputStream outputStream = socket.getOutputStream();
+        outputStream.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(ISO_8859_1));
+        outputStream.flush();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), ISO_8859_1));
+        final String status = readLine(reader).split(" ")[1];
+        int contentLength = 0;
+        String line = readLine(reader);
+        while (!line.isEmpty()) {
+            final String[] header = line.split(":", 2);
+            if (header[0].trim().equalsIgnoreCase("Content-Length")) {
+                contentLength = Integer.parseInt(header[1].trim());
+            }
+            line = readLine(reader);
+        }
+        final char[] body = new char[contentLength];
+        int read = 0;
+        while (read < contentLength) {
+            read += reader.read(body, read, contentLength - read);
+        }
+        return status + " " + new String(body);
+    }
+
+    private static String readLine(final BufferedReader reader) throws IOException {
+        final String line = reader.readLine();
+        if (line == null) {
+            throw new AssertionError("connection was closed");
+        }
+        return line;
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
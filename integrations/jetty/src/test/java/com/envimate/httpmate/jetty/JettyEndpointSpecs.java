@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.jetty;
+
+import com.envimate.httpmate.HttpMate;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.jetty.JettyEndpoint.jettyEndpointFor;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JettyEndpointSpecs {
+    private static final int SUFFICIENT_POOL_SIZE = 16;
+
+    @Test
+    public void jettyCanServeRequestsOnASuppliedFixedThreadPool() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(SUFFICIENT_POOL_SIZE);
+        try {
+            final HttpMate httpMate = anHttpMate()
+                    .get("/test", (request, response) -> response.setBody(Thread.currentThread().getName()))
+                    .build();
+            final int port = freePort();
+            final JettyEndpoint endpoint = jettyEndpointFor(httpMate, executor).listeningOnThePort(port);
+            try {
+                assertThat(get(port, "/test").startsWith("pool-"), is(true));
+            } finally {
+                endpoint.close();
+            }
+            assertThat(executor.isShutdown(), is(false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void jettyCanServeRequestsOnAnExecutorWithoutAKnownSize() throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .build();
+        final int port = freePort();
+        final JettyEndpoint endpoint = jettyEndpointFor(httpMate, command -> new Thread(command).start())
+                .listeningOnThePort(port);
+        try {
+            assertThat(get(port, "/test"), is("foo"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void jettyRefusesToStartOnAThreadPoolThatIsTooSmall() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            final HttpMate httpMate = anHttpMate()
+                    .get("/test", (request, response) -> response.setBody("foo"))
+                    .build();
+            final int port = freePort();
+            final RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> jettyEndpointFor(httpMate, executor).listeningOnThePort(port));
+            assertThat(exception.getCause() instanceof IllegalStateException, is(true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String get(final int port, final String path) throws IOException {
+        final URL url = new URL("http://localhost:" + port + path);
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try (InputStream inputStream = connection.getInputStream()) {
+            return new String(inputStream.readAllBytes(), UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
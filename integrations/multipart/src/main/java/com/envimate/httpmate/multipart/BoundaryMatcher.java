@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class BoundaryMatcher {
+    private static final int ALPHABET_SIZE = 256;
+    private static final int UNSIGNED_MASK = 0xFF;
+
+    private final byte[] pattern;
+    private final int[] shifts;
+
+    static BoundaryMatcher boundaryMatcher(final byte[] pattern) {
+        validateNotNull(pattern, "pattern");
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("pattern must not be empty");
+        }
+        final int last = pattern.length - 1;
+        final int[] shifts = new int[ALPHABET_SIZE];
+        for (int i = 0; i < ALPHABET_SIZE; ++i) {
+            shifts[i] = pattern.length;
+        }
+        for (int i = 0; i < last; ++i) {
+            shifts[pattern[i] & UNSIGNED_MASK] = last - i;
+        }
+        return new BoundaryMatcher(pattern.clone(), shifts);
+    }
+
+    int length() {
+        return pattern.length;
+    }
+
+    int indexIn(final byte[] buffer, final int from, final int to) {
+        final int last = pattern.length - 1;
+        int position = from;
+        while (position + last < to) {
+            int i = last;
+            while (buffer[position + i] == pattern[i]) {
+                if (i == 0) {
+                    return position;
+                }
+                --i;
+            }
+            position += shifts[buffer[position + last] & UNSIGNED_MASK];
+        }
+        return -1;
+    }
+}
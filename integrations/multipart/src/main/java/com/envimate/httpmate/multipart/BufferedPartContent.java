@@ -19,54 +19,63 @@
  * under the License.
  */
 
-package com.envimate.httpmate.multipart.internal;
+package com.envimate.httpmate.multipart;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
-import javax.servlet.ReadListener;
-import javax.servlet.ServletInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Optional.empty;
+
+@ToString
+@EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-final class SpecialServletInputStream extends ServletInputStream {
-    private static final int READ_LIMIT = -1;
-    private final InputStream inputStream;
+final class BufferedPartContent implements PartContent {
+    private final byte[] content;
 
-    static ServletInputStream servletInputStreamBackedBy(final InputStream inputStream) {
-        return new SpecialServletInputStream(inputStream);
+    static PartContent bufferedPartContent(final byte[] content) {
+        validateNotNull(content, "content");
+        return new BufferedPartContent(content);
     }
 
     @Override
-    public int read() throws IOException {
-        return this.inputStream.read();
+    public InputStream open() {
+        return new ByteArrayInputStream(content);
     }
 
     @Override
-    public int read(final byte[] b, final int off, final int len) throws IOException {
-        if (READ_LIMIT > 0) {
-            return this.inputStream.read(b, off, Math.min(READ_LIMIT, len));
-        }
-        return this.inputStream.read(b, off, len);
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(content).asReadOnlyBuffer();
     }
 
     @Override
-    public boolean isFinished() {
-        try {
-            final int available = this.inputStream.available();
-            return available == 0;
-        } catch (final IOException e) {
-            throw new RuntimeException(e);
-        }
+    public Optional<FileChannel> openFileChannel() {
+        return empty();
     }
 
     @Override
-    public boolean isReady() {
-        return true;
+    public void transferTo(final Path target) {
+        validateNotNull(target, "target");
+        try {
+            Files.write(target, content);
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
     }
 
     @Override
-    public void setReadListener(final ReadListener arg0) {
+    public void discard() {
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Locale.ENGLISH;
+
+final class HeaderParameters {
+    private static final char SEPARATOR = ';';
+    private static final char ASSIGNMENT = '=';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+
+    private HeaderParameters() {
+    }
+
+    static Map<String, String> headerParameters(final String parameters) {
+        final Map<String, String> result = new HashMap<>();
+        final int length = parameters.length();
+        int position = 0;
+        while (position < length) {
+            final int assignment = parameters.indexOf(ASSIGNMENT, position);
+            final int separator = parameters.indexOf(SEPARATOR, position);
+            if (assignment < 0 || (separator >= 0 && separator < assignment)) {
+                if (separator < 0) {
+                    break;
+                }
+                position = separator + 1;
+                continue;
+            }
+            final String name = parameters.substring(position, assignment).trim().toLowerCase(ENGLISH);
+            final StringBuilder value = new StringBuilder();
+            position = assignment + 1;
+            while (position < length && parameters.charAt(position) == ' ') {
+                ++position;
+            }
+            if (position < length && parameters.charAt(position) == QUOTE) {
+                ++position;
+                while (position < length && parameters.charAt(position) != QUOTE) {
+                    final char c = parameters.charAt(position);
+                    if (c == ESCAPE && position + 1 < length) {
+                        ++position;
+                    }
+                    value.append(parameters.charAt(position));
+                    ++position;
+                }
+                final int end = parameters.indexOf(SEPARATOR, position);
+                position = end < 0 ? length : end + 1;
+            } else {
+                final int end = parameters.indexOf(SEPARATOR, position);
+                final int valueEnd = end < 0 ? length : end;
+                value.append(parameters.substring(position, valueEnd).trim());
+                position = valueEnd + 1;
+            }
+            result.putIfAbsent(name, value.toString());
+        }
+        return result;
+    }
+}
@@ -23,6 +23,10 @@ package com.envimate.httpmate.multipart;
 
 import com.envimate.httpmate.chains.Configurator;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static com.envimate.httpmate.chains.Configurator.configuratorForType;
 import static com.envimate.httpmate.chains.Configurator.toUseModules;
 import static com.envimate.httpmate.multipart.MultipartModule.multipartModule;
 
@@ -34,4 +38,29 @@ public final class MultipartConfigurators {
     public static Configurator toExposeMultipartBodiesUsingMultipartIteratorBody() {
         return toUseModules(multipartModule());
     }
+
+    public static Configurator toLimitTheSizeOfEachMultipartPartTo(final long maximumPartSizeInBytes) {
+        return configuratorForType(MultipartModule.class,
+                multipartModule -> multipartModule.setMaximumPartSize(maximumPartSizeInBytes));
+    }
+
+    public static Configurator toLimitTheTotalSizeOfMultipartBodiesTo(final long maximumTotalSizeInBytes) {
+        return configuratorForType(MultipartModule.class,
+                multipartModule -> multipartModule.setMaximumTotalSize(maximumTotalSizeInBytes));
+    }
+
+    public static Configurator toSpillMultipartPartsToDiskIfLargerThan(final long thresholdInBytes) {
+        return toSpillMultipartPartsToDiskIfLargerThan(thresholdInBytes, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    public static Configurator toSpillMultipartPartsToDiskIfLargerThan(final long thresholdInBytes,
+                                                                     final Path spillDirectory) {
+        return configuratorForType(MultipartModule.class,
+                multipartModule -> multipartModule.spillPartsToDisk(thresholdInBytes, spillDirectory));
+    }
+
+    public static Configurator toParseMultipartBodiesUsingBuffersOf(final int bufferSizeInBytes) {
+        return configuratorForType(MultipartModule.class,
+                multipartModule -> multipartModule.setBufferSize(bufferSizeInBytes));
+    }
 }
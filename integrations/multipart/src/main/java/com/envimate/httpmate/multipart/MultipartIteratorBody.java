@@ -23,13 +23,12 @@ package com.envimate.httpmate.multipart;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.fileupload.FileItemIterator;
-import org.apache.commons.fileupload.FileItemStream;
-import org.apache.commons.fileupload.FileUploadException;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import static com.envimate.httpmate.multipart.MultipartException.multipartException;
 import static com.envimate.httpmate.multipart.MultipartPart.multipartFile;
@@ -37,19 +36,27 @@ import static com.envimate.httpmate.multipart.MultipartPart.multipartFormControl
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MultipartIteratorBody implements Iterator<MultipartPart> {
-    private final FileItemIterator iterator;
+    private final MultipartStream stream;
+    private final PartStorage partStorage;
+    private final List<PartContent> contents = new ArrayList<>();
+    private PartHeaders upcoming;
+    private boolean exhausted;
 
-    static MultipartIteratorBody multipartIteratorBody(final FileItemIterator fileItemIterator) {
-        return new MultipartIteratorBody(fileItemIterator);
+    static MultipartIteratorBody multipartIteratorBody(final MultipartStream stream, final PartStorage partStorage) {
+        return new MultipartIteratorBody(stream, partStorage);
     }
 
     @Override
     public boolean hasNext() {
-        try {
-            return iterator.hasNext();
-        } catch (final FileUploadException | IOException e) {
-            throw multipartException(e);
+        if (upcoming == null && !exhausted) {
+            try {
+                upcoming = stream.nextPart().orElse(null);
+            } catch (final IOException e) {
+                throw multipartException(e);
+            }
+            exhausted = upcoming == null;
         }
+        return upcoming != null;
     }
 
     public MultipartPart next(final String expectedControlName) {
@@ -64,18 +71,21 @@ public final class MultipartIteratorBody implements Iterator<MultipartPart> {
 
     @Override
     public MultipartPart next() {
-        try {
-            final FileItemStream item = iterator.next();
-            final String controlName = item.getFieldName();
-            final InputStream inputStream = item.openStream();
-            if (!item.isFormField()) {
-                final String name = item.getName();
-                return multipartFile(controlName, name, inputStream);
-            } else {
-                return multipartFormControl(controlName, inputStream);
-            }
-        } catch (final FileUploadException | IOException e) {
-            throw multipartException(e);
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more multipart parts");
         }
+        final PartHeaders headers = upcoming;
+        upcoming = null;
+        final String controlName = headers.controlName();
+        final PartContent content = partStorage.store(stream.partContent());
+        contents.add(content);
+        return headers.fileName()
+                .map(name -> multipartFile(controlName, name, content))
+                .orElseGet(() -> multipartFormControl(controlName, content));
+    }
+
+    void discardContents() {
+        contents.forEach(PartContent::discard);
+        contents.clear();
     }
 }
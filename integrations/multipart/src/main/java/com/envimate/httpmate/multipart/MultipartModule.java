@@ -32,11 +32,21 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.file.Path;
+
 import static com.envimate.httpmate.HttpMateChains.*;
 import static com.envimate.httpmate.chains.ChainName.chainName;
 import static com.envimate.httpmate.chains.rules.Jump.jumpTo;
 import static com.envimate.httpmate.http.headers.ContentType.fromString;
+import static com.envimate.httpmate.multipart.MultipartBufferPool.DEFAULT_BUFFER_SIZE;
+import static com.envimate.httpmate.multipart.MultipartBufferPool.DEFAULT_MAXIMUM_IDLE_BUFFERS;
+import static com.envimate.httpmate.multipart.MultipartBufferPool.multipartBufferPool;
+import static com.envimate.httpmate.multipart.MultipartCleanupProcessor.multipartCleanupProcessor;
+import static com.envimate.httpmate.multipart.MultipartParser.multipartParser;
 import static com.envimate.httpmate.multipart.MultipartProcessor.multipartProcessor;
+import static com.envimate.httpmate.multipart.MultipartStream.UNLIMITED;
+import static com.envimate.httpmate.multipart.PartStorage.spillingPartStorage;
+import static com.envimate.httpmate.multipart.PartStorage.streamingPartStorage;
 import static java.lang.String.format;
 
 @ToString
@@ -48,14 +58,48 @@ public final class MultipartModule implements ChainModule {
     private static final String RULE_DESCRIPTION = format("%s=%s", Http.Headers.CONTENT_TYPE,
             CONTENT_TYPE.internalValueForMapping());
 
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private long maximumPartSize = UNLIMITED;
+    private long maximumTotalSize = UNLIMITED;
+    private PartStorage partStorage = streamingPartStorage();
+
     public static MultipartModule multipartModule() {
         return new MultipartModule();
     }
 
+    public void setBufferSize(final int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be at least 1 but was " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    public void setMaximumPartSize(final long maximumPartSize) {
+        if (maximumPartSize < 0) {
+            throw new IllegalArgumentException("maximumPartSize must not be negative but was " + maximumPartSize);
+        }
+        this.maximumPartSize = maximumPartSize;
+    }
+
+    public void setMaximumTotalSize(final long maximumTotalSize) {
+        if (maximumTotalSize < 0) {
+            throw new IllegalArgumentException("maximumTotalSize must not be negative but was " + maximumTotalSize);
+        }
+        this.maximumTotalSize = maximumTotalSize;
+    }
+
+    public void spillPartsToDisk(final long spillThreshold, final Path spillDirectory) {
+        this.partStorage = spillingPartStorage(spillThreshold, spillDirectory);
+    }
+
     @Override
     public void register(final ChainExtender extender) {
+        final MultipartBufferPool bufferPool = multipartBufferPool(bufferSize, DEFAULT_MAXIMUM_IDLE_BUFFERS);
+        final MultipartParser parser = multipartParser(bufferPool, maximumPartSize, maximumTotalSize, partStorage);
+
         extender.createChain(PROCESS_BODY_MULTIPART, jumpTo(DETERMINE_HANDLER), jumpTo(EXCEPTION_OCCURRED));
-        extender.appendProcessor(PROCESS_BODY_MULTIPART, multipartProcessor());
+        extender.appendProcessor(PROCESS_BODY_MULTIPART, multipartProcessor(parser));
+        extender.appendProcessor(POST_PROCESS, multipartCleanupProcessor());
 
         extender.routeIf(PROCESS_BODY, jumpTo(PROCESS_BODY_MULTIPART), HttpMateChainKeys.REQUEST_CONTENT_TYPE,
                 contentType -> contentType.equals(CONTENT_TYPE), RULE_DESCRIPTION);
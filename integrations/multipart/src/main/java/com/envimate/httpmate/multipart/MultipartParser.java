@@ -22,21 +22,46 @@
 package com.envimate.httpmate.multipart;
 
 import com.envimate.httpmate.http.headers.ContentType;
-import com.envimate.httpmate.multipart.internal.FileUpload;
-import org.apache.commons.fileupload.FileItemIterator;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
 import java.io.InputStream;
 
+import static com.envimate.httpmate.multipart.HeaderParameters.headerParameters;
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
 import static com.envimate.httpmate.multipart.MultipartIteratorBody.multipartIteratorBody;
+import static com.envimate.httpmate.multipart.MultipartStream.multipartStream;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 final class MultipartParser {
+    private static final String BOUNDARY = "boundary";
 
-    private MultipartParser() {
+    private final MultipartBufferPool bufferPool;
+    private final long maximumPartSize;
+    private final long maximumTotalSize;
+    private final PartStorage partStorage;
+
+    static MultipartParser multipartParser(final MultipartBufferPool bufferPool,
+                                           final long maximumPartSize,
+                                           final long maximumTotalSize,
+                                           final PartStorage partStorage) {
+        validateNotNull(bufferPool, "bufferPool");
+        validateNotNull(partStorage, "partStorage");
+        return new MultipartParser(bufferPool, maximumPartSize, maximumTotalSize, partStorage);
     }
 
-    static MultipartIteratorBody parse(final InputStream body, final ContentType contentType) {
-        final String value = contentType.valueWithComment();
-        final FileItemIterator fileItemIterator = FileUpload.parse(body, value);
-        return multipartIteratorBody(fileItemIterator);
+    MultipartIteratorBody parse(final InputStream body, final ContentType contentType) {
+        final String boundary = headerParameters(contentType.comment()).get(BOUNDARY);
+        if (boundary == null || boundary.isEmpty()) {
+            throw multipartException("Multipart request does not specify a boundary in its content type '" +
+                    contentType.valueWithComment() + "'");
+        }
+        final MultipartStream stream = multipartStream(body, boundary, bufferPool, maximumPartSize, maximumTotalSize);
+        return multipartIteratorBody(stream, partStorage);
     }
 }
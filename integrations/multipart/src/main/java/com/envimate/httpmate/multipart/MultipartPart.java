@@ -24,9 +24,14 @@ package com.envimate.httpmate.multipart;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Optional;
 
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
 import static com.envimate.httpmate.util.Streams.inputStreamToString;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static java.util.Optional.ofNullable;
@@ -35,15 +40,15 @@ import static java.util.Optional.ofNullable;
 public final class MultipartPart {
     private final String controlName;
     private final String fileName;
-    private final InputStream content;
+    private final PartContent content;
 
-    static MultipartPart multipartFormControl(final String controlName, final InputStream content) {
+    static MultipartPart multipartFormControl(final String controlName, final PartContent content) {
         validateNotNull(controlName, "controlName");
         validateNotNull(content, "content");
         return new MultipartPart(controlName, null, content);
     }
 
-    static MultipartPart multipartFile(final String controlName, final String fileName, final InputStream content) {
+    static MultipartPart multipartFile(final String controlName, final String fileName, final PartContent content) {
         validateNotNull(controlName, "controlName");
         validateNotNull(fileName, "fileName");
         validateNotNull(content, "content");
@@ -59,10 +64,26 @@ public final class MultipartPart {
     }
 
     public InputStream getContent() {
-        return content;
+        return content.open();
+    }
+
+    public ByteBuffer getContentAsByteBuffer() {
+        return content.asByteBuffer();
+    }
+
+    public Optional<FileChannel> openFileChannel() {
+        return content.openFileChannel();
+    }
+
+    public void transferTo(final Path target) {
+        content.transferTo(target);
     }
 
     public String readContentToString() {
-        return inputStreamToString(content);
+        try (InputStream inputStream = content.open()) {
+            return inputStreamToString(inputStream);
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
     }
 }
@@ -34,22 +34,24 @@ import java.io.InputStream;
 import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_CONTENT_TYPE;
 import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_BODY_STREAM;
 import static com.envimate.httpmate.multipart.MultipartChainKeys.MULTIPART_ITERATOR_BODY;
-import static com.envimate.httpmate.multipart.MultipartParser.parse;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MultipartProcessor implements Processor {
+    private final MultipartParser parser;
 
-    public static Processor multipartProcessor() {
-        return new MultipartProcessor();
+    static Processor multipartProcessor(final MultipartParser parser) {
+        validateNotNull(parser, "parser");
+        return new MultipartProcessor(parser);
     }
 
     @Override
     public void apply(final MetaData metaData) {
         final InputStream body = metaData.get(REQUEST_BODY_STREAM);
         final ContentType contentType = metaData.get(REQUEST_CONTENT_TYPE);
-        final MultipartIteratorBody multipartIteratorBody = parse(body, contentType);
+        final MultipartIteratorBody multipartIteratorBody = parser.parse(body, contentType);
         metaData.set(MULTIPART_ITERATOR_BODY, multipartIteratorBody);
     }
 }
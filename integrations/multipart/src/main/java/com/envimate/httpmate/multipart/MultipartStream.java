@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.envimate.httpmate.multipart.BoundaryMatcher.boundaryMatcher;
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
+import static com.envimate.httpmate.multipart.PartHeaders.partHeaders;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class MultipartStream {
+    static final long UNLIMITED = -1;
+    private static final String DELIMITER_PREFIX = "\r\n--";
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream body;
+    private final BoundaryMatcher delimiter;
+    private final MultipartBufferPool bufferPool;
+    private final long maximumPartSize;
+    private final long maximumTotalSize;
+    private byte[] buffer;
+    private int head;
+    private int tail;
+    private int contentEnd;
+    private boolean delimiterFound;
+    private long partSize;
+    private long totalSize;
+    private boolean insidePart;
+    private boolean finished;
+    private int partIndex;
+
+    static MultipartStream multipartStream(final InputStream body,
+                                           final String boundary,
+                                           final MultipartBufferPool bufferPool,
+                                           final long maximumPartSize,
+                                           final long maximumTotalSize) {
+        validateNotNull(body, "body");
+        validateNotNull(boundary, "boundary");
+        validateNotNull(bufferPool, "bufferPool");
+        final byte[] delimiter = (DELIMITER_PREFIX + boundary).getBytes(ISO_8859_1);
+        if (delimiter.length * 2 > bufferPool.bufferSize()) {
+            throw multipartException("Multipart boundary '" + boundary + "' is too long for buffers of " +
+                    bufferPool.bufferSize() + " bytes");
+        }
+        final MultipartStream stream = new MultipartStream(body, boundaryMatcher(delimiter), bufferPool,
+                maximumPartSize, maximumTotalSize);
+        stream.buffer = bufferPool.borrow();
+        stream.buffer[0] = CR;
+        stream.buffer[1] = LF;
+        stream.tail = 2;
+        return stream;
+    }
+
+    Optional<PartHeaders> nextPart() throws IOException {
+        if (finished) {
+            return empty();
+        }
+        skipContent();
+        head += delimiter.length();
+        contentEnd = head;
+        delimiterFound = false;
+        insidePart = false;
+        ensureAvailable(2);
+        if (buffer[head] == DASH && buffer[head + 1] == DASH) {
+            finish();
+            return empty();
+        }
+        // a single line can never outgrow one buffer, so the buffer size bounds the whole header block too
+        final int maximumHeaderSize = buffer.length;
+        final String restOfBoundaryLine = readLine(maximumHeaderSize);
+        if (!restOfBoundaryLine.isBlank()) {
+            throw multipartException("Malformed multipart boundary line");
+        }
+        final List<String> headerLines = new ArrayList<>();
+        int headerSize = 0;
+        while (true) {
+            final String line = readLine(maximumHeaderSize - headerSize);
+            if (line.isEmpty()) {
+                break;
+            }
+            headerSize += line.length() + 2;
+            if (headerSize > maximumHeaderSize) {
+                throw headersTooLarge();
+            }
+            headerLines.add(line);
+        }
+        contentEnd = head;
+        partSize = 0;
+        insidePart = true;
+        ++partIndex;
+        return of(partHeaders(headerLines));
+    }
+
+    InputStream partContent() {
+        return new PartContent(partIndex);
+    }
+
+    private int readContent(final byte[] target, final int offset, final int length) throws IOException {
+        if (finished || !insidePart) {
+            return -1;
+        }
+        while (head == contentEnd) {
+            if (delimiterFound) {
+                return -1;
+            }
+            locateDelimiter();
+        }
+        final int count = Math.min(length, contentEnd - head);
+        System.arraycopy(buffer, head, target, offset, count);
+        head += count;
+        partSize += count;
+        if (maximumPartSize != UNLIMITED && partSize > maximumPartSize) {
+            throw multipartException("Multipart part exceeds the maximum size of " + maximumPartSize + " bytes");
+        }
+        return count;
+    }
+
+    private void skipContent() throws IOException {
+        while (true) {
+            if (head < contentEnd) {
+                head = contentEnd;
+            } else if (delimiterFound) {
+                return;
+            } else {
+                locateDelimiter();
+            }
+        }
+    }
+
+    private void locateDelimiter() throws IOException {
+        final int index = delimiter.indexIn(buffer, head, tail);
+        if (index >= 0) {
+            contentEnd = index;
+            delimiterFound = true;
+            return;
+        }
+        final int safeEnd = tail - delimiter.length() + 1;
+        if (safeEnd > head) {
+            contentEnd = safeEnd;
+            return;
+        }
+        if (!fill()) {
+            throw multipartException("Unexpected end of multipart body");
+        }
+    }
+
+    private String readLine(final int maximumLength) throws IOException {
+        int scanned = head;
+        while (true) {
+            while (scanned < tail) {
+                if (buffer[scanned] == LF) {
+                    final int end = scanned > head && buffer[scanned - 1] == CR ? scanned - 1 : scanned;
+                    final String line = new String(buffer, head, end - head, UTF_8);
+                    head = scanned + 1;
+                    return line;
+                }
+                ++scanned;
+            }
+            if (scanned - head > maximumLength || (head == 0 && tail == buffer.length)) {
+                throw headersTooLarge();
+            }
+            final int shift = head;
+            if (!fill()) {
+                throw multipartException("Unexpected end of multipart body");
+            }
+            scanned -= shift;
+        }
+    }
+
+    private MultipartException headersTooLarge() {
+        return multipartException("Multipart part headers exceed the maximum size of " + buffer.length + " bytes");
+    }
+
+    private void ensureAvailable(final int count) throws IOException {
+        while (tail - head < count) {
+            if (!fill()) {
+                throw multipartException("Unexpected end of multipart body");
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            contentEnd -= head;
+            head = 0;
+        }
+        final int read = body.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            return false;
+        }
+        tail += read;
+        totalSize += read;
+        if (maximumTotalSize != UNLIMITED && totalSize > maximumTotalSize) {
+            throw multipartException("Multipart body exceeds the maximum size of " + maximumTotalSize + " bytes");
+        }
+        return true;
+    }
+
+    private void finish() {
+        finished = true;
+        insidePart = false;
+        bufferPool.release(buffer);
+        buffer = null;
+    }
+
+    private final class PartContent extends InputStream {
+        private final byte[] single = new byte[1];
+        private final int index;
+        private boolean ended;
+
+        private PartContent(final int index) {
+            super();
+            this.index = index;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = read(single, 0, 1);
+            if (read < 0) {
+                return -1;
+            }
+            return single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] target, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (ended) {
+                return -1;
+            }
+            if (index != partIndex) {
+                throw new IOException("Multipart part '" + index + "' has already been skipped");
+            }
+            final int read = readContent(target, offset, length);
+            if (read < 0) {
+                ended = true;
+            }
+            return read;
+        }
+    }
+}
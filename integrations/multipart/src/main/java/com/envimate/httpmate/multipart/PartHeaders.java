@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.envimate.httpmate.multipart.HeaderParameters.headerParameters;
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
+import static java.util.Optional.ofNullable;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PartHeaders {
+    private static final String CONTENT_DISPOSITION = "content-disposition";
+    private static final String NAME = "name";
+    private static final String FILENAME = "filename";
+
+    private final String controlName;
+    private final String fileName;
+
+    static PartHeaders partHeaders(final List<String> headerLines) {
+        for (final String line : headerLines) {
+            final int colon = line.indexOf(':');
+            if (colon < 0 || !line.substring(0, colon).trim().equalsIgnoreCase(CONTENT_DISPOSITION)) {
+                continue;
+            }
+            final String value = line.substring(colon + 1);
+            final int separator = value.indexOf(';');
+            final Map<String, String> parameters = headerParameters(separator < 0 ? "" : value.substring(separator + 1));
+            final String controlName = parameters.get(NAME);
+            if (controlName == null) {
+                break;
+            }
+            return new PartHeaders(controlName, parameters.get(FILENAME));
+        }
+        throw multipartException("Multipart part does not specify a control name in its Content-Disposition header");
+    }
+
+    String controlName() {
+        return controlName;
+    }
+
+    Optional<String> fileName() {
+        return ofNullable(fileName);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.envimate.httpmate.multipart.BufferedPartContent.bufferedPartContent;
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
+import static com.envimate.httpmate.multipart.StagedPartContent.stagedPartContent;
+import static com.envimate.httpmate.multipart.StreamedPartContent.streamedPartContent;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PartStorage {
+    private static final String SPILL_FILE_PREFIX = "httpmate-multipart-";
+    private static final String SPILL_FILE_SUFFIX = ".part";
+
+    private final long spillThreshold;
+    private final Path spillDirectory;
+
+    static PartStorage streamingPartStorage() {
+        return new PartStorage(0, null);
+    }
+
+    static PartStorage spillingPartStorage(final long spillThreshold, final Path spillDirectory) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException("spillThreshold must not be negative but was " + spillThreshold);
+        }
+        validateNotNull(spillDirectory, "spillDirectory");
+        return new PartStorage(spillThreshold, spillDirectory);
+    }
+
+    PartContent store(final InputStream content) {
+        if (spillDirectory == null) {
+            return streamedPartContent(content);
+        }
+        try {
+            final byte[] head = content.readNBytes((int) Math.min(spillThreshold + 1, Integer.MAX_VALUE - 8));
+            if (head.length <= spillThreshold) {
+                return bufferedPartContent(head);
+            }
+            final Path file = Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+            try (OutputStream outputStream = Files.newOutputStream(file)) {
+                outputStream.write(head);
+                content.transferTo(outputStream);
+            } catch (final IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return stagedPartContent(file);
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.AllArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Optional.of;
+
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class StagedPartContent implements PartContent {
+    private Path file;
+    private boolean owned;
+
+    static PartContent stagedPartContent(final Path file) {
+        validateNotNull(file, "file");
+        return new StagedPartContent(file, true);
+    }
+
+    @Override
+    public InputStream open() {
+        try {
+            return Files.newInputStream(file, READ);
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        try {
+            final FileChannel channel = FileChannel.open(file, READ);
+            try {
+                return channel.map(READ_ONLY, 0, channel.size());
+            } finally {
+                channel.close();
+            }
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
+    }
+
+    @Override
+    public Optional<FileChannel> openFileChannel() {
+        try {
+            return of(FileChannel.open(file, READ));
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
+    }
+
+    @Override
+    public void transferTo(final Path target) {
+        validateNotNull(target, "target");
+        try {
+            Files.move(file, target, REPLACE_EXISTING);
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
+        file = target;
+        owned = false;
+    }
+
+    @Override
+    public void discard() {
+        if (!owned) {
+            return;
+        }
+        owned = false;
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.envimate.httpmate.multipart.MultipartException.multipartException;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Optional.empty;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class StreamedPartContent implements PartContent {
+    private final InputStream inputStream;
+
+    static PartContent streamedPartContent(final InputStream inputStream) {
+        validateNotNull(inputStream, "inputStream");
+        return new StreamedPartContent(inputStream);
+    }
+
+    @Override
+    public InputStream open() {
+        return inputStream;
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        try {
+            return ByteBuffer.wrap(inputStream.readAllBytes()).asReadOnlyBuffer();
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
+    }
+
+    @Override
+    public Optional<FileChannel> openFileChannel() {
+        return empty();
+    }
+
+    @Override
+    public void transferTo(final Path target) {
+        validateNotNull(target, "target");
+        try {
+            Files.copy(inputStream, target, REPLACE_EXISTING);
+        } catch (final IOException e) {
+            throw multipartException(e);
+        }
+    }
+
+    @Override
+    public void discard() {
+    }
+}
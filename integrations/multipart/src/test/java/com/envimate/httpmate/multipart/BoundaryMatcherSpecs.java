@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.envimate.httpmate.multipart.BoundaryMatcher.boundaryMatcher;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BoundaryMatcherSpecs {
+    private static final int RANDOM_ROUNDS = 2000;
+
+    @Test
+    public void thePatternIsFoundAtTheStartInTheMiddleAndAtTheEnd() {
+        final BoundaryMatcher matcher = boundaryMatcher(bytes("\r\n--abc"));
+        assertThat(matcher.indexIn(bytes("\r\n--abcxyz"), 0, 10), is(0));
+        assertThat(matcher.indexIn(bytes("xy\r\n--abcz"), 0, 10), is(2));
+        assertThat(matcher.indexIn(bytes("xyz\r\n--abc"), 0, 10), is(3));
+    }
+
+    @Test
+    public void onlyTheGivenRangeIsSearched() {
+        final BoundaryMatcher matcher = boundaryMatcher(bytes("--abc"));
+        final byte[] buffer = bytes("--abc----abc--");
+        assertThat(matcher.indexIn(buffer, 1, buffer.length), is(7));
+        assertThat(matcher.indexIn(buffer, 1, 11), is(-1));
+        assertThat(matcher.indexIn(buffer, 0, 4), is(-1));
+    }
+
+    @Test
+    public void partialMatchesAreSkipped() {
+        final BoundaryMatcher matcher = boundaryMatcher(bytes("\r\n--abc"));
+        assertThat(matcher.indexIn(bytes("\r\n--ab\r\n-\r\n--abc"), 0, 16), is(9));
+    }
+
+    @Test
+    public void bytesAboveTheSignedRangeAreMatched() {
+        final BoundaryMatcher matcher = boundaryMatcher(new byte[]{(byte) 0xFF, (byte) 0x80});
+        assertThat(matcher.indexIn(new byte[]{0, (byte) 0x80, (byte) 0xFF, (byte) 0x80}, 0, 4), is(2));
+    }
+
+    @Test
+    public void theFirstMatchIsTheSameAsWithANaiveSearch() {
+        final Random random = new Random(42);
+        for (int round = 0; round < RANDOM_ROUNDS; ++round) {
+            final byte[] pattern = randomBytes(random, 1 + random.nextInt(6));
+            final byte[] buffer = randomBytes(random, random.nextInt(64));
+            final int from = buffer.length == 0 ? 0 : random.nextInt(buffer.length);
+            final BoundaryMatcher matcher = boundaryMatcher(pattern);
+            assertThat(matcher.indexIn(buffer, from, buffer.length), is(naiveIndexOf(pattern, buffer, from)));
+        }
+    }
+
+    @Test
+    public void anEmptyPatternIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> boundaryMatcher(new byte[0]));
+    }
+
+    private static int naiveIndexOf(final byte[] pattern, final byte[] buffer, final int from) {
+        for (int position = from; position + pattern.length <= buffer.length; ++position) {
+            int i = 0;
+            while (i < pattern.length && buffer[position + i] == pattern[i]) {
+                ++i;
+            }
+            if (i == pattern.length) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            bytes[i] = (byte) ('a' + random.nextInt(3));
+        }
+        return bytes;
+    }
+
+    private static byte[] bytes(final String string) {
+        return string.getBytes(ISO_8859_1);
+    }
+}
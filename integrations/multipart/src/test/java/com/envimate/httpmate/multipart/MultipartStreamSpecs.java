@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.multipart;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.envimate.httpmate.multipart.MultipartBufferPool.DEFAULT_BUFFER_SIZE;
+import static com.envimate.httpmate.multipart.MultipartBufferPool.multipartBufferPool;
+import static com.envimate.httpmate.multipart.MultipartStream.UNLIMITED;
+import static com.envimate.httpmate.multipart.MultipartStream.multipartStream;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MultipartStreamSpecs {
+    private static final String BOUNDARY = "boundary";
+    private static final int SMALL_BUFFER_SIZE = 64;
+    private static final int LARGE_PART_SIZE = 5 * DEFAULT_BUFFER_SIZE + 123;
+    private static final String TRICKY_CONTENT = "a\r\n--boundar\r\n-\r\r\n--\rb--boundary\r";
+
+    @Test
+    public void partsLargerThanTheBufferAreReadCompletely() throws IOException {
+        final byte[] large = largeContent();
+        final byte[] body = body(part("a", large), part("b", bytes("small")), part("c", large));
+        final List<byte[]> parts = parse(new TricklingInputStream(body, Integer.MAX_VALUE, Integer.MAX_VALUE),
+                DEFAULT_BUFFER_SIZE);
+        assertThat(parts.size(), is(3));
+        assertThat(parts.get(0), is(large));
+        assertThat(parts.get(1), is(bytes("small")));
+        assertThat(parts.get(2), is(large));
+    }
+
+    @Test
+    public void theDelimiterCanBeSplitAtEveryOffset() throws IOException {
+        final byte[] body = body(part("a", bytes(TRICKY_CONTENT)), part("b", bytes("")), part("c", bytes(TRICKY_CONTENT)));
+        for (final int bufferSize : new int[]{SMALL_BUFFER_SIZE, DEFAULT_BUFFER_SIZE}) {
+            for (int firstRead = 1; firstRead < body.length; ++firstRead) {
+                final List<byte[]> parts = parse(new TricklingInputStream(body, firstRead, Integer.MAX_VALUE), bufferSize);
+                assertThat(parts.size(), is(3));
+                assertThat(parts.get(0), is(bytes(TRICKY_CONTENT)));
+                assertThat(parts.get(1), is(bytes("")));
+                assertThat(parts.get(2), is(bytes(TRICKY_CONTENT)));
+            }
+        }
+    }
+
+    @Test
+    public void everyReadSizeOfTheUnderlyingStreamIsSupported() throws IOException {
+        final byte[] body = body(part("a", bytes(TRICKY_CONTENT)), part("b", bytes(TRICKY_CONTENT)));
+        for (int readSize = 1; readSize <= body.length; ++readSize) {
+            final List<byte[]> parts = parse(new TricklingInputStream(body, readSize, readSize), SMALL_BUFFER_SIZE);
+            assertThat(parts.size(), is(2));
+            assertThat(parts.get(0), is(bytes(TRICKY_CONTENT)));
+            assertThat(parts.get(1), is(bytes(TRICKY_CONTENT)));
+        }
+    }
+
+    @Test
+    public void aStreamDeliveringOneBytePerReadIsParsedCompletely() throws IOException {
+        final byte[] large = largeContent();
+        final byte[] body = body(part("a", large), part("b", bytes(TRICKY_CONTENT)));
+        final List<byte[]> parts = parse(new TricklingInputStream(body, 1, 1), DEFAULT_BUFFER_SIZE);
+        assertThat(parts.size(), is(2));
+        assertThat(parts.get(0), is(large));
+        assertThat(parts.get(1), is(bytes(TRICKY_CONTENT)));
+    }
+
+    @Test
+    public void headerLinesAreReadAcrossRefills() throws IOException {
+        final String header = "Content-Disposition: form-data; name=\"field\"; filename=\"a.txt\"";
+        final byte[] body = concat(bytes("--" + BOUNDARY + "\r\n" + header + "\r\n\r\ncontent"), bytes("\r\n--" + BOUNDARY + "--\r\n"));
+        final MultipartStream stream = multipartStream(new TricklingInputStream(body, 1, 1), BOUNDARY,
+                multipartBufferPool(SMALL_BUFFER_SIZE + 16, 1), UNLIMITED, UNLIMITED);
+        final PartHeaders headers = stream.nextPart().orElseThrow();
+        assertThat(headers.controlName(), is("field"));
+        assertThat(headers.fileName(), is(Optional.of("a.txt")));
+        assertThat(stream.partContent().readAllBytes(), is(bytes("content")));
+        assertThat(stream.nextPart().isPresent(), is(false));
+    }
+
+    @Test
+    public void aHeaderLineLongerThanTheBufferIsRejected() {
+        final String header = "Content-Disposition: form-data; name=\"" + "x".repeat(SMALL_BUFFER_SIZE) + "\"";
+        final byte[] body = bytes("--" + BOUNDARY + "\r\n" + header + "\r\n\r\ncontent\r\n--" + BOUNDARY + "--\r\n");
+        final MultipartStream stream = multipartStream(new TricklingInputStream(body, 1, 1), BOUNDARY,
+                multipartBufferPool(SMALL_BUFFER_SIZE, 1), UNLIMITED, UNLIMITED);
+        assertThrows(MultipartException.class, stream::nextPart);
+    }
+
+    @Test
+    public void headersLargerThanTheBufferInTotalAreRejected() {
+        final String headers = "Content-Disposition: form-data; name=\"a\"\r\n" + "X-Header: 0123456789\r\n".repeat(3);
+        final byte[] body = bytes("--" + BOUNDARY + "\r\n" + headers + "\r\ncontent\r\n--" + BOUNDARY + "--\r\n");
+        final MultipartStream stream = multipartStream(new TricklingInputStream(body, Integer.MAX_VALUE, Integer.MAX_VALUE),
+                BOUNDARY, multipartBufferPool(SMALL_BUFFER_SIZE, 1), UNLIMITED, UNLIMITED);
+        assertThrows(MultipartException.class, stream::nextPart);
+    }
+
+    @Test
+    public void unreadPartsAreSkipped() throws IOException {
+        final byte[] body = body(part("a", largeContent()), part("b", bytes("second")));
+        final MultipartStream stream = multipartStream(new TricklingInputStream(body, 7, 7), BOUNDARY,
+                multipartBufferPool(SMALL_BUFFER_SIZE, 1), UNLIMITED, UNLIMITED);
+        stream.nextPart().orElseThrow();
+        final InputStream skipped = stream.partContent();
+        assertThat(stream.nextPart().orElseThrow().controlName(), is("b"));
+        assertThrows(IOException.class, skipped::read);
+        assertThat(stream.partContent().readAllBytes(), is(bytes("second")));
+        assertThat(stream.nextPart().isPresent(), is(false));
+    }
+
+    @Test
+    public void theBufferIsReturnedToThePoolAfterTheLastPart() throws IOException {
+        final MultipartBufferPool bufferPool = multipartBufferPool(SMALL_BUFFER_SIZE, 1);
+        final MultipartStream stream = multipartStream(new TricklingInputStream(body(part("a", bytes("content"))), 3, 3),
+                BOUNDARY, bufferPool, UNLIMITED, UNLIMITED);
+        stream.nextPart().orElseThrow();
+        assertThat(bufferPool.idle(), is(0));
+        assertThat(stream.nextPart().isPresent(), is(false));
+        assertThat(bufferPool.idle(), is(1));
+    }
+
+    @Test
+    public void partsExceedingTheMaximumPartSizeAreRejected() throws IOException {
+        final MultipartStream stream = multipartStream(new TricklingInputStream(body(part("a", largeContent())), 5, 5),
+                BOUNDARY, multipartBufferPool(SMALL_BUFFER_SIZE, 1), DEFAULT_BUFFER_SIZE, UNLIMITED);
+        stream.nextPart().orElseThrow();
+        assertThrows(MultipartException.class, () -> stream.partContent().readAllBytes());
+    }
+
+    @Test
+    public void aTruncatedBodyIsRejected() throws IOException {
+        final byte[] body = bytes("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"a\"\r\n\r\nconte");
+        final MultipartStream stream = multipartStream(new TricklingInputStream(body, 2, 2), BOUNDARY,
+                multipartBufferPool(SMALL_BUFFER_SIZE, 1), UNLIMITED, UNLIMITED);
+        stream.nextPart().orElseThrow();
+        assertThrows(MultipartException.class, () -> stream.partContent().readAllBytes());
+    }
+
+    private static List<byte[]> parse(final InputStream body, final int bufferSize) throws IOException {
+        final MultipartStream stream = multipartStream(body, BOUNDARY, multipartBufferPool(bufferSize, 1), UNLIMITED, UNLIMITED);
+        final List<byte[]> parts = new ArrayList<>();
+        while (stream.nextPart().isPresent()) {
+            parts.add(stream.partContent().readAllBytes());
+        }
+        return parts;
+    }
+
+    private static byte[] part(final String name, final byte[] content) {
+        final byte[] headers = bytes("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n");
+        return concat(headers, concat(content, bytes("\r\n")));
+    }
+
+    private static byte[] body(final byte[]... parts) {
+        byte[] body = new byte[0];
+        for (final byte[] part : parts) {
+            body = concat(body, part);
+        }
+        return concat(body, bytes("--" + BOUNDARY + "--\r\n"));
+    }
+
+    private static byte[] largeContent() {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int i = 0;
+        while (outputStream.size() < LARGE_PART_SIZE) {
+            outputStream.write(i * 31 % 251);
+            if (i % 1000 == 0) {
+                outputStream.writeBytes(bytes(TRICKY_CONTENT));
+            }
+            ++i;
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] concat(final byte[] first, final byte[] second) {
+        final byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static byte[] bytes(final String string) {
+        return string.getBytes(ISO_8859_1);
+    }
+
+    private static final class TricklingInputStream extends InputStream {
+        private final byte[] data;
+        private final int laterReads;
+        private int nextRead;
+        private int position;
+
+        private TricklingInputStream(final byte[] data, final int firstRead, final int laterReads) {
+            super();
+            this.data = data.clone();
+            this.nextRead = firstRead;
+            this.laterReads = laterReads;
+        }
+
+        @Override
+        public int read() {
+            if (position == data.length) {
+                return -1;
+            }
+            return data[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] target, final int offset, final int length) {
+            if (position == data.length) {
+                return -1;
+            }
+            final int count = Math.min(Math.min(length, nextRead), data.length - position);
+            System.arraycopy(data, position, target, offset, count);
+            position += count;
+            nextRead = laterReads;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+@ToString(of = {"bufferSize", "maximumIdleBuffers"})
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class DirectBufferPool {
+    private final Deque<ByteBuffer> idle = new ArrayDeque<>();
+    private final int bufferSize;
+    private final int maximumIdleBuffers;
+
+    static DirectBufferPool directBufferPool(final int bufferSize, final int maximumIdleBuffers) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be at least 1 but was " + bufferSize);
+        }
+        if (maximumIdleBuffers < 0) {
+            throw new IllegalArgumentException("maximumIdleBuffers must not be negative but was " + maximumIdleBuffers);
+        }
+        return new DirectBufferPool(bufferSize, maximumIdleBuffers);
+    }
+
+    synchronized ByteBuffer borrow() {
+        final ByteBuffer buffer = idle.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    synchronized void release(final ByteBuffer buffer) {
+        if (idle.size() < maximumIdleBuffers) {
+            buffer.clear();
+            idle.push(buffer);
+        }
+    }
+
+    synchronized int idle() {
+        return idle.size();
+    }
+}
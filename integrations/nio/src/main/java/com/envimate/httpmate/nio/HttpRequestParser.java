@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.envimate.httpmate.http.Http.StatusCodes.BAD_REQUEST;
+import static com.envimate.httpmate.nio.HttpParseException.httpParseException;
+import static com.envimate.httpmate.nio.ParsedRequest.parsedRequest;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+@ToString(of = {"state", "maximumBodySize"})
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class HttpRequestParser {
+    static final int PAYLOAD_TOO_LARGE = 413;
+    static final int HEADER_FIELDS_TOO_LARGE = 431;
+    static final int NOT_IMPLEMENTED = 501;
+
+    private static final int MAXIMUM_CHUNK_LINE_LENGTH = 1024;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final String CONTENT_LENGTH = "content-length";
+    private static final String TRANSFER_ENCODING = "transfer-encoding";
+    private static final String CONNECTION = "connection";
+    private static final String EXPECT = "expect";
+    private static final String CHUNKED = "chunked";
+    private static final String CLOSE = "close";
+    private static final String KEEP_ALIVE = "keep-alive";
+    private static final String CONTINUE = "100-continue";
+    private static final String HTTP_1_0 = "HTTP/1.0";
+    private static final String HTTP_1_1 = "HTTP/1.1";
+
+    private enum State {
+        HEADERS,
+        FIXED_BODY,
+        CHUNK_SIZE,
+        CHUNK_DATA,
+        CHUNK_DATA_END,
+        TRAILERS
+    }
+
+    private final long maximumBodySize;
+    private State state = State.HEADERS;
+    private String method;
+    private String target;
+    private Map<String, List<String>> headers;
+    private boolean http11;
+    private boolean keepAlive;
+    private boolean expectsContinue;
+    private byte[] fixedBody;
+    private int fixedBodyFilled;
+    private ByteArrayOutputStream chunkedBody;
+    private long chunkRemaining;
+
+    static HttpRequestParser httpRequestParser(final long maximumBodySize) {
+        return new HttpRequestParser(maximumBodySize);
+    }
+
+    boolean isIdle() {
+        return state == State.HEADERS;
+    }
+
+    boolean takeContinueExpectation() {
+        final boolean expected = expectsContinue && state != State.HEADERS;
+        expectsContinue = false;
+        return expected;
+    }
+
+    ParsedRequest parse(final ByteBuffer buffer) {
+        while (true) {
+            switch (state) {
+                case HEADERS:
+                    if (!parseHeaders(buffer)) {
+                        return null;
+                    }
+                    break;
+                case FIXED_BODY:
+                    final int length = Math.min(buffer.remaining(), fixedBody.length - fixedBodyFilled);
+                    buffer.get(fixedBody, fixedBodyFilled, length);
+                    fixedBodyFilled += length;
+                    if (fixedBodyFilled < fixedBody.length) {
+                        return null;
+                    }
+                    return complete(fixedBody);
+                case CHUNK_SIZE:
+                    final String sizeLine = readLine(buffer);
+                    if (sizeLine == null) {
+                        return null;
+                    }
+                    chunkRemaining = chunkSize(sizeLine);
+                    if (chunkedBody.size() + chunkRemaining > maximumBodySize) {
+                        throw httpParseException(PAYLOAD_TOO_LARGE, "Request body exceeds " + maximumBodySize + " bytes");
+                    }
+                    state = chunkRemaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+                    break;
+                case CHUNK_DATA:
+                    final int chunkLength = (int) Math.min(buffer.remaining(), chunkRemaining);
+                    if (chunkLength == 0) {
+                        return null;
+                    }
+                    final byte[] chunk = new byte[chunkLength];
+                    buffer.get(chunk);
+                    chunkedBody.write(chunk, 0, chunkLength);
+                    chunkRemaining -= chunkLength;
+                    if (chunkRemaining == 0) {
+                        state = State.CHUNK_DATA_END;
+                    }
+                    break;
+                case CHUNK_DATA_END:
+                    final String emptyLine = readLine(buffer);
+                    if (emptyLine == null) {
+                        return null;
+                    }
+                    if (!emptyLine.isEmpty()) {
+                        throw httpParseException(BAD_REQUEST, "Chunk data is not terminated by CRLF");
+                    }
+                    state = State.CHUNK_SIZE;
+                    break;
+                case TRAILERS:
+                    final String trailer = readLine(buffer);
+                    if (trailer == null) {
+                        return null;
+                    }
+                    if (trailer.isEmpty()) {
+                        return complete(chunkedBody.toByteArray());
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown parser state " + state);
+            }
+        }
+    }
+
+    private boolean parseHeaders(final ByteBuffer buffer) {
+        final int end = indexOfHeaderEnd(buffer);
+        if (end < 0) {
+            if (buffer.remaining() == buffer.capacity()) {
+                throw httpParseException(HEADER_FIELDS_TOO_LARGE, "Request header exceeds " + buffer.capacity() + " bytes");
+            }
+            return false;
+        }
+        final byte[] headerBytes = new byte[end - buffer.position()];
+        buffer.get(headerBytes);
+        buffer.position(end + 4);
+        final String[] lines = new String(headerBytes, ISO_8859_1).split("\r\n");
+        parseRequestLine(lines[0]);
+        headers = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; ++i) {
+            final String line = lines[i];
+            final int colon = line.indexOf(':');
+            if (colon <= 0 || line.charAt(0) == ' ' || line.charAt(0) == '\t') {
+                throw httpParseException(BAD_REQUEST, "Malformed header line '" + line + "'");
+            }
+            final String name = line.substring(0, colon);
+            if (!name.equals(name.trim())) {
+                throw httpParseException(BAD_REQUEST, "Malformed header name '" + name + "'");
+            }
+            headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(line.substring(colon + 1).trim());
+        }
+        determineFraming();
+        return true;
+    }
+
+    private void parseRequestLine(final String requestLine) {
+        final int firstSpace = requestLine.indexOf(' ');
+        final int lastSpace = requestLine.lastIndexOf(' ');
+        if (firstSpace <= 0 || lastSpace <= firstSpace + 1) {
+            throw httpParseException(BAD_REQUEST, "Malformed request line '" + requestLine + "'");
+        }
+        method = requestLine.substring(0, firstSpace);
+        target = requestLine.substring(firstSpace + 1, lastSpace);
+        final String version = requestLine.substring(lastSpace + 1);
+        if (HTTP_1_1.equals(version)) {
+            http11 = true;
+            keepAlive = true;
+        } else if (HTTP_1_0.equals(version)) {
+            http11 = false;
+            keepAlive = false;
+        } else {
+            throw httpParseException(BAD_REQUEST, "Unsupported protocol version '" + version + "'");
+        }
+    }
+
+    private void determineFraming() {
+        final String connection = lowerCaseHeader(CONNECTION);
+        if (connection != null && connection.contains(CLOSE)) {
+            keepAlive = false;
+        } else if (connection != null && connection.contains(KEEP_ALIVE)) {
+            keepAlive = true;
+        }
+        expectsContinue = CONTINUE.equals(lowerCaseHeader(EXPECT));
+        final String transferEncoding = lowerCaseHeader(TRANSFER_ENCODING);
+        if (transferEncoding != null) {
+            if (!transferEncoding.endsWith(CHUNKED)) {
+                throw httpParseException(NOT_IMPLEMENTED, "Unsupported transfer encoding '" + transferEncoding + "'");
+            }
+            chunkedBody = new ByteArrayOutputStream();
+            state = State.CHUNK_SIZE;
+            return;
+        }
+        final long contentLength = contentLength();
+        if (contentLength > maximumBodySize) {
+            throw httpParseException(PAYLOAD_TOO_LARGE, "Request body exceeds " + maximumBodySize + " bytes");
+        }
+        fixedBody = new byte[(int) contentLength];
+        fixedBodyFilled = 0;
+        state = State.FIXED_BODY;
+    }
+
+    private long contentLength() {
+        final List<String> values = headerValues(CONTENT_LENGTH);
+        if (values == null) {
+            return 0;
+        }
+        long contentLength = -1;
+        for (final String value : values) {
+            for (final String element : value.split(",")) {
+                final long parsed = parseContentLength(element.trim());
+                if (contentLength >= 0 && contentLength != parsed) {
+                    throw httpParseException(BAD_REQUEST, "Conflicting Content-Length headers");
+                }
+                contentLength = parsed;
+            }
+        }
+        return contentLength;
+    }
+
+    private static long parseContentLength(final String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            throw httpParseException(BAD_REQUEST, "Invalid Content-Length '" + value + "'");
+        }
+        for (int i = 0; i < value.length(); ++i) {
+            if (!Character.isDigit(value.charAt(i))) {
+                throw httpParseException(BAD_REQUEST, "Invalid Content-Length '" + value + "'");
+            }
+        }
+        return Long.parseLong(value);
+    }
+
+    private static long chunkSize(final String line) {
+        final int extension = line.indexOf(';');
+        final String size = (extension < 0 ? line : line.substring(0, extension)).trim();
+        if (size.isEmpty() || size.length() > 15) {
+            throw httpParseException(BAD_REQUEST, "Invalid chunk size '" + line + "'");
+        }
+        try {
+            return Long.parseLong(size, 16);
+        } catch (final NumberFormatException e) {
+            throw httpParseException(BAD_REQUEST, "Invalid chunk size '" + line + "'");
+        }
+    }
+
+    private ParsedRequest complete(final byte[] body) {
+        final ParsedRequest request = parsedRequest(method, target, headers, body, http11, keepAlive);
+        state = State.HEADERS;
+        method = null;
+        target = null;
+        headers = null;
+        fixedBody = null;
+        chunkedBody = null;
+        expectsContinue = false;
+        return request;
+    }
+
+    private String lowerCaseHeader(final String name) {
+        final List<String> values = headerValues(name);
+        if (values == null) {
+            return null;
+        }
+        return String.join(",", values).toLowerCase();
+    }
+
+    private List<String> headerValues(final String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (final Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static int indexOfHeaderEnd(final ByteBuffer buffer) {
+        final int limit = buffer.limit() - 3;
+        for (int i = buffer.position(); i < limit; ++i) {
+            if (buffer.get(i) == CR && buffer.get(i + 1) == LF && buffer.get(i + 2) == CR && buffer.get(i + 3) == LF) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String readLine(final ByteBuffer buffer) {
+        final int limit = buffer.limit() - 1;
+        for (int i = buffer.position(); i < limit; ++i) {
+            if (buffer.get(i) == CR && buffer.get(i + 1) == LF) {
+                final byte[] line = new byte[i - buffer.position()];
+                buffer.get(line);
+                buffer.position(i + 2);
+                return new String(line, ISO_8859_1);
+            }
+        }
+        if (buffer.remaining() > MAXIMUM_CHUNK_LINE_LENGTH) {
+            throw httpParseException(BAD_REQUEST, "Chunk line exceeds " + MAXIMUM_CHUNK_LINE_LENGTH + " bytes");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.body.FileResponseBodyWriter;
+import com.envimate.httpmate.http.body.ResponseBodyWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.http.Http.Headers.CONTENT_LENGTH;
+import static com.envimate.httpmate.http.Http.StatusCodes.NOT_MODIFIED;
+import static com.envimate.httpmate.http.Http.StatusCodes.NO_CONTENT;
+import static com.envimate.httpmate.http.Http.StatusCodes.OK;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.responseBodyWriterFrom;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+final class HttpResponseRenderer {
+    private static final DateTimeFormatter HTTP_DATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+    private static final byte[] CONTINUE = "HTTP/1.1 100 Continue\r\n\r\n".getBytes(ISO_8859_1);
+    private static final String CRLF = "\r\n";
+    private static final String TRANSFER_ENCODING = "Transfer-Encoding";
+    private static final String CHUNKED = "chunked";
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(ISO_8859_1);
+    private static final String CONNECTION = "Connection";
+    private static final String DATE = "Date";
+    private static final String CLOSE = "close";
+    private static final int INITIAL_HEADER_CAPACITY = 256;
+
+    private static volatile CachedDate cachedDate = cachedDate(0);
+
+    private HttpResponseRenderer() {
+    }
+
+    static ByteBuffer[] continueResponse() {
+        return new ByteBuffer[]{ByteBuffer.wrap(CONTINUE).asReadOnlyBuffer()};
+    }
+
+    static ByteBuffer[] errorResponse(final int status) {
+        final StringBuilder header = statusLine(status);
+        appendHeader(header, CONTENT_LENGTH, "0");
+        appendHeader(header, CONNECTION, CLOSE);
+        header.append(CRLF);
+        return new ByteBuffer[]{ByteBuffer.wrap(header.toString().getBytes(ISO_8859_1))};
+    }
+
+    static ByteBuffer[] renderResponse(final MetaData metaData,
+                                       final boolean head,
+                                       final boolean chunkingAllowed,
+                                       final boolean keepAlive) throws IOException {
+        final int status = metaData.get(RESPONSE_STATUS);
+        final StringBuilder header = statusLine(status);
+        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+        responseHeaders.forEach((name, value) -> appendUserHeader(header, name, value));
+        metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS).ifPresent(additionalHeaders -> additionalHeaders
+                .forEach((name, values) -> values.forEach(value -> appendUserHeader(header, name, value))));
+        ByteBuffer body = null;
+        boolean chunked = false;
+        if (permitsBody(status)) {
+            final ResponseBodyWriter responseBody = responseBodyWriterFrom(metaData);
+            final OptionalLong knownLength = responseBody.contentLength();
+            if (head && knownLength.isPresent()) {
+                appendHeader(header, CONTENT_LENGTH, Long.toString(knownLength.getAsLong()));
+            } else {
+                body = renderBody(responseBody);
+                chunked = knownLength.isEmpty() && chunkingAllowed;
+                if (chunked) {
+                    appendHeader(header, TRANSFER_ENCODING, CHUNKED);
+                } else {
+                    appendHeader(header, CONTENT_LENGTH, Integer.toString(body.remaining()));
+                }
+                if (head) {
+                    body = null;
+                }
+            }
+        }
+        if (!keepAlive) {
+            appendHeader(header, CONNECTION, CLOSE);
+        }
+        header.append(CRLF);
+        final ByteBuffer headerBuffer = ByteBuffer.wrap(header.toString().getBytes(ISO_8859_1));
+        if (body == null) {
+            return new ByteBuffer[]{headerBuffer};
+        }
+        if (chunked) {
+            return chunkedResponse(headerBuffer, body);
+        }
+        return new ByteBuffer[]{headerBuffer, body};
+    }
+
+    private static ByteBuffer[] chunkedResponse(final ByteBuffer header, final ByteBuffer body) {
+        final ByteBuffer lastChunk = ByteBuffer.wrap(LAST_CHUNK).asReadOnlyBuffer();
+        if (!body.hasRemaining()) {
+            return new ByteBuffer[]{header, lastChunk};
+        }
+        final String chunkSize = Integer.toHexString(body.remaining()) + CRLF;
+        final ByteBuffer chunkHeader = ByteBuffer.wrap(chunkSize.getBytes(ISO_8859_1));
+        final ByteBuffer chunkEnd = ByteBuffer.wrap(CRLF.getBytes(ISO_8859_1));
+        return new ByteBuffer[]{header, chunkHeader, body, chunkEnd, lastChunk};
+    }
+
+    private static ByteBuffer renderBody(final ResponseBodyWriter responseBody) throws IOException {
+        if (responseBody instanceof FileResponseBodyWriter) {
+            final FileResponseBodyWriter fileResponseBody = (FileResponseBodyWriter) responseBody;
+            if (fileResponseBody.isMappable()) {
+                return fileResponseBody.map();
+            }
+        }
+        final OptionalLong contentLength = responseBody.contentLength();
+        final int initialSize = (int) Math.min(contentLength.orElse(INITIAL_HEADER_CAPACITY), Integer.MAX_VALUE - 8);
+        final ExposedByteArrayOutputStream outputStream = new ExposedByteArrayOutputStream(initialSize);
+        responseBody.writeTo(outputStream);
+        return outputStream.asByteBuffer();
+    }
+
+    private static boolean permitsBody(final int status) {
+        return status >= OK && status != NO_CONTENT && status != NOT_MODIFIED;
+    }
+
+    private static StringBuilder statusLine(final int status) {
+        final StringBuilder header = new StringBuilder(INITIAL_HEADER_CAPACITY);
+        header.append("HTTP/1.1 ").append(status).append(' ').append(reasonPhrase(status)).append(CRLF);
+        appendHeader(header, DATE, currentDate());
+        return header;
+    }
+
+    private static void appendUserHeader(final StringBuilder header, final String name, final String value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)
+                || TRANSFER_ENCODING.equalsIgnoreCase(name)
+                || CONNECTION.equalsIgnoreCase(name)
+                || DATE.equalsIgnoreCase(name)) {
+            return;
+        }
+        appendHeader(header, name, value);
+    }
+
+    private static void appendHeader(final StringBuilder header, final String name, final String value) {
+        header.append(name).append(": ").append(value).append(CRLF);
+    }
+
+    private static String currentDate() {
+        final long second = System.currentTimeMillis() / 1000;
+        CachedDate date = cachedDate;
+        if (date.second != second) {
+            date = cachedDate(second);
+            cachedDate = date;
+        }
+        return date.formatted;
+    }
+
+    private static CachedDate cachedDate(final long second) {
+        return new CachedDate(second, HTTP_DATE.format(Instant.ofEpochSecond(second)));
+    }
+
+    private static String reasonPhrase(final int status) {
+        switch (status) {
+            case 200:
+                return "OK";
+            case 201:
+                return "Created";
+            case 204:
+                return "No Content";
+            case 206:
+                return "Partial Content";
+            case 301:
+                return "Moved Permanently";
+            case 302:
+                return "Found";
+            case 303:
+                return "See Other";
+            case 304:
+                return "Not Modified";
+            case 307:
+                return "Temporary Redirect";
+            case 308:
+                return "Permanent Redirect";
+            case 400:
+                return "Bad Request";
+            case 401:
+                return "Unauthorized";
+            case 403:
+                return "Forbidden";
+            case 404:
+                return "Not Found";
+            case 405:
+                return "Method Not Allowed";
+            case 413:
+                return "Payload Too Large";
+            case 416:
+                return "Range Not Satisfiable";
+            case 431:
+                return "Request Header Fields Too Large";
+            case 500:
+                return "Internal Server Error";
+            case 501:
+                return "Not Implemented";
+            case 503:
+                return "Service Unavailable";
+            default:
+                return "";
+        }
+    }
+
+    private static final class CachedDate {
+        private final long second;
+        private final String formatted;
+
+        private CachedDate(final long second, final String formatted) {
+            this.second = second;
+            this.formatted = formatted;
+        }
+    }
+
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private ExposedByteArrayOutputStream(final int initialSize) {
+            super(initialSize);
+        }
+
+        private ByteBuffer asByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
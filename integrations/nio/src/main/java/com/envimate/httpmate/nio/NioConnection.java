@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import com.envimate.httpmate.jfr.EndpointEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+
+import static com.envimate.httpmate.jfr.EndpointEvent.READ;
+import static com.envimate.httpmate.jfr.EndpointEvent.WRITE;
+import static com.envimate.httpmate.jfr.EndpointEvent.endpointEvent;
+import static com.envimate.httpmate.nio.HttpResponseRenderer.continueResponse;
+import static com.envimate.httpmate.nio.HttpResponseRenderer.errorResponse;
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class NioConnection {
+    private static final ByteBuffer[] NO_BUFFERS = new ByteBuffer[0];
+    private static final String ENDPOINT = "nio";
+
+    private final NioEventLoop eventLoop;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final DirectBufferPool bufferPool;
+    private final HttpRequestParser parser;
+    private final Deque<ByteBuffer> pending = new ArrayDeque<>();
+    private ByteBuffer readBuffer;
+    private boolean inFlight;
+    private boolean dispatching;
+    private boolean inputShutdown;
+    private boolean closeAfterWrite;
+    private boolean closed;
+
+    static NioConnection nioConnection(final NioEventLoop eventLoop,
+                                       final SocketChannel channel,
+                                       final SelectionKey key,
+                                       final DirectBufferPool bufferPool,
+                                       final HttpRequestParser parser) {
+        return new NioConnection(eventLoop, channel, key, bufferPool, parser);
+    }
+
+    void onReadable() {
+        if (readBuffer == null) {
+            readBuffer = bufferPool.borrow();
+        } else {
+            readBuffer.compact();
+        }
+        final EndpointEvent event = endpointEvent();
+        int read = 0;
+        try {
+            read = channel.read(readBuffer);
+        } catch (final IOException e) {
+            close();
+            return;
+        } finally {
+            readBuffer.flip();
+            event.complete(ENDPOINT, READ, Math.max(read, 0));
+        }
+        if (read < 0) {
+            inputShutdown = true;
+        }
+        process();
+    }
+
+    void onWritable() {
+        flush();
+    }
+
+    void respond(final ByteBuffer[] response, final boolean keepAlive) {
+        if (closed) {
+            return;
+        }
+        Collections.addAll(pending, response);
+        if (!keepAlive) {
+            closeAfterWrite = true;
+        }
+        inFlight = false;
+        if (!dispatching) {
+            process();
+        }
+    }
+
+    private void process() {
+        if (dispatching || closed) {
+            return;
+        }
+        dispatching = true;
+        try {
+            while (!inFlight && !closeAfterWrite && readBuffer != null) {
+                final ParsedRequest request;
+                try {
+                    request = parser.parse(readBuffer);
+                } catch (final HttpParseException e) {
+                    Collections.addAll(pending, errorResponse(e.status()));
+                    closeAfterWrite = true;
+                    break;
+                }
+                if (request == null) {
+                    if (parser.takeContinueExpectation()) {
+                        Collections.addAll(pending, continueResponse());
+                    }
+                    break;
+                }
+                inFlight = true;
+                eventLoop.dispatch(this, request);
+            }
+            if (readBuffer != null && !readBuffer.hasRemaining()) {
+                bufferPool.release(readBuffer);
+                readBuffer = null;
+            }
+            if (inputShutdown && !inFlight) {
+                closeAfterWrite = true;
+            }
+            flush();
+        } finally {
+            dispatching = false;
+        }
+    }
+
+    private void flush() {
+        if (closed) {
+            return;
+        }
+        if (!pending.isEmpty()) {
+            final EndpointEvent event = endpointEvent();
+            long written = 0;
+            try {
+                written = channel.write(pending.toArray(NO_BUFFERS));
+            } catch (final IOException e) {
+                close();
+                return;
+            } finally {
+                event.complete(ENDPOINT, WRITE, written);
+            }
+            while (!pending.isEmpty() && !pending.peekFirst().hasRemaining()) {
+                pending.pollFirst();
+            }
+        }
+        if (pending.isEmpty() && closeAfterWrite) {
+            close();
+            return;
+        }
+        int interest = 0;
+        if (!pending.isEmpty()) {
+            interest |= OP_WRITE;
+        }
+        if (!inFlight && !closeAfterWrite && !inputShutdown) {
+            interest |= OP_READ;
+        }
+        key.interestOps(interest);
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (final IOException ignored) {
+            // the connection is discarded either way
+        }
+        if (readBuffer != null) {
+            bufferPool.release(readBuffer);
+            readBuffer = null;
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import com.envimate.httpmate.HttpMate;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static com.envimate.httpmate.nio.NioEndpointBuilder.nioEndpointBuilder;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NioEndpoint implements AutoCloseable {
+    private final NioEventLoop eventLoop;
+    private final ExecutorService ownedExecutor;
+
+    public static NioEndpointBuilder nioEndpointFor(final HttpMate httpMate) {
+        validateNotNull(httpMate, "httpMate");
+        return nioEndpointBuilder(httpMate);
+    }
+
+    public static PortStage nioEndpointFor(final HttpMate httpMate,
+                                           final Executor executor) {
+        return nioEndpointFor(httpMate).handlingRequestsOn(executor);
+    }
+
+    static NioEndpoint nioEndpoint(final NioEventLoop eventLoop, final ExecutorService ownedExecutor) {
+        return new NioEndpoint(eventLoop, ownedExecutor);
+    }
+
+    @Override
+    public void close() {
+        eventLoop.close();
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import com.envimate.httpmate.HttpMate;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static com.envimate.httpmate.nio.DirectBufferPool.directBufferPool;
+import static com.envimate.httpmate.nio.NioEndpoint.nioEndpoint;
+import static com.envimate.httpmate.nio.NioEventLoop.nioEventLoop;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NioEndpointBuilder implements PortStage {
+    private static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+    private static final int DEFAULT_MAXIMUM_IDLE_BUFFERS = 256;
+    private static final long DEFAULT_MAXIMUM_BODY_SIZE = 16L * 1024 * 1024;
+    private static final int SYSTEM_DEFAULT_BACKLOG = 0;
+    private static final int DEFAULT_NUMBER_OF_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final HttpMate httpMate;
+    private Executor executor;
+    private Supplier<ExecutorService> ownedExecutor = () -> Executors.newFixedThreadPool(DEFAULT_NUMBER_OF_THREADS);
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private long maximumBodySize = DEFAULT_MAXIMUM_BODY_SIZE;
+    private int backlog = SYSTEM_DEFAULT_BACKLOG;
+
+    static NioEndpointBuilder nioEndpointBuilder(final HttpMate httpMate) {
+        return new NioEndpointBuilder(httpMate);
+    }
+
+    public NioEndpointBuilder handlingRequestsOn(final Executor executor) {
+        validateNotNull(executor, "executor");
+        this.executor = executor;
+        this.ownedExecutor = null;
+        return this;
+    }
+
+    public NioEndpointBuilder handlingRequestsOnAFixedThreadPoolOf(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1 but was " + threads);
+        }
+        this.executor = null;
+        this.ownedExecutor = () -> Executors.newFixedThreadPool(threads);
+        return this;
+    }
+
+    public NioEndpointBuilder handlingRequestsOnTheSelectorThread() {
+        this.executor = Runnable::run;
+        this.ownedExecutor = null;
+        return this;
+    }
+
+    public NioEndpointBuilder withBuffersOf(final int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be at least 1 but was " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    public NioEndpointBuilder withAMaximumRequestBodySizeOf(final long maximumBodySize) {
+        if (maximumBodySize < 0 || maximumBodySize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("maximumBodySize must be between 0 and " + (Integer.MAX_VALUE - 8) +
+                    " but was " + maximumBodySize);
+        }
+        this.maximumBodySize = maximumBodySize;
+        return this;
+    }
+
+    public NioEndpointBuilder withABacklogOf(final int backlog) {
+        if (backlog < 1) {
+            throw new IllegalArgumentException("backlog must be at least 1 but was " + backlog);
+        }
+        this.backlog = backlog;
+        return this;
+    }
+
+    @Override
+    public NioEndpoint listeningOnThePort(final int port) {
+        final DirectBufferPool bufferPool = directBufferPool(bufferSize, DEFAULT_MAXIMUM_IDLE_BUFFERS);
+        final ExecutorService createdExecutor = ownedExecutor != null ? ownedExecutor.get() : null;
+        final NioEventLoop eventLoop;
+        try {
+            eventLoop = nioEventLoop(httpMate, createdExecutor != null ? createdExecutor : executor,
+                    bufferPool, maximumBodySize, port, backlog);
+        } catch (final RuntimeException e) {
+            if (createdExecutor != null) {
+                createdExecutor.shutdown();
+            }
+            throw e;
+        }
+        eventLoop.start();
+        return nioEndpoint(eventLoop, createdExecutor);
+    }
+}
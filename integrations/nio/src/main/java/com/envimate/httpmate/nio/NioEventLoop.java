@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.chains.MetaData;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.http.Http.Methods.HEAD;
+import static com.envimate.httpmate.http.Http.StatusCodes.BAD_REQUEST;
+import static com.envimate.httpmate.http.Http.StatusCodes.INTERNAL_SERVER_ERROR;
+import static com.envimate.httpmate.nio.HttpRequestParser.httpRequestParser;
+import static com.envimate.httpmate.nio.HttpResponseRenderer.errorResponse;
+import static com.envimate.httpmate.nio.HttpResponseRenderer.renderResponse;
+import static com.envimate.httpmate.nio.NioConnection.nioConnection;
+import static java.nio.channels.SelectionKey.OP_ACCEPT;
+import static java.nio.channels.SelectionKey.OP_READ;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class NioEventLoop implements Runnable {
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final HttpMate httpMate;
+    private final Executor executor;
+    private final DirectBufferPool bufferPool;
+    private final long maximumBodySize;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final String name;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+    private volatile Thread thread;
+
+    static NioEventLoop nioEventLoop(final HttpMate httpMate,
+                                     final Executor executor,
+                                     final DirectBufferPool bufferPool,
+                                     final long maximumBodySize,
+                                     final int port,
+                                     final int backlog) {
+        final Selector selector;
+        final ServerSocketChannel serverChannel;
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(new InetSocketAddress(port), backlog);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, OP_ACCEPT);
+        } catch (final IOException e) {
+            closeQuietly(serverChannel, selector);
+            throw new UncheckedIOException("Could not listen on port " + port, e);
+        }
+        return new NioEventLoop(httpMate, executor, bufferPool, maximumBodySize,
+                selector, serverChannel, "httpmate-nio-" + port);
+    }
+
+    void start() {
+        thread = new Thread(this, name);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                runTasks();
+                final Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    final SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handle(key);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            shutdown();
+        }
+    }
+
+    void dispatch(final NioConnection connection, final ParsedRequest request) {
+        try {
+            executor.execute(() -> handleRequest(connection, request));
+        } catch (final RejectedExecutionException e) {
+            connection.respond(errorResponse(SERVICE_UNAVAILABLE), false);
+        }
+    }
+
+    void close() {
+        running = false;
+        selector.wakeup();
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void handle(final SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        final NioConnection connection = (NioConnection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.onReadable();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.onWritable();
+            }
+        } catch (final RuntimeException e) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        try {
+            final SocketChannel channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final SelectionKey key = channel.register(selector, OP_READ);
+            key.attach(nioConnection(this, channel, key, bufferPool, httpRequestParser(maximumBodySize)));
+        } catch (final IOException e) {
+            // a failed accept only affects the connection that was about to be established
+        }
+    }
+
+    private void handleRequest(final NioConnection connection, final ParsedRequest request) {
+        final URI uri;
+        try {
+            uri = new URI(request.target());
+        } catch (final URISyntaxException e) {
+            onLoop(() -> connection.respond(errorResponse(BAD_REQUEST), false));
+            return;
+        }
+        final MetaData metaData = httpMate.borrowRequestMetaData();
+        metaData.set(RAW_REQUEST_HEADERS, request.headers());
+        metaData.set(RAW_REQUEST_QUERY_PARAMETERS, queryToMap(uri.getQuery()));
+        metaData.set(RAW_METHOD, request.method());
+        metaData.set(RAW_PATH, uri.getPath());
+        metaData.set(REQUEST_BODY_STREAM, new ByteArrayInputStream(request.body()));
+        metaData.set(IS_HTTP_REQUEST, true);
+
+        final boolean head = HEAD.equalsIgnoreCase(request.method());
+        final AtomicReference<ByteBuffer[]> rendered = new AtomicReference<>();
+        httpMate.handleRequestAsynchronously(metaData, httpResponse ->
+                rendered.set(renderResponse(metaData, head, request.acceptsChunkedResponses(), request.keepAlive())))
+                .whenComplete((ignored, throwable) -> {
+                    httpMate.releaseRequestMetaData(metaData);
+                    final ByteBuffer[] response = rendered.get();
+                    if (throwable != null || response == null) {
+                        onLoop(() -> connection.respond(errorResponse(INTERNAL_SERVER_ERROR), false));
+                    } else {
+                        onLoop(() -> connection.respond(response, request.keepAlive()));
+                    }
+                });
+    }
+
+    private void onLoop(final Runnable task) {
+        if (Thread.currentThread() == thread) {
+            task.run();
+        } else {
+            tasks.add(task);
+            selector.wakeup();
+        }
+    }
+
+    private void runTasks() {
+        Runnable task = tasks.poll();
+        while (task != null) {
+            task.run();
+            task = tasks.poll();
+        }
+    }
+
+    private void shutdown() {
+        for (final SelectionKey key : selector.keys()) {
+            final Object attachment = key.attachment();
+            if (attachment instanceof NioConnection) {
+                ((NioConnection) attachment).close();
+            }
+        }
+        closeQuietly(serverChannel, selector);
+    }
+
+    private static void closeQuietly(final ServerSocketChannel serverChannel, final Selector selector) {
+        try {
+            serverChannel.close();
+        } catch (final IOException ignored) {
+            // nothing left to release
+        }
+        try {
+            selector.close();
+        } catch (final IOException ignored) {
+            // nothing left to release
+        }
+    }
+
+    private static Map<String, String> queryToMap(final String query) {
+        final Map<String, String> result = new HashMap<>();
+        if (query == null) {
+            return result;
+        }
+        for (final String param : query.split("&")) {
+            final String[] entry = param.split("=");
+            if (entry.length > 1) {
+                result.put(entry[0], entry[1]);
+            } else {
+                result.put(entry[0], "");
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+@ToString(of = {"method", "target"})
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ParsedRequest {
+    private final String method;
+    private final String target;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final boolean http11;
+    private final boolean keepAlive;
+
+    static ParsedRequest parsedRequest(final String method,
+                                       final String target,
+                                       final Map<String, List<String>> headers,
+                                       final byte[] body,
+                                       final boolean http11,
+                                       final boolean keepAlive) {
+        return new ParsedRequest(method, target, headers, body, http11, keepAlive);
+    }
+
+    String method() {
+        return method;
+    }
+
+    String target() {
+        return target;
+    }
+
+    Map<String, List<String>> headers() {
+        return headers;
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    boolean acceptsChunkedResponses() {
+        return http11;
+    }
+
+    boolean keepAlive() {
+        return keepAlive;
+    }
+}
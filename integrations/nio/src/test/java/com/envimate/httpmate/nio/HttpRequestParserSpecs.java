@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static com.envimate.httpmate.nio.HttpRequestParser.HEADER_FIELDS_TOO_LARGE;
+import static com.envimate.httpmate.nio.HttpRequestParser.NOT_IMPLEMENTED;
+import static com.envimate.httpmate.nio.HttpRequestParser.PAYLOAD_TOO_LARGE;
+import static com.envimate.httpmate.nio.HttpRequestParser.httpRequestParser;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HttpRequestParserSpecs {
+    private static final int BUFFER_SIZE = 256;
+    private static final long MAXIMUM_BODY_SIZE = 16;
+
+    @Test
+    public void aRequestWithAFixedLengthBodyIsParsed() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = buffer("POST /items?a=b HTTP/1.1\r\nHost: localhost\r\nContent-Length: 5\r\n\r\nhello");
+
+        final ParsedRequest request = parser.parse(buffer);
+
+        assertThat(request.method(), is("POST"));
+        assertThat(request.target(), is("/items?a=b"));
+        assertThat(request.headers().get("Host"), is(singletonList("localhost")));
+        assertThat(new String(request.body(), ISO_8859_1), is("hello"));
+        assertThat(request.keepAlive(), is(true));
+        assertThat(buffer.hasRemaining(), is(false));
+        assertThat(parser.isIdle(), is(true));
+    }
+
+    @Test
+    public void pipelinedRequestsAreParsedInOrder() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = buffer("GET /first HTTP/1.1\r\n\r\n"
+                + "POST /second HTTP/1.1\r\nContent-Length: 3\r\n\r\nabc"
+                + "GET /third HTTP/1.0\r\n\r\n"
+                + "GET /fourth");
+
+        assertThat(parser.parse(buffer).target(), is("/first"));
+        final ParsedRequest second = parser.parse(buffer);
+        assertThat(second.target(), is("/second"));
+        assertThat(new String(second.body(), ISO_8859_1), is("abc"));
+        final ParsedRequest third = parser.parse(buffer);
+        assertThat(third.target(), is("/third"));
+        assertThat(third.keepAlive(), is(false));
+        assertThat(parser.parse(buffer), is(nullValue()));
+        assertThat(remaining(buffer), is("GET /fourth"));
+    }
+
+    @Test
+    public void headersSplitAcrossReadsAreParsedOnceComplete() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        append(buffer, "GET /split HTTP/1.1\r\nHo");
+        assertThat(parser.parse(buffer), is(nullValue()));
+        append(buffer, "st: localhost\r\n\r");
+        assertThat(parser.parse(buffer), is(nullValue()));
+        append(buffer, "\n");
+        final ParsedRequest request = parser.parse(buffer);
+
+        assertThat(request.target(), is("/split"));
+        assertThat(request.headers().get("Host"), is(singletonList("localhost")));
+    }
+
+    @Test
+    public void bodiesSplitAcrossReadsAreParsedOnceComplete() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        append(buffer, "POST / HTTP/1.1\r\nContent-Length: 6\r\n\r\nabc");
+        assertThat(parser.parse(buffer), is(nullValue()));
+        append(buffer, "def");
+
+        assertThat(new String(parser.parse(buffer).body(), ISO_8859_1), is("abcdef"));
+    }
+
+    @Test
+    public void chunkedBodiesWithExtensionsAndTrailersAreParsed() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        append(buffer, "POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n"
+                + "5;name=value\r\nhello\r\n"
+                + "6\r\n wor");
+        assertThat(parser.parse(buffer), is(nullValue()));
+        append(buffer, "ld\r\n0\r\nChecksum: abc\r\n");
+        assertThat(parser.parse(buffer), is(nullValue()));
+        append(buffer, "\r\nGET /next HTTP/1.1\r\n\r\n");
+        final ParsedRequest request = parser.parse(buffer);
+
+        assertThat(new String(request.body(), ISO_8859_1), is("hello world"));
+        assertThat(parser.parse(buffer).target(), is("/next"));
+    }
+
+    @Test
+    public void aContinueIsExpectedOnlyWhileTheBodyIsOutstanding() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        append(buffer, "POST / HTTP/1.1\r\nExpect: 100-continue\r\nContent-Length: 4\r\n\r\n");
+        assertThat(parser.parse(buffer), is(nullValue()));
+        assertThat(parser.takeContinueExpectation(), is(true));
+        assertThat(parser.takeContinueExpectation(), is(false));
+        append(buffer, "body");
+
+        assertThat(new String(parser.parse(buffer).body(), ISO_8859_1), is("body"));
+        assertThat(parser.takeContinueExpectation(), is(false));
+    }
+
+    @Test
+    public void aContinueIsNotExpectedWhenTheBodyHasAlreadyBeenSent() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = buffer("POST / HTTP/1.1\r\nExpect: 100-continue\r\nContent-Length: 4\r\n\r\nbody");
+
+        assertThat(new String(parser.parse(buffer).body(), ISO_8859_1), is("body"));
+        assertThat(parser.takeContinueExpectation(), is(false));
+    }
+
+    @Test
+    public void repeatedIdenticalContentLengthsAreAccepted() {
+        final HttpRequestParser parser = httpRequestParser(MAXIMUM_BODY_SIZE);
+        final ByteBuffer buffer = buffer("POST / HTTP/1.1\r\nContent-Length: 2\r\nContent-Length: 2, 2\r\n\r\nok");
+
+        assertThat(new String(parser.parse(buffer).body(), ISO_8859_1), is("ok"));
+    }
+
+    @Test
+    public void conflictingContentLengthsAreRejected() {
+        assertRejected("POST / HTTP/1.1\r\nContent-Length: 2\r\nContent-Length: 3\r\n\r\nabc", 400);
+        assertRejected("POST / HTTP/1.1\r\nContent-Length: 2, 3\r\n\r\nabc", 400);
+        assertRejected("POST / HTTP/1.1\r\nContent-Length: -1\r\n\r\n", 400);
+        assertRejected("POST / HTTP/1.1\r\nContent-Length: 0x10\r\n\r\n", 400);
+    }
+
+    @Test
+    public void bodiesLargerThanTheMaximumAreRejected() {
+        assertRejected("POST / HTTP/1.1\r\nContent-Length: 17\r\n\r\n", PAYLOAD_TOO_LARGE);
+        assertRejected("POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n10\r\n0123456789abcdef\r\n1\r\n", PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    public void headersThatDoNotFitIntoTheBufferAreRejected() {
+        final StringBuilder request = new StringBuilder("GET / HTTP/1.1\r\nX-Long: ");
+        while (request.length() < BUFFER_SIZE) {
+            request.append('x');
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.put(request.substring(0, BUFFER_SIZE).getBytes(ISO_8859_1)).flip();
+
+        final HttpParseException exception = assertThrows(HttpParseException.class,
+                () -> httpRequestParser(MAXIMUM_BODY_SIZE).parse(buffer));
+        assertThat(exception.status(), is(HEADER_FIELDS_TOO_LARGE));
+    }
+
+    @Test
+    public void malformedRequestsAreRejected() {
+        assertRejected("GET /\r\n\r\n", 400);
+        assertRejected("GET / HTTP/2.0\r\n\r\n", 400);
+        assertRejected("GET / HTTP/1.1\r\nNoColon\r\n\r\n", 400);
+        assertRejected("GET / HTTP/1.1\r\nName : value\r\n\r\n", 400);
+        assertRejected("POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\nzz\r\n", 400);
+        assertRejected("POST / HTTP/1.1\r\nTransfer-Encoding: gzip\r\n\r\n", NOT_IMPLEMENTED);
+    }
+
+    private static void assertRejected(final String request, final int status) {
+        final HttpParseException exception = assertThrows(HttpParseException.class,
+                () -> httpRequestParser(MAXIMUM_BODY_SIZE).parse(buffer(request)));
+        assertThat(exception.status(), is(status));
+    }
+
+    private static ByteBuffer buffer(final String content) {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        append(buffer, content);
+        return buffer;
+    }
+
+    private static void append(final ByteBuffer buffer, final String content) {
+        if (buffer.position() != 0 || buffer.limit() != buffer.capacity()) {
+            buffer.compact();
+        }
+        buffer.put(content.getBytes(ISO_8859_1));
+        buffer.flip();
+    }
+
+    private static String remaining(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, ISO_8859_1);
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.nio;
+
+import com.envimate.httpmate.HttpMate;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.nio.NioEndpoint.nioEndpointFor;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public final class NioEndpointSpecs {
+    private static final int TIMEOUT_IN_MILLISECONDS = 10_000;
+    private static final int BUFFER_SIZE = 1024;
+    private static final int SLOW_HANDLER_DELAY_IN_MILLISECONDS = 200;
+
+    @Test
+    public void pipelinedRequestsAreAnsweredInOrderEvenIfEarlierOnesTakeLonger() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .get("/slow", (request, response) -> {
+                    sleep(SLOW_HANDLER_DELAY_IN_MILLISECONDS);
+                    response.setBody("slow");
+                })
+                .get("/fast", (request, response) -> response.setBody("fast"))
+                .build();
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(httpMate).handlingRequestsOnAFixedThreadPoolOf(4).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "GET /slow HTTP/1.1\r\n\r\nGET /fast HTTP/1.1\r\n\r\nGET /fast HTTP/1.1\r\nConnection: close\r\n\r\n");
+
+            final String responses = readUntilClosed(socket);
+
+            final int slow = responses.indexOf("\r\n\r\nslow");
+            final int fast = responses.indexOf("\r\n\r\nfast");
+            final int lastFast = responses.lastIndexOf("\r\n\r\nfast");
+            assertThat(slow >= 0, is(true));
+            assertThat(slow < fast, is(true));
+            assertThat(fast < lastFast, is(true));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void headersSplitAcrossReadsAreHandled() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .get("/split", (request, response) -> response.setBody(request.headers().getHeader("X-Name")))
+                .build();
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(httpMate).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "GET /split HTTP/1.1\r\nX-Na");
+            sleep(50);
+            send(socket, "me: value\r\nConnection: close\r\n");
+            sleep(50);
+            send(socket, "\r\n");
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, startsWith("HTTP/1.1 200 OK\r\n"));
+            assertThat(response, containsString("\r\n\r\nvalue"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void aChunkedBodyWithTrailersIsPassedToTheHandler() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .post("/echo", (request, response) -> response.setBody(request.bodyString()))
+                .build();
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(httpMate).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "POST /echo HTTP/1.1\r\nTransfer-Encoding: chunked\r\nConnection: close\r\n\r\n"
+                    + "5\r\nhello\r\n6\r\n world\r\n0\r\nChecksum: 1\r\n\r\n");
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, startsWith("HTTP/1.1 200 OK\r\n"));
+            assertThat(response, containsString("Content-Length: 11\r\n"));
+            assertThat(response, containsString("\r\n\r\nhello world"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void clientsThatExpectAContinueReceiveItBeforeSendingTheBody() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .post("/echo", (request, response) -> response.setBody(request.bodyString()))
+                .build();
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(httpMate).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "POST /echo HTTP/1.1\r\nExpect: 100-continue\r\nContent-Length: 4\r\nConnection: close\r\n\r\n");
+            final String interim = readExactly(socket, "HTTP/1.1 100 Continue\r\n\r\n".length());
+            assertThat(interim, is("HTTP/1.1 100 Continue\r\n\r\n"));
+
+            send(socket, "body");
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, startsWith("HTTP/1.1 200 OK\r\n"));
+            assertThat(response, containsString("\r\n\r\nbody"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void streamedBodiesAreSentChunked() throws Exception {
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(streamingHttpMate()).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "GET /stream HTTP/1.1\r\nConnection: close\r\n\r\n");
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, containsString("Transfer-Encoding: chunked\r\n"));
+            assertThat(response, not(containsString("Content-Length")));
+            assertThat(response, containsString("\r\n\r\n8\r\nstreamed\r\n0\r\n\r\n"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void streamedBodiesAreSentWithAContentLengthToHttp10Clients() throws Exception {
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(streamingHttpMate()).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "GET /stream HTTP/1.0\r\n\r\n");
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, containsString("Content-Length: 8\r\n"));
+            assertThat(response, not(containsString("Transfer-Encoding")));
+            assertThat(response, containsString("\r\n\r\nstreamed"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void conflictingContentLengthsAreAnsweredWithBadRequestAndTheConnectionIsClosed() throws Exception {
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(echoingHttpMate()).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "POST /echo HTTP/1.1\r\nContent-Length: 1\r\nContent-Length: 2\r\n\r\nab");
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, startsWith("HTTP/1.1 400 Bad Request\r\n"));
+            assertThat(response, containsString("Connection: close\r\n"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void bodiesLargerThanTheMaximumAreAnsweredWithPayloadTooLarge() throws Exception {
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(echoingHttpMate())
+                .withAMaximumRequestBodySizeOf(8)
+                .listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "POST /echo HTTP/1.1\r\nContent-Length: 9\r\n\r\n");
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, startsWith("HTTP/1.1 413 Payload Too Large\r\n"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void headersLargerThanTheBufferAreAnsweredWithRequestHeaderFieldsTooLarge() throws Exception {
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(echoingHttpMate()).withBuffersOf(BUFFER_SIZE).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            final StringBuilder request = new StringBuilder("GET /echo HTTP/1.1\r\nX-Long: ");
+            while (request.length() < 2 * BUFFER_SIZE) {
+                request.append('x');
+            }
+            send(socket, request.toString());
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, startsWith("HTTP/1.1 431 Request Header Fields Too Large\r\n"));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void handlersDoNotRunOnTheSelectorThreadByDefault() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .get("/thread", (request, response) -> response.setBody(Thread.currentThread().getName()))
+                .build();
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(httpMate).listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "GET /thread HTTP/1.1\r\nConnection: close\r\n\r\n");
+
+            final String response = readUntilClosed(socket);
+
+            assertThat(response, startsWith("HTTP/1.1 200 OK\r\n"));
+            assertThat(response, not(containsString("\r\n\r\nhttpmate-nio-")));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void handlersCanBeRunOnTheSelectorThread() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .get("/thread", (request, response) -> response.setBody(Thread.currentThread().getName()))
+                .build();
+        final int port = freePort();
+        final NioEndpoint endpoint = nioEndpointFor(httpMate).handlingRequestsOnTheSelectorThread().listeningOnThePort(port);
+        try (Socket socket = connect(port)) {
+            send(socket, "GET /thread HTTP/1.1\r\nConnection: close\r\n\r\n");
+
+            assertThat(readUntilClosed(socket), containsString("\r\n\r\nhttpmate-nio-" + port));
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    public void suppliedExecutorsAreNotShutDown() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final int port = freePort();
+            nioEndpointFor(echoingHttpMate(), executor).listeningOnThePort(port).close();
+            assertThat(executor.isShutdown(), is(false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static HttpMate echoingHttpMate() {
+        return anHttpMate()
+                .get("/echo", (request, response) -> response.setBody("echo"))
+                .post("/echo", (request, response) -> response.setBody(request.bodyString()))
+                .build();
+    }
+
+    private static HttpMate streamingHttpMate() {
+        return anHttpMate()
+                .get("/stream", (request, response) ->
+                        response.setBody(new ByteArrayInputStream("streamed".getBytes(ISO_8859_1))))
+                .build();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    private static Socket connect(final int port) throws IOException {
+        final Socket socket = new Socket("localhost", port);
+        socket.setSoTimeout(TIMEOUT_IN_MILLISECONDS);
+        return socket;
+    }
+
+    private static void send(final Socket socket, final String data) throws IOException {
+        final OutputStream outputStream = socket.getOutputStream();
+        outputStream.write(data.getBytes(ISO_8859_1));
+        outputStream.flush();
+    }
+
+    private static String readExactly(final Socket socket, final int length) throws IOException {
+        final InputStream inputStream = socket.getInputStream();
+        final byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            final int result = inputStream.read(bytes, read, length - read);
+            if (result < 0) {
+                break;
+            }
+            read += result;
+        }
+        return new String(bytes, 0, read, ISO_8859_1);
+    }
+
+    private static String readUntilClosed(final Socket socket) throws IOException {
+        final InputStream inputStream = socket.getInputStream();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read = inputStream.read(buffer);
+        while (read >= 0) {
+            outputStream.write(buffer, 0, read);
+            read = inputStream.read(buffer);
+        }
+        return new String(outputStream.toByteArray(), ISO_8859_1);
+    }
+
+    private static void sleep(final long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -24,20 +24,26 @@ package com.envimate.httpmate.servletwithwebsockets;
 import com.envimate.httpmate.HttpMate;
 import com.envimate.httpmate.chains.MetaData;
 import com.envimate.httpmate.websockets.WebSocketDelegate;
+import com.envimate.httpmate.websockets.WebSocketSendCallback;
 import com.envimate.httpmate.websockets.registry.WebSocketId;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.jetty.websocket.api.BatchMode;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketListener;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_BODY_STREAM;
 import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
 import static com.envimate.httpmate.util.Streams.stringToInputStream;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static com.envimate.httpmate.websockets.WebsocketChainKeys.IS_WEBSOCKET_MESSAGE;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_BINARY_MESSAGE;
 import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_ID;
 import static com.envimate.httpmate.websockets.WebsocketChains.WEBSOCKET_CLOSED;
 import static com.envimate.httpmate.websockets.WebsocketChains.WEBSOCKET_OPEN;
@@ -65,24 +71,66 @@ public final class JettyStyleWebSocket implements WebSocketListener, WebSocketDe
         }
     }
 
+    @Override
+    public void sendText(final String text,
+                         final boolean moreToFollow,
+                         final WebSocketSendCallback callback) {
+        final RemoteEndpoint remote = session.getRemote();
+        remote.setBatchMode(moreToFollow ? BatchMode.ON : BatchMode.OFF);
+        remote.sendString(text, writeCallback(callback));
+    }
+
+    @Override
+    public void sendBinary(final ByteBuffer bytes) {
+        final RemoteEndpoint remote = session.getRemote();
+        try {
+            remote.sendBytes(bytes);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void sendBinary(final ByteBuffer bytes,
+                           final boolean moreToFollow,
+                           final WebSocketSendCallback callback) {
+        final RemoteEndpoint remote = session.getRemote();
+        remote.setBatchMode(moreToFollow ? BatchMode.ON : BatchMode.OFF);
+        remote.sendBytes(bytes, writeCallback(callback));
+    }
+
     @Override
     public void close() {
         this.session.close();
     }
 
     @Override
-    public void onWebSocketBinary(final byte[] bytes, final int i, final int i1) {
-        throw new UnsupportedOperationException();
+    public void onWebSocketBinary(final byte[] bytes, final int offset, final int length) {
+        final MetaData metaData = httpMate.borrowRequestMetaData();
+        metaData.set(WEBSOCKET_ID, id);
+        metaData.set(WEBSOCKET_BINARY_MESSAGE, ByteBuffer.wrap(bytes, offset, length));
+        metaData.set(REQUEST_BODY_STREAM, new ByteArrayInputStream(bytes, offset, length));
+        metaData.set(IS_WEBSOCKET_MESSAGE, true);
+        try {
+            httpMate.handleRequest(metaData, m -> {
+            });
+        } finally {
+            httpMate.releaseRequestMetaData(metaData);
+        }
     }
 
     @Override
     public void onWebSocketText(final String text) {
-        final MetaData metaData = emptyMetaData();
+        final MetaData metaData = httpMate.borrowRequestMetaData();
         metaData.set(WEBSOCKET_ID, id);
         metaData.set(REQUEST_BODY_STREAM, stringToInputStream(text));
         metaData.set(IS_WEBSOCKET_MESSAGE, true);
-        httpMate.handleRequest(metaData, m -> {
-        });
+        try {
+            httpMate.handleRequest(metaData, m -> {
+            });
+        } finally {
+            httpMate.releaseRequestMetaData(metaData);
+        }
     }
 
     @Override
@@ -103,4 +151,18 @@ public final class JettyStyleWebSocket implements WebSocketListener, WebSocketDe
     @Override
     public void onWebSocketError(final Throwable throwable) {
     }
+
+    private static WriteCallback writeCallback(final WebSocketSendCallback callback) {
+        return new WriteCallback() {
+            @Override
+            public void writeFailed(final Throwable cause) {
+                callback.failed(cause);
+            }
+
+            @Override
+            public void writeSuccess() {
+                callback.succeeded();
+            }
+        };
+    }
 }
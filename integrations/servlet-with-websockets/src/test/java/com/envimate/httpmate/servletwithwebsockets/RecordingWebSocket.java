@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.servletwithwebsockets;
+
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WebSocketAdapter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+final class RecordingWebSocket extends WebSocketAdapter {
+    private static final int TIMEOUT_IN_SECONDS = 10;
+
+    private final BlockingQueue<String> textMessages = new LinkedBlockingQueue<>();
+    private final BlockingQueue<ByteBuffer> binaryMessages = new LinkedBlockingQueue<>();
+
+    private RecordingWebSocket() {
+    }
+
+    static RecordingWebSocket recordingWebSocket() {
+        return new RecordingWebSocket();
+    }
+
+    @Override
+    public void onWebSocketText(final String message) {
+        textMessages.add(message);
+    }
+
+    @Override
+    public void onWebSocketBinary(final byte[] payload, final int offset, final int length) {
+        binaryMessages.add(ByteBuffer.wrap(payload, offset, length));
+    }
+
+    void sendText(final String message) throws IOException {
+        getRemote().sendString(message);
+    }
+
+    void sendBinary(final ByteBuffer message) throws IOException {
+        final ByteBuffer copy = ByteBuffer.allocate(message.remaining());
+        copy.put(message.duplicate()).flip();
+        getRemote().sendBytes(copy);
+    }
+
+    String nextTextMessage() throws InterruptedException {
+        final String message = textMessages.poll(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        if (message == null) {
+            throw new AssertionError("no text message received");
+        }
+        return message;
+    }
+
+    ByteBuffer nextBinaryMessage() throws InterruptedException {
+        final ByteBuffer message = binaryMessages.poll(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        if (message == null) {
+            throw new AssertionError("no binary message received");
+        }
+        return message;
+    }
+
+    boolean hasNoMessageWithin(final long milliseconds) throws InterruptedException {
+        Thread.sleep(milliseconds);
+        return textMessages.isEmpty() && binaryMessages.isEmpty();
+    }
+
+    void close() {
+        final Session session = getSession();
+        if (session != null) {
+            session.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.servletwithwebsockets;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.websockets.handler.BinaryWebSocketMessageHandler;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.servletwithwebsockets.WebSocketServer.webSocketServerFor;
+import static com.envimate.httpmate.websockets.WebSocketsConfigurator.toUseWebSockets;
+import static com.envimate.httpmate.websockets.handler.WebSocketCondition.webSocketMessageIsTaggedWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class WebSocketBinaryMessageSpecs {
+
+    @Test
+    public void binaryMessagesAreEchoedAsBinaryMessages() throws Exception {
+        final BinaryWebSocketMessageHandler echo = Optional::of;
+        final HttpMate httpMate = anHttpMate()
+                .serving(echo).when(webSocketMessageIsTaggedWith("ECHO"))
+                .configured(toUseWebSockets().acceptingWebSocketsToThePath("/echo").taggedBy("ECHO"))
+                .build();
+        try (WebSocketServer server = webSocketServerFor(httpMate)) {
+            final RecordingWebSocket webSocket = server.connect("/echo");
+            server.awaitActiveWebSockets(1);
+
+            final byte[] payload = {0, 1, 2, (byte) 0xFF, 127, -128};
+            webSocket.sendBinary(ByteBuffer.wrap(payload));
+
+            assertThat(webSocket.nextBinaryMessage(), is(ByteBuffer.wrap(payload)));
+        }
+    }
+
+    @Test
+    public void binaryHandlersCanChooseNotToRespond() throws Exception {
+        final BinaryWebSocketMessageHandler silent = message -> Optional.empty();
+        final HttpMate httpMate = anHttpMate()
+                .serving(silent).when(webSocketMessageIsTaggedWith("SILENT"))
+                .configured(toUseWebSockets().acceptingWebSocketsToThePath("/silent").taggedBy("SILENT"))
+                .build();
+        try (WebSocketServer server = webSocketServerFor(httpMate)) {
+            final RecordingWebSocket webSocket = server.connect("/silent");
+            server.awaitActiveWebSockets(1);
+
+            webSocket.sendBinary(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+
+            assertThat(webSocket.hasNoMessageWithin(200), is(true));
+        }
+    }
+}
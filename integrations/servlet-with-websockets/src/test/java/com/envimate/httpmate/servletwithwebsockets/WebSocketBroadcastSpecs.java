@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.servletwithwebsockets;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.chains.MetaData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_BODY_STRING;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.servletwithwebsockets.WebSocketServer.webSocketServerFor;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_BINARY_RESPONSE;
+import static com.envimate.httpmate.websockets.WebSocketsConfigurator.toUseWebSockets;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class WebSocketBroadcastSpecs {
+    private static final int NUMBER_OF_WEB_SOCKETS = 3;
+
+    @Test
+    public void aTextMessageCanBeBroadcastToSeveralWebSockets() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .configured(toUseWebSockets().acceptingWebSocketsToThePath("/broadcast").taggedBy("BROADCAST"))
+                .build();
+        try (WebSocketServer server = webSocketServerFor(httpMate)) {
+            final List<RecordingWebSocket> webSockets = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_WEB_SOCKETS; ++i) {
+                webSockets.add(server.connect("/broadcast"));
+            }
+            server.awaitActiveWebSockets(NUMBER_OF_WEB_SOCKETS);
+
+            final MetaData metaData = emptyMetaData();
+            metaData.set(RESPONSE_BODY_STRING, "hello everyone ✓");
+            server.broadcast(metaData);
+
+            for (final RecordingWebSocket webSocket : webSockets) {
+                assertThat(webSocket.nextTextMessage(), is("hello everyone ✓"));
+            }
+        }
+    }
+
+    @Test
+    public void aBinaryMessageCanBeBroadcastToSeveralWebSockets() throws Exception {
+        final HttpMate httpMate = anHttpMate()
+                .configured(toUseWebSockets().acceptingWebSocketsToThePath("/broadcast").taggedBy("BROADCAST"))
+                .build();
+        try (WebSocketServer server = webSocketServerFor(httpMate)) {
+            final List<RecordingWebSocket> webSockets = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_WEB_SOCKETS; ++i) {
+                webSockets.add(server.connect("/broadcast"));
+            }
+            server.awaitActiveWebSockets(NUMBER_OF_WEB_SOCKETS);
+
+            final byte[] payload = {42, 0, -1, 7};
+            final MetaData metaData = emptyMetaData();
+            metaData.set(WEBSOCKET_BINARY_RESPONSE, ByteBuffer.wrap(payload));
+            metaData.set(RESPONSE_BODY_STRING, "ignored in favour of the binary response");
+            server.broadcast(metaData);
+
+            for (final RecordingWebSocket webSocket : webSockets) {
+                assertThat(webSocket.nextBinaryMessage(), is(ByteBuffer.wrap(payload)));
+                assertThat(webSocket.hasNoMessageWithin(0), is(true));
+            }
+        }
+    }
+}
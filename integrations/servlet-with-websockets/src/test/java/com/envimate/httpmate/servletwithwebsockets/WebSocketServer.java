@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.servletwithwebsockets;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.websockets.registry.WebSocketRegistry;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.envimate.httpmate.servletwithwebsockets.RecordingWebSocket.recordingWebSocket;
+import static com.envimate.httpmate.servletwithwebsockets.WebSocketAwareHttpMateServlet.webSocketAwareHttpMateServlet;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.RECIPIENT_WEBSOCKETS;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_REGISTRY;
+import static com.envimate.httpmate.websockets.WebsocketChains.SEND_TO_WEBSOCKETS;
+
+final class WebSocketServer implements AutoCloseable {
+    private static final int TIMEOUT_IN_SECONDS = 10;
+    private static final int POLL_INTERVAL_IN_MILLISECONDS = 10;
+
+    private final HttpMate httpMate;
+    private final Server server;
+    private final WebSocketClient client;
+
+    private WebSocketServer(final HttpMate httpMate, final Server server, final WebSocketClient client) {
+        this.httpMate = httpMate;
+        this.server = server;
+        this.client = client;
+    }
+
+    static WebSocketServer webSocketServerFor(final HttpMate httpMate) throws Exception {
+        final Server server = new Server(0);
+        final ServletHandler servletHandler = new ServletHandler();
+        servletHandler.addServletWithMapping(new ServletHolder(webSocketAwareHttpMateServlet(httpMate)), "/*");
+        server.setHandler(servletHandler);
+        server.start();
+        final WebSocketClient client = new WebSocketClient();
+        client.start();
+        return new WebSocketServer(httpMate, server, client);
+    }
+
+    RecordingWebSocket connect(final String path) throws Exception {
+        final int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        final RecordingWebSocket webSocket = recordingWebSocket();
+        client.connect(webSocket, URI.create("ws://localhost:" + port + path)).get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        return webSocket;
+    }
+
+    void awaitActiveWebSockets(final int numberOfWebSockets) throws InterruptedException {
+        final WebSocketRegistry registry = httpMate.getMetaDatum(WEBSOCKET_REGISTRY);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_IN_SECONDS);
+        while (registry.allActiveWebSockets().size() != numberOfWebSockets) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("expected " + numberOfWebSockets + " active web sockets but got "
+                        + registry.allActiveWebSockets().size());
+            }
+            Thread.sleep(POLL_INTERVAL_IN_MILLISECONDS);
+        }
+    }
+
+    void broadcast(final MetaData metaData) {
+        final WebSocketRegistry registry = httpMate.getMetaDatum(WEBSOCKET_REGISTRY);
+        metaData.set(RECIPIENT_WEBSOCKETS, new ArrayList<>(registry.allActiveWebSockets()));
+        httpMate.handle(SEND_TO_WEBSOCKETS, metaData);
+    }
+
+    @Override
+    public void close() {
+        try {
+            client.stop();
+            server.stop();
+        } catch (final Exception e) {
+            throw new IllegalStateException("could not stop the web socket server", e);
+        }
+    }
+}
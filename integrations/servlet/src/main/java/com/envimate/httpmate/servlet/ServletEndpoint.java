@@ -27,51 +27,91 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
 
 import static com.envimate.httpmate.servlet.ServletHandling.handle;
+import static com.envimate.httpmate.servlet.ServletHandling.handleAsynchronously;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 
 public class ServletEndpoint extends HttpServlet {
+    public static final Duration DEFAULT_ASYNCHRONOUS_TIMEOUT = Duration.ofSeconds(30);
     private static final long serialVersionUID = 0L;
 
     private final transient HttpMate httpMate;
+    private final boolean asynchronous;
+    private final Duration asynchronousTimeout;
 
     public ServletEndpoint(final HttpMate httpMate) {
+        this(httpMate, false);
+    }
+
+    protected ServletEndpoint(final HttpMate httpMate,
+                              final boolean asynchronous) {
+        this(httpMate, asynchronous, DEFAULT_ASYNCHRONOUS_TIMEOUT);
+    }
+
+    protected ServletEndpoint(final HttpMate httpMate,
+                              final boolean asynchronous,
+                              final Duration asynchronousTimeout) {
         validateNotNull(httpMate, "httpMate");
+        validateNotNull(asynchronousTimeout, "asynchronousTimeout");
+        if (asynchronousTimeout.isNegative() || asynchronousTimeout.isZero()) {
+            throw new IllegalArgumentException("asynchronousTimeout must be positive but was " + asynchronousTimeout);
+        }
         this.httpMate = httpMate;
+        this.asynchronous = asynchronous;
+        this.asynchronousTimeout = asynchronousTimeout;
     }
 
     public static ServletEndpoint servletEndpointFor(final HttpMate httpMate) {
         return new ServletEndpoint(httpMate);
     }
 
+    public static ServletEndpoint asynchronousServletEndpointFor(final HttpMate httpMate) {
+        return new ServletEndpoint(httpMate, true);
+    }
+
+    public static ServletEndpoint asynchronousServletEndpointFor(final HttpMate httpMate,
+                                                                 final Duration timeout) {
+        return new ServletEndpoint(httpMate, true, timeout);
+    }
+
     @Override
     protected void doGet(final HttpServletRequest request,
                          final HttpServletResponse response) throws IOException {
-        handle(httpMate, request, response);
+        dispatch(request, response);
     }
 
     @Override
     protected void doPost(final HttpServletRequest request,
                           final HttpServletResponse response) throws IOException {
-        handle(httpMate, request, response);
+        dispatch(request, response);
     }
 
     @Override
     protected void doPut(final HttpServletRequest request,
                          final HttpServletResponse response) throws IOException {
-        handle(httpMate, request, response);
+        dispatch(request, response);
     }
 
     @Override
     protected void doDelete(final HttpServletRequest request,
                             final HttpServletResponse response) throws IOException {
-        handle(httpMate, request, response);
+        dispatch(request, response);
     }
 
     @Override
     protected void doOptions(final HttpServletRequest request,
                              final HttpServletResponse response) throws IOException {
-        handle(httpMate, request, response);
+        dispatch(request, response);
+    }
+
+    private void dispatch(final HttpServletRequest request,
+                          final HttpServletResponse response) throws IOException {
+        if (asynchronous) {
+            handleAsynchronously(httpMate, request, response, asynchronousTimeout);
+        } else {
+            handle(httpMate, request, response);
+        }
     }
 }
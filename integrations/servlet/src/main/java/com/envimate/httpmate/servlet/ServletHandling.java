@@ -23,12 +23,14 @@ package com.envimate.httpmate.servlet;
 
 import com.envimate.httpmate.HttpMate;
 import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.body.ResponseBodyWriter;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
@@ -36,9 +38,10 @@ import java.util.Map;
 
 import static com.envimate.httpmate.HttpMateChainKeys.*;
 import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
-import static com.envimate.httpmate.util.Streams.streamInputStreamToOutputStream;
-import static com.envimate.httpmate.util.Streams.stringToInputStream;
-import static java.util.Collections.singletonList;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.responseBodyWriterFrom;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.writeResponseBody;
+import static com.envimate.httpmate.servlet.AsynchronousCompletion.startAsynchronously;
+import static java.util.Collections.list;
 
 public final class ServletHandling {
 
@@ -48,34 +51,71 @@ public final class ServletHandling {
     public static void handle(final HttpMate httpMate,
                               final HttpServletRequest request,
                               final HttpServletResponse response) throws IOException {
-        final MetaData metaData = extractMetaDataFromHttpServletRequest(request);
+        final MetaData metaData = httpMate.borrowRequestMetaData();
+        extractMetaDataFromHttpServletRequest(request, metaData);
         final InputStream body = request.getInputStream();
         metaData.set(REQUEST_BODY_STREAM, body);
         metaData.set(IS_HTTP_REQUEST, true);
 
-        httpMate.handleRequest(metaData, httpResponse -> {
-            final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
-            responseHeaders.forEach(response::setHeader);
-            final int responseStatus = metaData.get(RESPONSE_STATUS);
-            response.setStatus(responseStatus);
-            final OutputStream outputStream = response.getOutputStream();
-            final InputStream responseBody = metaData.getOptional(RESPONSE_STREAM).orElseGet(() -> stringToInputStream(""));
-            streamInputStreamToOutputStream(responseBody, outputStream);
+        try {
+            httpMate.handleRequest(metaData, httpResponse -> writeResponse(metaData, response));
+        } finally {
+            httpMate.releaseRequestMetaData(metaData);
+        }
+    }
+
+    public static void handleAsynchronously(final HttpMate httpMate,
+                                            final HttpServletRequest request,
+                                            final HttpServletResponse response,
+                                            final Duration timeout) throws IOException {
+        final MetaData metaData = httpMate.borrowRequestMetaData();
+        extractMetaDataFromHttpServletRequest(request, metaData);
+        final InputStream body = request.getInputStream();
+        metaData.set(REQUEST_BODY_STREAM, body);
+        metaData.set(IS_HTTP_REQUEST, true);
+
+        final AsynchronousCompletion completion = startAsynchronously(request, response, timeout);
+        httpMate.handleRequestAsynchronously(metaData, httpResponse -> {
+            if (completion.claimResponse()) {
+                writeResponse(metaData, response);
+            }
+        }).whenComplete((ignored, throwable) -> {
+            completion.complete(throwable);
+            httpMate.releaseRequestMetaData(metaData);
         });
     }
 
+    private static void writeResponse(final MetaData metaData,
+                                      final HttpServletResponse response) throws IOException {
+        final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+        responseHeaders.forEach(response::setHeader);
+        metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS).ifPresent(additionalHeaders -> additionalHeaders
+                .forEach((name, values) -> values.forEach(value -> response.addHeader(name, value))));
+        final int responseStatus = metaData.get(RESPONSE_STATUS);
+        response.setStatus(responseStatus);
+        final ResponseBodyWriter responseBody = responseBodyWriterFrom(metaData);
+        responseBody.contentLength().ifPresent(response::setContentLengthLong);
+        final OutputStream outputStream = response.getOutputStream();
+        writeResponseBody(responseBody, outputStream);
+    }
+
     public static MetaData extractMetaDataFromHttpServletRequest(final HttpServletRequest request) {
+        final MetaData metaData = emptyMetaData();
+        extractMetaDataFromHttpServletRequest(request, metaData);
+        return metaData;
+    }
+
+    private static void extractMetaDataFromHttpServletRequest(final HttpServletRequest request,
+                                                              final MetaData metaData) {
         final String path = request.getPathInfo();
         final String method = request.getMethod();
         final Map<String, List<String>> headers = extractHeaders(request);
         final Map<String, String> queryParameters = extractQueryParameters(request);
 
-        final MetaData metaData = emptyMetaData();
         metaData.set(RAW_REQUEST_HEADERS, headers);
         metaData.set(RAW_REQUEST_QUERY_PARAMETERS, queryParameters);
         metaData.set(RAW_METHOD, method);
         metaData.set(RAW_PATH, path);
-        return metaData;
     }
 
     private static Map<String, List<String>> extractHeaders(final HttpServletRequest request) {
@@ -83,8 +123,8 @@ public final class ServletHandling {
         final Map<String, List<String>> headers = new HashMap<>();
         while (headerNames.hasMoreElements()) {
             final String headerName = headerNames.nextElement();
-            final String value = request.getHeader(headerName);
-            headers.put(headerName, singletonList(value));
+            final List<String> values = list(request.getHeaders(headerName));
+            headers.put(headerName, values);
         }
         return headers;
     }
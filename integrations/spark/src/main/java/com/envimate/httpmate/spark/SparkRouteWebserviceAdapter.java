@@ -23,6 +23,7 @@ package com.envimate.httpmate.spark;
 
 import com.envimate.httpmate.HttpMate;
 import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.http.body.ResponseBodyWriter;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import spark.Request;
@@ -38,11 +39,10 @@ import java.util.Map;
 import java.util.Set;
 
 import static com.envimate.httpmate.HttpMateChainKeys.*;
-import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
-import static com.envimate.httpmate.util.Streams.streamInputStreamToOutputStream;
-import static com.envimate.httpmate.util.Streams.stringToInputStream;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.responseBodyWriterFrom;
+import static com.envimate.httpmate.http.body.ResponseBodyWriters.writeResponseBody;
 import static java.util.Arrays.stream;
-import static java.util.Collections.singletonList;
+import static java.util.Collections.list;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
@@ -52,13 +52,13 @@ final class SparkRouteWebserviceAdapter implements Route {
 
     @Override
     public Object handle(final Request request, final Response sparkResponse) {
-        final MetaData metaData = emptyMetaData();
+        final MetaData metaData = httpMate.borrowRequestMetaData();
         final String httpRequestMethod = request.requestMethod();
         metaData.set(RAW_METHOD, httpRequestMethod);
         final String path = request.pathInfo();
         metaData.set(RAW_PATH, path);
         final Map<String, List<String>> headers = request.headers().stream()
-                .collect(toMap(key -> key, header -> singletonList(request.headers(header))));
+                .collect(toMap(key -> key, header -> list(request.raw().getHeaders(header))));
         metaData.set(RAW_REQUEST_HEADERS, headers);
         final Map<String, String> queryParameters = extractQueryParameters(request);
         metaData.set(RAW_REQUEST_QUERY_PARAMETERS, queryParameters);
@@ -70,15 +70,22 @@ final class SparkRouteWebserviceAdapter implements Route {
         }
         metaData.set(REQUEST_BODY_STREAM, body);
         metaData.set(IS_HTTP_REQUEST, true);
-        this.httpMate.handleRequest(metaData, rawResponse -> {
-            final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
-            responseHeaders.forEach(sparkResponse::header);
-            final int responseStatus = metaData.get(RESPONSE_STATUS);
-            sparkResponse.status(responseStatus);
-            final OutputStream outputStream = sparkResponse.raw().getOutputStream();
-            final InputStream responseBody = metaData.getOptional(RESPONSE_STREAM).orElseGet(() -> stringToInputStream(""));
-            streamInputStreamToOutputStream(responseBody, outputStream);
-        });
+        try {
+            this.httpMate.handleRequest(metaData, rawResponse -> {
+                final Map<String, String> responseHeaders = metaData.get(RESPONSE_HEADERS);
+                responseHeaders.forEach(sparkResponse::header);
+                metaData.getOptional(ADDITIONAL_RESPONSE_HEADERS).ifPresent(additionalHeaders -> additionalHeaders
+                        .forEach((name, values) -> values.forEach(value -> sparkResponse.raw().addHeader(name, value))));
+                final int responseStatus = metaData.get(RESPONSE_STATUS);
+                sparkResponse.status(responseStatus);
+                final ResponseBodyWriter responseBody = responseBodyWriterFrom(metaData);
+                responseBody.contentLength().ifPresent(sparkResponse.raw()::setContentLengthLong);
+                final OutputStream outputStream = sparkResponse.raw().getOutputStream();
+                writeResponseBody(responseBody, outputStream);
+            });
+        } finally {
+            this.httpMate.releaseRequestMetaData(metaData);
+        }
 
         return null;
     }
@@ -29,8 +29,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.Map;
+import java.util.Optional;
 
 import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Optional.ofNullable;
 
 @ToString
 @EqualsAndHashCode
@@ -43,6 +45,12 @@ public final class SavedMetaDataEntries {
         return new SavedMetaDataEntries(entries);
     }
 
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getOptional(final MetaDataKey<T> key) {
+        validateNotNull(key, "key");
+        return ofNullable((T) entries.get(key));
+    }
+
     public void restoreTo(final MetaData metaData) {
         entries.forEach(metaData::setUnchecked);
     }
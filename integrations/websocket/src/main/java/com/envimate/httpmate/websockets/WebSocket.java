@@ -26,7 +26,10 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
+import java.nio.ByteBuffer;
+
 import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static com.envimate.httpmate.websockets.WebSocketSendQueue.*;
 
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -34,15 +37,27 @@ public final class WebSocket {
     private final WebSocketId id;
     private final WebSocketDelegate webSocketDelegate;
     private final SavedMetaDataEntries savedMetaDataEntries;
+    @EqualsAndHashCode.Exclude
+    private final WebSocketSendQueue sendQueue;
 
     public static WebSocket webSocket(final WebSocketId id,
                                       final WebSocketDelegate webSocketDelegate,
                                       final SavedMetaDataEntries savedMetaDataEntries) {
+        return webSocket(id, webSocketDelegate, savedMetaDataEntries, DEFAULT_CAPACITY, DEFAULT_OVERFLOW_POLICY);
+    }
+
+    public static WebSocket webSocket(final WebSocketId id,
+                                      final WebSocketDelegate webSocketDelegate,
+                                      final SavedMetaDataEntries savedMetaDataEntries,
+                                      final int sendQueueCapacity,
+                                      final WebSocketOverflowPolicy overflowPolicy) {
         validateNotNull(id, "id");
         validateNotNull(savedMetaDataEntries, "savedMetaDataEntries");
+        final WebSocketSendQueue sendQueue = webSocketSendQueue(webSocketDelegate, sendQueueCapacity, overflowPolicy);
         return new WebSocket(id,
                 webSocketDelegate,
-                savedMetaDataEntries);
+                savedMetaDataEntries,
+                sendQueue);
     }
 
     public WebSocketId id() {
@@ -53,11 +68,28 @@ public final class WebSocket {
         return savedMetaDataEntries;
     }
 
-    public synchronized void sendText(final String message) {
-        webSocketDelegate.sendText(message);
+    public void sendText(final String message) {
+        sendQueue.enqueue(message);
+    }
+
+    public void sendBinary(final ByteBuffer message) {
+        sendQueue.enqueue(message);
+    }
+
+    public int sendQueueDepth() {
+        return sendQueue.depth();
+    }
+
+    public long sentMessages() {
+        return sendQueue.sent();
+    }
+
+    public long droppedMessages() {
+        return sendQueue.dropped();
     }
 
     public synchronized void close() {
+        sendQueue.close();
         webSocketDelegate.close();
     }
 
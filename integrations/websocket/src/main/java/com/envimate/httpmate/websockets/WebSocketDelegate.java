@@ -21,9 +21,39 @@
 
 package com.envimate.httpmate.websockets;
 
+import java.nio.ByteBuffer;
+
 public interface WebSocketDelegate {
 
     void sendText(String text);
 
+    default void sendText(final String text,
+                          final boolean moreToFollow,
+                          final WebSocketSendCallback callback) {
+        try {
+            sendText(text);
+        } catch (final RuntimeException e) {
+            callback.failed(e);
+            return;
+        }
+        callback.succeeded();
+    }
+
+    default void sendBinary(final ByteBuffer bytes) {
+        throw new UnsupportedOperationException("binary messages are not supported by " + getClass().getName());
+    }
+
+    default void sendBinary(final ByteBuffer bytes,
+                            final boolean moreToFollow,
+                            final WebSocketSendCallback callback) {
+        try {
+            sendBinary(bytes);
+        } catch (final RuntimeException e) {
+            callback.failed(e);
+            return;
+        }
+        callback.succeeded();
+    }
+
     void close();
 }
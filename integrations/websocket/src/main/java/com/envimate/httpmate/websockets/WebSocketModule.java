@@ -25,6 +25,7 @@ import com.envimate.httpmate.MetricsProvider;
 import com.envimate.httpmate.chains.ChainExtender;
 import com.envimate.httpmate.chains.ChainModule;
 import com.envimate.httpmate.chains.DependencyRegistry;
+import com.envimate.httpmate.chains.MetaDataKey;
 import com.envimate.httpmate.websockets.registry.WebSocketRegistry;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -39,6 +40,8 @@ import static com.envimate.httpmate.chains.rules.Consume.consume;
 import static com.envimate.httpmate.chains.rules.Jump.jumpTo;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static com.envimate.httpmate.websockets.WebSocketMetrics.NUMBER_OF_ACTIVE_WEB_SOCKETS;
+import static com.envimate.httpmate.websockets.WebSocketSendQueue.DEFAULT_CAPACITY;
+import static com.envimate.httpmate.websockets.WebSocketSendQueue.DEFAULT_OVERFLOW_POLICY;
 import static com.envimate.httpmate.websockets.WebsocketChainKeys.*;
 import static com.envimate.httpmate.websockets.WebsocketChains.*;
 import static com.envimate.httpmate.websockets.processors.ActivateWebSocketProcessor.activateWebSocketProcessor;
@@ -56,6 +59,9 @@ import static com.envimate.httpmate.websockets.registry.WebSocketRegistry.webSoc
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class WebSocketModule implements ChainModule {
     private final List<WebSocketMapping> webSocketMappings = new LinkedList<>();
+    private final List<MetaDataKey<?>> indexedKeys = new LinkedList<>();
+    private int sendQueueCapacity = DEFAULT_CAPACITY;
+    private WebSocketOverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
 
     public static WebSocketModule webSocketModule() {
         return new WebSocketModule();
@@ -66,6 +72,23 @@ public final class WebSocketModule implements ChainModule {
         webSocketMappings.add(webSocketMapping);
     }
 
+    public void addIndexedKey(final MetaDataKey<?> key) {
+        validateNotNull(key, "key");
+        indexedKeys.add(key);
+    }
+
+    public void setSendQueueCapacity(final int sendQueueCapacity) {
+        if (sendQueueCapacity < 1) {
+            throw new IllegalArgumentException("sendQueueCapacity must be at least 1 but was " + sendQueueCapacity);
+        }
+        this.sendQueueCapacity = sendQueueCapacity;
+    }
+
+    public void setOverflowPolicy(final WebSocketOverflowPolicy overflowPolicy) {
+        validateNotNull(overflowPolicy, "overflowPolicy");
+        this.overflowPolicy = overflowPolicy;
+    }
+
     @Override
     public void configure(final DependencyRegistry dependencyRegistry) {
         final MetricsProvider<Integer> metricsProvider =
@@ -76,9 +99,10 @@ public final class WebSocketModule implements ChainModule {
     @Override
     public void register(final ChainExtender extender) {
         final WebSocketRegistry registry = extender.getMetaDatum(WEBSOCKET_REGISTRY);
+        indexedKeys.forEach(registry::addIndex);
         createSkeleton(extender);
         extender.appendProcessor(INIT, webSocketInitializationProcessor(registry));
-        extender.appendProcessor(WEBSOCKET_ESTABLISHMENT, createWebSocketProcessor(registry));
+        extender.appendProcessor(WEBSOCKET_ESTABLISHMENT, createWebSocketProcessor(registry, sendQueueCapacity, overflowPolicy));
         extender.appendProcessor(DETERMINE_WEBSOCKET_TYPE, determineWebSocketTypeProcessor(webSocketMappings));
         extender.appendProcessor(WEBSOCKET_OPEN, activateWebSocketProcessor(registry));
         extender.appendProcessor(SEND_TO_WEBSOCKETS, sendToWebSocketsProcessor());
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static com.envimate.httpmate.websockets.WebSocketOverflowPolicy.CLOSE_WEB_SOCKET;
+
+@ToString(of = {"capacity", "overflowPolicy"})
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WebSocketSendQueue {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final WebSocketOverflowPolicy DEFAULT_OVERFLOW_POLICY = CLOSE_WEB_SOCKET;
+
+    private static final int PENDING = 0;
+    private static final int RETURNED = 1;
+    private static final int COMPLETED = 2;
+
+    private final WebSocketDelegate delegate;
+    private final int capacity;
+    private final WebSocketOverflowPolicy overflowPolicy;
+    private final Deque<OutboundMessage> messages = new ArrayDeque<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private boolean sending;
+    private boolean closed;
+
+    public static WebSocketSendQueue webSocketSendQueue(final WebSocketDelegate delegate,
+                                                        final int capacity,
+                                                        final WebSocketOverflowPolicy overflowPolicy) {
+        validateNotNull(delegate, "delegate");
+        validateNotNull(overflowPolicy, "overflowPolicy");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1 but was " + capacity);
+        }
+        return new WebSocketSendQueue(delegate, capacity, overflowPolicy);
+    }
+
+    public void enqueue(final String message) {
+        validateNotNull(message, "message");
+        enqueue((delegate, moreToFollow, callback) -> delegate.sendText(message, moreToFollow, callback));
+    }
+
+    public void enqueue(final ByteBuffer message) {
+        validateNotNull(message, "message");
+        final ByteBuffer payload = message.duplicate();
+        enqueue((delegate, moreToFollow, callback) -> delegate.sendBinary(payload, moreToFollow, callback));
+    }
+
+    private void enqueue(final OutboundMessage message) {
+        final boolean closeWebSocket;
+        synchronized (this) {
+            if (closed) {
+                dropped.increment();
+                return;
+            }
+            final boolean overflowed = messages.size() >= capacity;
+            closeWebSocket = overflowed && overflowPolicy == CLOSE_WEB_SOCKET;
+            if (closeWebSocket) {
+                discardAll();
+                dropped.increment();
+            } else {
+                if (overflowed) {
+                    messages.pollFirst();
+                    dropped.increment();
+                }
+                messages.addLast(message);
+                if (sending) {
+                    return;
+                }
+                sending = true;
+            }
+        }
+        if (closeWebSocket) {
+            delegate.close();
+        } else {
+            drain();
+        }
+    }
+
+    public synchronized int depth() {
+        return messages.size();
+    }
+
+    public long sent() {
+        return sent.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public WebSocketOverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public synchronized void close() {
+        discardAll();
+    }
+
+    private void drain() {
+        while (true) {
+            final OutboundMessage message;
+            final boolean moreToFollow;
+            synchronized (this) {
+                message = messages.pollFirst();
+                if (message == null) {
+                    sending = false;
+                    return;
+                }
+                moreToFollow = !messages.isEmpty();
+            }
+            final AtomicInteger state = new AtomicInteger(PENDING);
+            final WebSocketSendCallback callback = new WebSocketSendCallback() {
+                @Override
+                public void succeeded() {
+                    sent.increment();
+                    if (!state.compareAndSet(PENDING, COMPLETED)) {
+                        drain();
+                    }
+                }
+
+                @Override
+                public void failed(final Throwable cause) {
+                    fail();
+                }
+            };
+            try {
+                message.sendVia(delegate, moreToFollow, callback);
+            } catch (final RuntimeException e) {
+                fail();
+                return;
+            }
+            if (state.compareAndSet(PENDING, RETURNED)) {
+                return;
+            }
+        }
+    }
+
+    private void fail() {
+        synchronized (this) {
+            discardAll();
+            sending = false;
+        }
+        dropped.increment();
+    }
+
+    private void discardAll() {
+        closed = true;
+        dropped.add(messages.size());
+        messages.clear();
+    }
+
+    private interface OutboundMessage {
+        void sendVia(WebSocketDelegate delegate, boolean moreToFollow, WebSocketSendCallback callback);
+    }
+}
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import static com.envimate.httpmate.path.PathTemplate.pathTemplate;
+import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static com.envimate.httpmate.websockets.MetaDataEntriesToSave.metaDataEntriesToSave;
 import static com.envimate.httpmate.websockets.MetaDataEntryProvider.storing;
 import static com.envimate.httpmate.websockets.WebSocketMapping.webSocketMapping;
@@ -45,6 +46,9 @@ import static java.util.Collections.singletonList;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class WebSocketsConfigurator implements Configurator {
     private final List<WebSocketMapping> webSocketMappings = new LinkedList<>();
+    private final List<MetaDataKey<?>> indexedKeys = new LinkedList<>();
+    private Integer sendQueueCapacity;
+    private WebSocketOverflowPolicy overflowPolicy;
 
     public static WebSocketsConfigurator toUseWebSockets() {
         return new WebSocketsConfigurator();
@@ -65,6 +69,23 @@ public final class WebSocketsConfigurator implements Configurator {
         };
     }
 
+    public WebSocketsConfigurator indexingWebSocketsBy(final MetaDataKey<?> key) {
+        validateNotNull(key, "key");
+        indexedKeys.add(key);
+        return this;
+    }
+
+    public WebSocketsConfigurator limitingTheSendQueueOfEachWebSocketTo(final int sendQueueCapacity,
+                                                                        final WebSocketOverflowPolicy overflowPolicy) {
+        if (sendQueueCapacity < 1) {
+            throw new IllegalArgumentException("sendQueueCapacity must be at least 1 but was " + sendQueueCapacity);
+        }
+        validateNotNull(overflowPolicy, "overflowPolicy");
+        this.sendQueueCapacity = sendQueueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        return this;
+    }
+
     @Override
     public List<ChainModule> supplyModulesIfNotAlreadyPreset() {
         return asList(webSocketModule());
@@ -74,5 +95,10 @@ public final class WebSocketsConfigurator implements Configurator {
     public void configure(final DependencyRegistry dependencyRegistry) {
         final WebSocketModule webSocketModule = dependencyRegistry.getDependency(WebSocketModule.class);
         webSocketMappings.forEach(webSocketModule::addWebSocketMapping);
+        indexedKeys.forEach(webSocketModule::addIndexedKey);
+        if (sendQueueCapacity != null) {
+            webSocketModule.setSendQueueCapacity(sendQueueCapacity);
+            webSocketModule.setOverflowPolicy(overflowPolicy);
+        }
     }
 }
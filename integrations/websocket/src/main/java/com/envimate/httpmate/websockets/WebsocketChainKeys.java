@@ -25,6 +25,7 @@ import com.envimate.httpmate.chains.MetaDataKey;
 import com.envimate.httpmate.websockets.registry.WebSocketId;
 import com.envimate.httpmate.websockets.registry.WebSocketRegistry;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
@@ -36,6 +37,9 @@ public final class WebsocketChainKeys {
     public static final MetaDataKey<WebSocketDelegate> WEBSOCKET_DELEGATE = metaDataKey("WEBSOCKET_DELEGATE");
     public static final MetaDataKey<Boolean> WEBSOCKET_ACCEPTED = metaDataKey("WEBSOCKET_ACCEPTED");
 
+    public static final MetaDataKey<ByteBuffer> WEBSOCKET_BINARY_MESSAGE = metaDataKey("WEBSOCKET_BINARY_MESSAGE");
+    public static final MetaDataKey<ByteBuffer> WEBSOCKET_BINARY_RESPONSE = metaDataKey("WEBSOCKET_BINARY_RESPONSE");
+
     public static final MetaDataKey<WebSocketRegistry> WEBSOCKET_REGISTRY = metaDataKey("WEBSOCKET_REGISTRY");
     public static final MetaDataKey<List<WebSocket>> RECIPIENT_WEBSOCKETS = metaDataKey("RECIPIENT_WEBSOCKETS");
     public static final MetaDataKey<List<WebSocket>> WEBSOCKETS_TO_CLOSE = metaDataKey("WEBSOCKETS_TO_CLOSE");
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets.handler;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.handler.Handler;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_BINARY_MESSAGE;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_BINARY_RESPONSE;
+
+public interface BinaryWebSocketMessageHandler extends Handler {
+
+    @Override
+    default void handle(final MetaData metaData) {
+        final ByteBuffer message = metaData.get(WEBSOCKET_BINARY_MESSAGE);
+        handle(message).ifPresent(response -> metaData.set(WEBSOCKET_BINARY_RESPONSE, response));
+    }
+
+    Optional<ByteBuffer> handle(ByteBuffer message);
+}
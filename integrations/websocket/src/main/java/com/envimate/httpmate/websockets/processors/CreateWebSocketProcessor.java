@@ -40,10 +40,15 @@ import static com.envimate.httpmate.websockets.WebSocket.webSocket;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CreateWebSocketProcessor implements Processor {
     private final WebSocketRegistry webSocketRegistry;
+    private final int sendQueueCapacity;
+    private final WebSocketOverflowPolicy overflowPolicy;
 
-    public static Processor createWebSocketProcessor(final WebSocketRegistry webSocketRegistry) {
+    public static Processor createWebSocketProcessor(final WebSocketRegistry webSocketRegistry,
+                                                     final int sendQueueCapacity,
+                                                     final WebSocketOverflowPolicy overflowPolicy) {
         validateNotNull(webSocketRegistry, "webSocketRegistry");
-        return new CreateWebSocketProcessor(webSocketRegistry);
+        validateNotNull(overflowPolicy, "overflowPolicy");
+        return new CreateWebSocketProcessor(webSocketRegistry, sendQueueCapacity, overflowPolicy);
     }
 
     @Override
@@ -59,7 +64,9 @@ public final class CreateWebSocketProcessor implements Processor {
         final WebSocketDelegate webSocketDelegate = metaData.get(WEBSOCKET_DELEGATE);
         final WebSocket webSocket = webSocket(id,
                 webSocketDelegate,
-                savedMetaDataEntries);
+                savedMetaDataEntries,
+                sendQueueCapacity,
+                overflowPolicy);
         webSocketRegistry.register(id, webSocket);
         metaData.set(WEBSOCKET_ACCEPTED, true);
     }
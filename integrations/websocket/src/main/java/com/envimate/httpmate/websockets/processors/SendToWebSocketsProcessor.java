@@ -29,10 +29,13 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_BODY_STRING;
 import static com.envimate.httpmate.websockets.WebsocketChainKeys.RECIPIENT_WEBSOCKETS;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_BINARY_RESPONSE;
 
 @ToString
 @EqualsAndHashCode
@@ -45,6 +48,13 @@ public final class SendToWebSocketsProcessor implements Processor {
 
     @Override
     public void apply(final MetaData metaData) {
+        final Optional<ByteBuffer> binaryMessage = metaData.getOptional(WEBSOCKET_BINARY_RESPONSE);
+        if (binaryMessage.isPresent()) {
+            final ByteBuffer sharedPayload = binaryMessage.get().asReadOnlyBuffer();
+            final List<WebSocket> webSockets = metaData.get(RECIPIENT_WEBSOCKETS);
+            webSockets.forEach(webSocket -> webSocket.sendBinary(sharedPayload));
+            return;
+        }
         metaData.getOptional(RESPONSE_BODY_STRING).ifPresent(message -> {
             final List<WebSocket> webSockets = metaData.get(RECIPIENT_WEBSOCKETS);
             webSockets.forEach(webSocket -> webSocket.sendText(message));
@@ -26,9 +26,16 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Optional.ofNullable;
 
 @ToString
@@ -38,7 +45,7 @@ final class SaveMap<K, V> {
     private final Map<K, V> map;
 
     static <K, V> SaveMap<K, V> saveMap() {
-        return new SaveMap<>(new HashMap<>());
+        return new SaveMap<>(new ConcurrentHashMap<>());
     }
 
     void put(final K key, final V value) {
@@ -54,13 +61,15 @@ final class SaveMap<K, V> {
 
     Optional<V> getAndRemove(final K key) {
         validateNotNull(key, "key");
-        final Optional<V> value = ofNullable(map.get(key));
-        value.ifPresent(x -> map.remove(key));
-        return value;
+        return ofNullable(map.remove(key));
+    }
+
+    Collection<V> values() {
+        return unmodifiableCollection(map.values());
     }
 
     Set<V> copyOfValues() {
-        return new HashSet<>(map.values());
+        return unmodifiableSet(new HashSet<>(map.values()));
     }
 
     int size() {
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets.registry;
+
+import com.envimate.httpmate.chains.MetaDataKey;
+import com.envimate.httpmate.websockets.WebSocket;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.envimate.httpmate.util.Validators.validateNotNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableCollection;
+
+@ToString(of = "key")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class WebSocketIndex {
+    private final MetaDataKey<?> key;
+    private final Map<Object, Map<WebSocketId, WebSocket>> webSockets;
+
+    static WebSocketIndex webSocketIndex(final MetaDataKey<?> key) {
+        validateNotNull(key, "key");
+        return new WebSocketIndex(key, new ConcurrentHashMap<>());
+    }
+
+    void add(final WebSocket webSocket) {
+        webSocket.savedMetaDataEntries().getOptional(key).ifPresent(value ->
+                webSockets.compute(value, (v, webSocketsWithValue) -> {
+                    final Map<WebSocketId, WebSocket> map;
+                    if (webSocketsWithValue == null) {
+                        map = new ConcurrentHashMap<>();
+                    } else {
+                        map = webSocketsWithValue;
+                    }
+                    map.put(webSocket.id(), webSocket);
+                    return map;
+                }));
+    }
+
+    void remove(final WebSocket webSocket) {
+        webSocket.savedMetaDataEntries().getOptional(key).ifPresent(value ->
+                webSockets.computeIfPresent(value, (v, webSocketsWithValue) -> {
+                    webSocketsWithValue.remove(webSocket.id());
+                    if (webSocketsWithValue.isEmpty()) {
+                        return null;
+                    }
+                    return webSocketsWithValue;
+                }));
+    }
+
+    Collection<WebSocket> webSocketsWith(final Object value) {
+        final Map<WebSocketId, WebSocket> webSocketsWithValue = webSockets.get(value);
+        if (webSocketsWithValue == null) {
+            return emptyList();
+        }
+        return unmodifiableCollection(webSocketsWithValue.values());
+    }
+}
@@ -22,55 +22,101 @@
 package com.envimate.httpmate.websockets.registry;
 
 import com.envimate.httpmate.MetricsProvider;
+import com.envimate.httpmate.chains.MetaDataKey;
 import com.envimate.httpmate.websockets.WebSocket;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static com.envimate.httpmate.websockets.registry.SaveMap.saveMap;
+import static com.envimate.httpmate.websockets.registry.WebSocketIndex.webSocketIndex;
 import static com.envimate.httpmate.websockets.registry.WebSocketNotFoundException.webSocketNotFoundException;
+import static java.util.stream.Collectors.toList;
 
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class WebSocketRegistry {
     private final SaveMap<WebSocketId, WebSocket> preActiveWebSockets;
     private final SaveMap<WebSocketId, WebSocket> activeWebSockets;
+    private final Map<MetaDataKey<?>, WebSocketIndex> indices;
+    private final LongAdder numberOfWebSockets;
     private final MetricsProvider<Integer> metricsProvider;
 
     public static WebSocketRegistry webSocketRegistry(final MetricsProvider<Integer> metricsProvider) {
         validateNotNull(metricsProvider, "metricsProvider");
-        return new WebSocketRegistry(saveMap(), saveMap(), metricsProvider);
+        return new WebSocketRegistry(saveMap(), saveMap(), new ConcurrentHashMap<>(), new LongAdder(), metricsProvider);
     }
 
-    public synchronized WebSocket byId(final WebSocketId id) {
+    public void addIndex(final MetaDataKey<?> key) {
+        validateNotNull(key, "key");
+        indices.putIfAbsent(key, webSocketIndex(key));
+    }
+
+    public WebSocket byId(final WebSocketId id) {
         return activeWebSockets.get(id).orElseThrow(() -> webSocketNotFoundException(id));
     }
 
-    public synchronized void register(final WebSocketId id,
-                                      final WebSocket webSocket) {
+    public void register(final WebSocketId id,
+                         final WebSocket webSocket) {
         preActiveWebSockets.put(id, webSocket);
-        updateMetrics();
+        numberOfWebSockets.increment();
+        publishMetrics();
     }
 
-    public synchronized void activate(final WebSocketId id) {
+    public void activate(final WebSocketId id) {
         final WebSocket webSocket = preActiveWebSockets.getAndRemove(id).orElseThrow(() -> webSocketNotFoundException(id));
         activeWebSockets.put(id, webSocket);
+        indices.values().forEach(index -> index.add(webSocket));
     }
 
-    public synchronized void unregister(final WebSocketId id) {
-        activeWebSockets.getAndRemove(id).orElseThrow(() -> webSocketNotFoundException(id));
-        updateMetrics();
+    public void unregister(final WebSocketId id) {
+        final WebSocket webSocket = activeWebSockets.getAndRemove(id).orElseThrow(() -> webSocketNotFoundException(id));
+        indices.values().forEach(index -> index.remove(webSocket));
+        numberOfWebSockets.decrement();
+        publishMetrics();
     }
 
-    public synchronized Set<WebSocket> allActiveWebSockets() {
+    public Set<WebSocket> allActiveWebSockets() {
         return activeWebSockets.copyOfValues();
     }
 
-    private void updateMetrics() {
-        metricsProvider.provideMetric(activeWebSockets.size() + preActiveWebSockets.size());
+    public Collection<WebSocket> activeWebSocketsWith(final MetaDataKey<?> key,
+                                                      final Object value) {
+        validateNotNull(key, "key");
+        validateNotNull(value, "value");
+        final WebSocketIndex index = indices.get(key);
+        if (index != null) {
+            return index.webSocketsWith(value);
+        }
+        return activeWebSockets.values().stream()
+                .filter(webSocket -> webSocket.savedMetaDataEntries().getOptional(key)
+                        .map(value::equals)
+                        .orElse(false))
+                .collect(toList());
+    }
+
+    public void forEachActiveWebSocket(final Consumer<WebSocket> consumer) {
+        validateNotNull(consumer, "consumer");
+        activeWebSockets.values().forEach(consumer);
+    }
+
+    // publishing is not serialized: a value overtaken by a concurrent change is
+    // re-published once, and any later change publishes the current count again
+    private void publishMetrics() {
+        final int published = numberOfWebSockets.intValue();
+        metricsProvider.provideMetric(published);
+        final int current = numberOfWebSockets.intValue();
+        if (current != published) {
+            metricsProvider.provideMetric(current);
+        }
     }
 
     @Override
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets;
+
+import com.envimate.httpmate.chains.MetaDataKey;
+
+import java.util.Map;
+
+import static com.envimate.httpmate.websockets.SavedMetaDataEntries.savedMetaDataEntries;
+import static com.envimate.httpmate.websockets.WebSocket.webSocket;
+import static com.envimate.httpmate.websockets.registry.WebSocketId.randomWebSocketId;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+
+public final class TestWebSockets {
+
+    private TestWebSockets() {
+    }
+
+    public static WebSocket aWebSocket() {
+        return aWebSocketWithSavedEntries(emptyMap());
+    }
+
+    public static <T> WebSocket aWebSocketWith(final MetaDataKey<T> key, final T value) {
+        return aWebSocketWithSavedEntries(singletonMap(key, value));
+    }
+
+    public static WebSocket aWebSocketSendingVia(final WebSocketDelegate delegate) {
+        return webSocket(randomWebSocketId(), delegate, savedMetaDataEntries(emptyMap()));
+    }
+
+    private static WebSocket aWebSocketWithSavedEntries(final Map<MetaDataKey<?>, Object> entries) {
+        final WebSocketDelegate delegate = new WebSocketDelegate() {
+            @Override
+            public void sendText(final String text) {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        return webSocket(randomWebSocketId(), delegate, savedMetaDataEntries(entries));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets;
+
+import com.envimate.httpmate.chains.MetaData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_BODY_STRING;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.websockets.SavedMetaDataEntries.savedMetaDataEntries;
+import static com.envimate.httpmate.websockets.WebSocket.webSocket;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.RECIPIENT_WEBSOCKETS;
+import static com.envimate.httpmate.websockets.processors.SendToWebSocketsProcessor.sendToWebSocketsProcessor;
+import static com.envimate.httpmate.websockets.registry.WebSocketId.randomWebSocketId;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class WebSocketSendQueueSpecs {
+
+    @Test
+    public void aThrowingRecipientDoesNotCancelTheBroadcastToTheRemainingRecipients() {
+        final ThrowingDelegate throwingDelegate = new ThrowingDelegate();
+        final CollectingDelegate collectingDelegate = new CollectingDelegate();
+        final WebSocket failingWebSocket = aWebSocketWith(throwingDelegate);
+        final WebSocket healthyWebSocket = aWebSocketWith(collectingDelegate);
+
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RESPONSE_BODY_STRING, "foo");
+        metaData.set(RECIPIENT_WEBSOCKETS, asList(failingWebSocket, healthyWebSocket));
+        sendToWebSocketsProcessor().apply(metaData);
+
+        assertThat(collectingDelegate.messages, is(singletonList("foo")));
+        assertThat(healthyWebSocket.sentMessages(), is(1L));
+        assertThat(failingWebSocket.droppedMessages(), is(1L));
+        assertThat(failingWebSocket.sendQueueDepth(), is(0));
+    }
+
+    @Test
+    public void aThrowingRecipientDropsAllLaterMessages() {
+        final ThrowingDelegate throwingDelegate = new ThrowingDelegate();
+        final WebSocket webSocket = aWebSocketWith(throwingDelegate);
+
+        webSocket.sendText("foo");
+        webSocket.sendText("bar");
+
+        assertThat(throwingDelegate.attempts, is(1));
+        assertThat(webSocket.droppedMessages(), is(2L));
+    }
+
+    @Test
+    public void messagesSentAfterCloseAreDropped() {
+        final CollectingDelegate collectingDelegate = new CollectingDelegate();
+        final WebSocket webSocket = aWebSocketWith(collectingDelegate);
+
+        webSocket.sendText("foo");
+        webSocket.close();
+        webSocket.sendText("bar");
+
+        assertThat(collectingDelegate.messages, is(singletonList("foo")));
+        assertThat(collectingDelegate.closed, is(true));
+        assertThat(webSocket.sentMessages(), is(1L));
+        assertThat(webSocket.droppedMessages(), is(1L));
+    }
+
+    private static WebSocket aWebSocketWith(final WebSocketDelegate delegate) {
+        return webSocket(randomWebSocketId(), delegate, savedMetaDataEntries(emptyMap()));
+    }
+
+    private static final class ThrowingDelegate implements WebSocketDelegate {
+        private int attempts;
+
+        @Override
+        public void sendText(final String text) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendText(final String text,
+                             final boolean moreToFollow,
+                             final WebSocketSendCallback callback) {
+            attempts = attempts + 1;
+            throw new IllegalStateException("connection is gone");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class CollectingDelegate implements WebSocketDelegate {
+        private final List<String> messages = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public void sendText(final String text) {
+            messages.add(text);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets.processors;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.websockets.WebSocket;
+import com.envimate.httpmate.websockets.WebSocketDelegate;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_BODY_STRING;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.websockets.TestWebSockets.aWebSocketSendingVia;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.RECIPIENT_WEBSOCKETS;
+import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_BINARY_RESPONSE;
+import static com.envimate.httpmate.websockets.processors.SendToWebSocketsProcessor.sendToWebSocketsProcessor;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SendToWebSocketsProcessorSpecs {
+    private static final int NUMBER_OF_RECIPIENTS = 5;
+
+    @Test
+    public void allRecipientsOfABinaryBroadcastShareOnePayload() {
+        final RecordingDelegate[] delegates = recordingDelegates();
+        final byte[] bytes = {1, 2, 3};
+
+        final MetaData metaData = broadcastTo(delegates);
+        metaData.set(WEBSOCKET_BINARY_RESPONSE, ByteBuffer.wrap(bytes));
+        sendToWebSocketsProcessor().apply(metaData);
+        bytes[0] = 42;
+
+        for (final RecordingDelegate delegate : delegates) {
+            assertThat(delegate.binaryMessages.size(), is(1));
+            final ByteBuffer received = delegate.binaryMessages.get(0);
+            assertThat(received.isReadOnly(), is(true));
+            assertThat(received.remaining(), is(3));
+            assertThat(received.get(0), is((byte) 42));
+        }
+    }
+
+    @Test
+    public void allRecipientsOfATextBroadcastReceiveTheSameString() {
+        final RecordingDelegate[] delegates = recordingDelegates();
+        final String message = "hello everyone";
+
+        final MetaData metaData = broadcastTo(delegates);
+        metaData.set(RESPONSE_BODY_STRING, message);
+        sendToWebSocketsProcessor().apply(metaData);
+
+        for (final RecordingDelegate delegate : delegates) {
+            assertThat(delegate.textMessages.size(), is(1));
+            assertThat(delegate.textMessages.get(0), is(sameInstance(message)));
+        }
+    }
+
+    private static RecordingDelegate[] recordingDelegates() {
+        final RecordingDelegate[] delegates = new RecordingDelegate[NUMBER_OF_RECIPIENTS];
+        for (int i = 0; i < delegates.length; ++i) {
+            delegates[i] = new RecordingDelegate();
+        }
+        return delegates;
+    }
+
+    private static MetaData broadcastTo(final RecordingDelegate[] delegates) {
+        final List<WebSocket> webSockets = new ArrayList<>();
+        for (final RecordingDelegate delegate : delegates) {
+            webSockets.add(aWebSocketSendingVia(delegate));
+        }
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RECIPIENT_WEBSOCKETS, webSockets);
+        return metaData;
+    }
+
+    private static final class RecordingDelegate implements WebSocketDelegate {
+        private final List<String> textMessages = new ArrayList<>();
+        private final List<ByteBuffer> binaryMessages = new ArrayList<>();
+
+        @Override
+        public void sendText(final String text) {
+            textMessages.add(text);
+        }
+
+        @Override
+        public void sendBinary(final ByteBuffer bytes) {
+            binaryMessages.add(bytes);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
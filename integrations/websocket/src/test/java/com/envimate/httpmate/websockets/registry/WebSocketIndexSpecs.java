@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets.registry;
+
+import com.envimate.httpmate.chains.MetaDataKey;
+import com.envimate.httpmate.websockets.WebSocket;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static com.envimate.httpmate.MetricsProvider.metricsProvider;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.websockets.TestWebSockets.aWebSocket;
+import static com.envimate.httpmate.websockets.TestWebSockets.aWebSocketWith;
+import static com.envimate.httpmate.websockets.registry.WebSocketRegistry.webSocketRegistry;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class WebSocketIndexSpecs {
+    private static final MetaDataKey<Integer> NUMBER_OF_WEB_SOCKETS = metaDataKey("NUMBER_OF_WEB_SOCKETS");
+    private static final MetaDataKey<String> ROOM = metaDataKey("ROOM");
+
+    @Test
+    public void indexedWebSocketsCanBeLookedUpByTheirSavedValue() {
+        final WebSocketRegistry registry = anIndexedRegistry();
+        final WebSocket kitchenA = registerAndActivate(registry, aWebSocketWith(ROOM, "kitchen"));
+        final WebSocket kitchenB = registerAndActivate(registry, aWebSocketWith(ROOM, "kitchen"));
+        final WebSocket garden = registerAndActivate(registry, aWebSocketWith(ROOM, "garden"));
+        registerAndActivate(registry, aWebSocket());
+
+        final Collection<WebSocket> kitchen = registry.activeWebSocketsWith(ROOM, "kitchen");
+        assertThat(kitchen.size(), is(2));
+        assertThat(kitchen.contains(kitchenA), is(true));
+        assertThat(kitchen.contains(kitchenB), is(true));
+
+        final Collection<WebSocket> gardenWebSockets = registry.activeWebSocketsWith(ROOM, "garden");
+        assertThat(gardenWebSockets.size(), is(1));
+        assertThat(gardenWebSockets.contains(garden), is(true));
+
+        assertThat(registry.activeWebSocketsWith(ROOM, "cellar").isEmpty(), is(true));
+    }
+
+    @Test
+    public void unregisteredWebSocketsAreRemovedFromTheIndex() {
+        final WebSocketRegistry registry = anIndexedRegistry();
+        final WebSocket kitchenA = registerAndActivate(registry, aWebSocketWith(ROOM, "kitchen"));
+        final WebSocket kitchenB = registerAndActivate(registry, aWebSocketWith(ROOM, "kitchen"));
+
+        registry.unregister(kitchenA.id());
+        final Collection<WebSocket> kitchen = registry.activeWebSocketsWith(ROOM, "kitchen");
+        assertThat(kitchen.size(), is(1));
+        assertThat(kitchen.contains(kitchenB), is(true));
+
+        registry.unregister(kitchenB.id());
+        assertThat(registry.activeWebSocketsWith(ROOM, "kitchen").isEmpty(), is(true));
+    }
+
+    @Test
+    public void webSocketsThatAreNotYetActivatedAreNotFound() {
+        final WebSocketRegistry registry = anIndexedRegistry();
+        final WebSocket webSocket = aWebSocketWith(ROOM, "kitchen");
+        registry.register(webSocket.id(), webSocket);
+        assertThat(registry.activeWebSocketsWith(ROOM, "kitchen").isEmpty(), is(true));
+
+        registry.activate(webSocket.id());
+        assertThat(registry.activeWebSocketsWith(ROOM, "kitchen").contains(webSocket), is(true));
+    }
+
+    @Test
+    public void lookupsByKeysWithoutAnIndexFallBackToComparingTheSavedValues() {
+        final WebSocketRegistry registry = webSocketRegistry(metricsProvider(NUMBER_OF_WEB_SOCKETS, emptyMetaData()));
+        final WebSocket kitchen = registerAndActivate(registry, aWebSocketWith(ROOM, "kitchen"));
+        final WebSocket garden = registerAndActivate(registry, aWebSocketWith(ROOM, "garden"));
+        registerAndActivate(registry, aWebSocket());
+
+        final Collection<WebSocket> found = registry.activeWebSocketsWith(ROOM, "kitchen");
+        assertThat(found.size(), is(1));
+        assertThat(found.contains(kitchen), is(true));
+
+        registry.unregister(garden.id());
+        assertThat(registry.activeWebSocketsWith(ROOM, "garden").isEmpty(), is(true));
+    }
+
+    @Test
+    public void addingAnIndexTwiceKeepsItsEntries() {
+        final WebSocketRegistry registry = anIndexedRegistry();
+        final WebSocket kitchen = registerAndActivate(registry, aWebSocketWith(ROOM, "kitchen"));
+        registry.addIndex(ROOM);
+
+        final Collection<WebSocket> found = registry.activeWebSocketsWith(ROOM, "kitchen");
+        assertThat(found.size(), is(1));
+        assertThat(found.contains(kitchen), is(true));
+    }
+
+    private static WebSocketRegistry anIndexedRegistry() {
+        final WebSocketRegistry registry = webSocketRegistry(metricsProvider(NUMBER_OF_WEB_SOCKETS, emptyMetaData()));
+        registry.addIndex(ROOM);
+        return registry;
+    }
+
+    private static WebSocket registerAndActivate(final WebSocketRegistry registry, final WebSocket webSocket) {
+        registry.register(webSocket.id(), webSocket);
+        registry.activate(webSocket.id());
+        return webSocket;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.websockets.registry;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.MetaDataKey;
+import com.envimate.httpmate.websockets.WebSocket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.envimate.httpmate.MetricsProvider.metricsProvider;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.websockets.TestWebSockets.aWebSocket;
+import static com.envimate.httpmate.websockets.registry.WebSocketRegistry.webSocketRegistry;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class WebSocketRegistrySpecs {
+    private static final MetaDataKey<Integer> NUMBER_OF_WEB_SOCKETS = metaDataKey("NUMBER_OF_WEB_SOCKETS");
+    private static final int NUMBER_OF_THREADS = 8;
+    private static final int WEB_SOCKETS_PER_THREAD = 500;
+
+    @Test
+    public void allActiveWebSocketsIsAnUnmodifiableSnapshot() {
+        final WebSocketRegistry registry = webSocketRegistry(metricsProvider(NUMBER_OF_WEB_SOCKETS, emptyMetaData()));
+        final WebSocket webSocketA = registerAndActivate(registry, aWebSocket());
+        final WebSocket webSocketB = registerAndActivate(registry, aWebSocket());
+
+        final Set<WebSocket> snapshot = registry.allActiveWebSockets();
+        registry.unregister(webSocketA.id());
+
+        assertThat(snapshot.size(), is(2));
+        assertThat(snapshot.contains(webSocketA), is(true));
+        assertThat(registry.allActiveWebSockets().size(), is(1));
+        assertThat(registry.allActiveWebSockets().contains(webSocketB), is(true));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(aWebSocket()));
+    }
+
+    @Test
+    public void theMetricCountsActiveAndNotYetActivatedWebSockets() {
+        final MetaData metaData = emptyMetaData();
+        final WebSocketRegistry registry = webSocketRegistry(metricsProvider(NUMBER_OF_WEB_SOCKETS, metaData));
+        final WebSocket active = registerAndActivate(registry, aWebSocket());
+        final WebSocket preActive = aWebSocket();
+        registry.register(preActive.id(), preActive);
+        assertThat(metaData.get(NUMBER_OF_WEB_SOCKETS), is(2));
+
+        registry.unregister(active.id());
+        assertThat(metaData.get(NUMBER_OF_WEB_SOCKETS), is(1));
+    }
+
+    @Test
+    public void forEachActiveWebSocketVisitsOnlyActivatedWebSockets() {
+        final WebSocketRegistry registry = webSocketRegistry(metricsProvider(NUMBER_OF_WEB_SOCKETS, emptyMetaData()));
+        final WebSocket active = registerAndActivate(registry, aWebSocket());
+        final WebSocket preActive = aWebSocket();
+        registry.register(preActive.id(), preActive);
+
+        final List<WebSocket> visited = new ArrayList<>();
+        registry.forEachActiveWebSocket(visited::add);
+
+        assertThat(visited.size(), is(1));
+        assertThat(visited.get(0), is(active));
+    }
+
+    @Test
+    public void concurrentRegistrationsAndUnregistrationsAreAllAccountedFor() throws Exception {
+        final MetaData metaData = emptyMetaData();
+        final WebSocketRegistry registry = webSocketRegistry(metricsProvider(NUMBER_OF_WEB_SOCKETS, metaData));
+        final ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<List<WebSocket>>> futures = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_THREADS; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final List<WebSocket> survivors = new ArrayList<>();
+                    for (int j = 0; j < WEB_SOCKETS_PER_THREAD; ++j) {
+                        final WebSocket webSocket = registerAndActivate(registry, aWebSocket());
+                        if (j % 2 == 0) {
+                            registry.unregister(webSocket.id());
+                        } else {
+                            survivors.add(webSocket);
+                        }
+                    }
+                    return survivors;
+                }));
+            }
+            start.countDown();
+            final List<WebSocket> survivors = new ArrayList<>();
+            for (final Future<List<WebSocket>> future : futures) {
+                survivors.addAll(future.get());
+            }
+
+            final int expected = NUMBER_OF_THREADS * WEB_SOCKETS_PER_THREAD / 2;
+            assertThat(survivors.size(), is(expected));
+            assertThat(registry.allActiveWebSockets().size(), is(expected));
+            assertThat(registry.allActiveWebSockets().containsAll(survivors), is(true));
+            survivors.forEach(webSocket -> assertThat(registry.byId(webSocket.id()), is(webSocket)));
+
+            registerAndActivate(registry, aWebSocket());
+            assertThat(metaData.get(NUMBER_OF_WEB_SOCKETS), is(expected + 1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static WebSocket registerAndActivate(final WebSocketRegistry registry, final WebSocket webSocket) {
+        registry.register(webSocket.id(), webSocket);
+        registry.activate(webSocket.id());
+        return webSocket;
+    }
+}
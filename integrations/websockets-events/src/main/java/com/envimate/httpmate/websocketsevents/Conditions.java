@@ -21,17 +21,22 @@
 
 package com.envimate.httpmate.websocketsevents;
 
+import com.envimate.httpmate.chains.MetaDataKey;
 import com.envimate.httpmate.events.ExternalEventMapping;
 import com.envimate.httpmate.generator.GenerationCondition;
 import com.envimate.httpmate.websockets.WebSocketForEventFilter;
 import com.envimate.httpmate.websockets.WebSocketTag;
 
+import java.util.Map;
+import java.util.function.Function;
+
 import static com.envimate.httpmate.events.EventsChains.MAP_EVENT_TO_RESPONSE;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static com.envimate.httpmate.util.Validators.validateNotNullNorEmpty;
 import static com.envimate.httpmate.websockets.WebSocketTag.webSocketTag;
 import static com.envimate.httpmate.websockets.WebsocketChainKeys.*;
 import static com.envimate.httpmate.websockets.WebsocketChains.WEBSOCKET_CLOSE;
+import static com.envimate.httpmate.websocketsevents.WebSocketsExternalEventMapping.indexedWebSocketsExternalEventMapping;
 import static com.envimate.httpmate.websocketsevents.WebSocketsExternalEventMapping.webSocketsExternalEventMapping;
 
 public final class Conditions {
@@ -55,6 +60,15 @@ public final class Conditions {
         });
     }
 
+    public static ExternalEventMapping forwardingItToAllWebSocketsWhere(
+            final MetaDataKey<?> key,
+            final Function<Map<String, Object>, Object> valueFromEvent) {
+        return indexedWebSocketsExternalEventMapping(MAP_EVENT_TO_RESPONSE, key, valueFromEvent, (webSockets, metaData) -> {
+            metaData.set(RECIPIENT_WEBSOCKETS, webSockets);
+            metaData.set(IS_WEBSOCKET_MESSAGE, true);
+        });
+    }
+
     public static ExternalEventMapping closingAllWebSockets() {
         return closingAllWebSocketsThat((metaData, event) -> true);
     }
@@ -64,4 +78,11 @@ public final class Conditions {
         return webSocketsExternalEventMapping(WEBSOCKET_CLOSE, filter,
                 (webSockets, metaData) -> metaData.set(WEBSOCKETS_TO_CLOSE, webSockets));
     }
+
+    public static ExternalEventMapping closingAllWebSocketsWhere(
+            final MetaDataKey<?> key,
+            final Function<Map<String, Object>, Object> valueFromEvent) {
+        return indexedWebSocketsExternalEventMapping(WEBSOCKET_CLOSE, key, valueFromEvent,
+                (webSockets, metaData) -> metaData.set(WEBSOCKETS_TO_CLOSE, webSockets));
+    }
 }
@@ -23,6 +23,7 @@ package com.envimate.httpmate.websocketsevents;
 
 import com.envimate.httpmate.chains.ChainName;
 import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.MetaDataKey;
 import com.envimate.httpmate.events.ExternalEventMapping;
 import com.envimate.httpmate.websockets.WebSocket;
 import com.envimate.httpmate.websockets.WebSocketForEventFilter;
@@ -32,24 +33,27 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
 import static com.envimate.httpmate.events.EventModule.RECEIVED_EVENT;
 import static com.envimate.httpmate.util.Validators.validateNotNull;
 import static com.envimate.httpmate.websockets.WebsocketChainKeys.WEBSOCKET_REGISTRY;
+import static java.util.Collections.emptyList;
 import static java.util.Optional.of;
-import static java.util.stream.Collectors.toList;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class WebSocketsExternalEventMapping implements ExternalEventMapping {
     private final ChainName jumpTarget;
-    private final WebSocketForEventFilter filter;
+    private final BiFunction<WebSocketRegistry, Map<String, Object>, List<WebSocket>> recipients;
     private final BiConsumer<List<WebSocket>, MetaData> consumer;
 
     static ExternalEventMapping webSocketsExternalEventMapping(final ChainName jumpTarget,
@@ -58,7 +62,35 @@ public final class WebSocketsExternalEventMapping implements ExternalEventMappin
         validateNotNull(jumpTarget, "jumpTarget");
         validateNotNull(filter, "filter");
         validateNotNull(consumer, "consumer");
-        return new WebSocketsExternalEventMapping(jumpTarget, filter, consumer);
+        return new WebSocketsExternalEventMapping(jumpTarget, (registry, event) -> {
+            final List<WebSocket> matching = new ArrayList<>();
+            registry.forEachActiveWebSocket(webSocket -> {
+                final MetaData temporaryMetaData = emptyMetaData();
+                webSocket.savedMetaDataEntries().restoreTo(temporaryMetaData);
+                if (filter.test(temporaryMetaData, event)) {
+                    matching.add(webSocket);
+                }
+            });
+            return matching;
+        }, consumer);
+    }
+
+    static ExternalEventMapping indexedWebSocketsExternalEventMapping(
+            final ChainName jumpTarget,
+            final MetaDataKey<?> key,
+            final Function<Map<String, Object>, Object> valueFromEvent,
+            final BiConsumer<List<WebSocket>, MetaData> consumer) {
+        validateNotNull(jumpTarget, "jumpTarget");
+        validateNotNull(key, "key");
+        validateNotNull(valueFromEvent, "valueFromEvent");
+        validateNotNull(consumer, "consumer");
+        return new WebSocketsExternalEventMapping(jumpTarget, (registry, event) -> {
+            final Object value = valueFromEvent.apply(event);
+            if (value == null) {
+                return emptyList();
+            }
+            return new ArrayList<>(registry.activeWebSocketsWith(key, value));
+        }, consumer);
     }
 
     @Override
@@ -70,13 +102,7 @@ public final class WebSocketsExternalEventMapping implements ExternalEventMappin
     public void apply(final MetaData metaData) {
         final Map<String, Object> event = metaData.get(RECEIVED_EVENT).orElseThrow();
         final WebSocketRegistry registry = metaData.get(WEBSOCKET_REGISTRY);
-        final List<WebSocket> webSockets = registry.allActiveWebSockets().stream()
-                .filter(webSocket -> {
-                    final MetaData temporaryMetaData = emptyMetaData();
-                    webSocket.savedMetaDataEntries().restoreTo(temporaryMetaData);
-                    return filter.test(temporaryMetaData, event);
-                })
-                .collect(toList());
+        final List<WebSocket> webSockets = recipients.apply(registry, event);
         consumer.accept(webSockets, metaData);
     }
 
@@ -53,6 +53,10 @@ public final class LowLevelHttpMateConfiguration {
                 .get("/log", logHandler())
                 .get("/download", downloadHandler())
                 .get("/exception", exceptionThrowingHandler())
+                .get("/no_content", (request, response) -> {
+                    response.setStatus(204);
+                    response.setBody("this body must not be sent");
+                })
                 .configured(toLogUsing(logger()))
                 .configured(toBeInDebugMode())
                 .build();
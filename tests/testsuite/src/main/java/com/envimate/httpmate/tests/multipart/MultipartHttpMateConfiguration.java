@@ -22,17 +22,22 @@
 package com.envimate.httpmate.tests.multipart;
 
 import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.multipart.MultipartException;
 import com.envimate.httpmate.multipart.MultipartIteratorBody;
 import com.envimate.httpmate.multipart.MultipartPart;
+import com.envimate.httpmate.multipart.handler.MultipartHandler;
 import com.envimate.httpmate.path.Path;
 import com.envimate.httpmate.security.authorization.NotAuthorizedException;
 
 import static com.envimate.httpmate.HttpMate.anHttpMate;
 import static com.envimate.httpmate.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
+import static com.envimate.httpmate.http.Http.StatusCodes.BAD_REQUEST;
 import static com.envimate.httpmate.http.Http.StatusCodes.FORBIDDEN;
 import static com.envimate.httpmate.http.HttpRequestMethod.*;
 import static com.envimate.httpmate.multipart.MultipartChainKeys.MULTIPART_ITERATOR_BODY;
 import static com.envimate.httpmate.multipart.MultipartConfigurators.toExposeMultipartBodiesUsingMultipartIteratorBody;
+import static com.envimate.httpmate.multipart.MultipartConfigurators.toLimitTheSizeOfEachMultipartPartTo;
+import static com.envimate.httpmate.multipart.MultipartConfigurators.toSpillMultipartPartsToDiskIfLargerThan;
 import static com.envimate.httpmate.security.SecurityConfigurators.toAuthenticateRequestsUsing;
 import static com.envimate.httpmate.security.SecurityConfigurators.toAuthorizeRequestsUsing;
 import static com.envimate.httpmate.tests.Util.extractUsername;
@@ -81,4 +86,31 @@ public final class MultipartHttpMateConfiguration {
                 .configured(toExposeMultipartBodiesUsingMultipartIteratorBody())
                 .build();
     }
+
+    public static HttpMate theMultipartHttpMateInstanceWithAPartSizeLimitUsedForTesting() {
+        return anHttpMate()
+                .serving(dumpMultipartBodyHandler())
+                .forRequestPath("/dump").andRequestMethods(GET, POST, PUT, DELETE)
+                .configured(toExposeMultipartBodiesUsingMultipartIteratorBody())
+                .configured(toLimitTheSizeOfEachMultipartPartTo(10))
+                .configured(toMapExceptionsOfType(MultipartException.class, (exception, response) -> {
+                    response.setStatus(BAD_REQUEST);
+                    response.setBody(exception.getMessage());
+                }))
+                .build();
+    }
+
+    public static HttpMate theMultipartHttpMateInstanceSpillingToDiskUsedForTesting() {
+        return anHttpMate()
+                .post("/twice", (MultipartHandler) (request, response) -> {
+                    final MultipartPart part = request.partIterator().next();
+                    final String firstPass = part.readContentToString();
+                    final String secondPass = part.readContentToString();
+                    final boolean staged = part.openFileChannel().isPresent();
+                    response.setBody(firstPass + "|" + secondPass + "|staged=" + staged);
+                })
+                .configured(toExposeMultipartBodiesUsingMultipartIteratorBody())
+                .configured(toSpillMultipartPartsToDiskIfLargerThan(4))
+                .build();
+    }
 }
@@ -24,7 +24,9 @@ package com.envimate.httpmate.tests.givenwhenthen;
 import com.envimate.httpmate.tests.givenwhenthen.client.HttpClientResponse;
 import com.envimate.httpmate.tests.lowlevel.LowLevelHttpMateConfiguration;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.envimate.httpmate.tests.givenwhenthen.JsonNormalizer.normalizeJsonToMap;
@@ -64,6 +66,26 @@ public final class Then {
         return this;
     }
 
+    public Then theResponseDoesNotContainTheHeader(final String key) {
+        final Map<String, String> headers = response.getHeaders();
+        final Map<String, String> normalizedHeaders = new HashMap<>();
+        headers.forEach((k, v) -> normalizedHeaders.put(k.toLowerCase(), v));
+        assertThat(normalizedHeaders.keySet(), not(hasItem(key.toLowerCase())));
+        return this;
+    }
+
+    public Then theResponseContainsTheHeaderValues(final String key, final String... values) {
+        final List<String> actualValues = new ArrayList<>();
+        response.getMultiValueHeaders().forEach((k, v) -> {
+            if (k.equalsIgnoreCase(key)) {
+                actualValues.addAll(v);
+            }
+        });
+        assertThat(actualValues, hasItems(values));
+        assertThat(actualValues.size(), is(values.length));
+        return this;
+    }
+
     public Then theResponseBodyWas(final String expectedResponseBody) {
         final String actualResponseBody = response.getBody();
         assertThat(actualResponseBody, is(expectedResponseBody));
@@ -76,6 +98,12 @@ public final class Then {
         return this;
     }
 
+    public Then theResponseBodyDoesNotContain(final String unexpectedResponseBody) {
+        final String actualResponseBody = response.getBody();
+        assertThat(actualResponseBody, not(containsString(unexpectedResponseBody)));
+        return this;
+    }
+
     public Then theLogOutputStartedWith(final String expectedPrefix) {
         final String logContent = LowLevelHttpMateConfiguration.logger.toString();
         assertThat(logContent, startsWith(expectedPrefix));
@@ -24,18 +24,21 @@ package com.envimate.httpmate.tests.givenwhenthen.client;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HttpClientResponse {
     private final int statusCode;
     private final Map<String, String> headers;
+    private final Map<String, List<String>> multiValueHeaders;
     private final String body;
 
     public static HttpClientResponse httpClientResponse(final int statusCode,
                                                         final Map<String, String> headers,
+                                                        final Map<String, List<String>> multiValueHeaders,
                                                         final String body) {
-        return new HttpClientResponse(statusCode, headers, body);
+        return new HttpClientResponse(statusCode, headers, multiValueHeaders, body);
     }
 
     public int getStatusCode() {
@@ -46,6 +49,10 @@ public final class HttpClientResponse {
         return headers;
     }
 
+    public Map<String, List<String>> getMultiValueHeaders() {
+        return multiValueHeaders;
+    }
+
     public String getBody() {
         return body;
     }
@@ -113,7 +113,8 @@ public final class HttpMateClientWrapper implements HttpClientWrapper {
         bodyAppender.accept(requestBuilder);
         headers.forEach(requestBuilder::withHeader);
         final SimpleHttpResponseObject response = this.client.issue(requestBuilder);
-        return httpClientResponse(response.getStatusCode(), response.getHeaders(), response.getBody());
+        return httpClientResponse(response.getStatusCode(), response.getHeaders(), response.getMultiValueHeaders(),
+                response.getBody());
     }
 
     @Override
@@ -28,6 +28,7 @@ import com.envimate.httpmate.tests.givenwhenthen.deploy.Deployment;
 import com.envimate.httpmate.util.Streams;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpException;
 import org.apache.http.HttpHost;
@@ -49,6 +50,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -141,10 +143,20 @@ public final class ShittyHttpClientWrapper implements HttpClientWrapper {
             final HttpResponse response = httpexecutor.execute(request, connection, context);
             final int statusCode = response.getStatusLine().getStatusCode();
             final Map<String, String> responseHeaders = new HashMap<>();
-            stream(response.getAllHeaders())
-                    .forEach(header -> responseHeaders.put(header.getName().toLowerCase(), header.getValue()));
-            final String responseBody = inputStreamToString(response.getEntity().getContent());
-            return httpClientResponse(statusCode, responseHeaders, responseBody);
+            final Map<String, List<String>> multiValueResponseHeaders = new HashMap<>();
+            stream(response.getAllHeaders()).forEach(header -> {
+                final String name = header.getName().toLowerCase();
+                responseHeaders.put(name, header.getValue());
+                multiValueResponseHeaders.computeIfAbsent(name, ignored -> new ArrayList<>()).add(header.getValue());
+            });
+            final HttpEntity entity = response.getEntity();
+            final String responseBody;
+            if (entity == null) {
+                responseBody = "";
+            } else {
+                responseBody = inputStreamToString(entity.getContent());
+            }
+            return httpClientResponse(statusCode, responseHeaders, multiValueResponseHeaders, responseBody);
         } catch (final IOException | HttpException e) {
             throw new RuntimeException(e);
         }
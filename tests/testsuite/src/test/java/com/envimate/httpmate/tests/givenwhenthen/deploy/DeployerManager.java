@@ -29,14 +29,19 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static com.envimate.httpmate.tests.givenwhenthen.DeployerAndClient.deployerAndClient;
+import static com.envimate.httpmate.tests.givenwhenthen.deploy.jetty.JettyDeployer.asynchronousJettyDeployer;
 import static com.envimate.httpmate.tests.givenwhenthen.deploy.jetty.JettyDeployer.jettyDeployer;
+import static com.envimate.httpmate.tests.givenwhenthen.deploy.nio.NioDeployer.nioDeployer;
 import static com.envimate.httpmate.tests.givenwhenthen.deploy.purejava.PureJavaDeployer.pureJavaDeployer;
+import static com.envimate.httpmate.tests.givenwhenthen.deploy.servlet.ServletDeployer.asynchronousServletDeployer;
 import static com.envimate.httpmate.tests.givenwhenthen.deploy.servlet.ServletDeployer.servletDeployer;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
 public final class DeployerManager {
-    private static final Collection<Deployer> ACTIVE_DEPLOYERS = asList(jettyDeployer(), pureJavaDeployer(), servletDeployer());
+    private static final Collection<Deployer> ACTIVE_DEPLOYERS = asList(
+            jettyDeployer(), asynchronousJettyDeployer(), pureJavaDeployer(), nioDeployer(),
+            servletDeployer(), asynchronousServletDeployer());
 
     private DeployerManager() {
     }
@@ -23,13 +23,14 @@ package com.envimate.httpmate.tests.givenwhenthen.deploy.jetty;
 
 import com.envimate.httpmate.HttpMate;
 import com.envimate.httpmate.jetty.JettyEndpoint;
+import com.envimate.httpmate.jetty.PortStage;
 import com.envimate.httpmate.tests.givenwhenthen.client.ClientFactory;
 import com.envimate.httpmate.tests.givenwhenthen.deploy.Deployer;
 import com.envimate.httpmate.tests.givenwhenthen.deploy.Deployment;
 
 import java.util.List;
+import java.util.function.Function;
 
-import static com.envimate.httpmate.jetty.JettyEndpoint.jettyEndpointFor;
 import static com.envimate.httpmate.tests.givenwhenthen.client.real.RealHttpMateClientFactory.theRealHttpMateClient;
 import static com.envimate.httpmate.tests.givenwhenthen.client.real.RealHttpMateClientWithConnectionReuseFactory.theRealHttpMateClientWithConnectionReuse;
 import static com.envimate.httpmate.tests.givenwhenthen.client.shitty.ShittyClientFactory.theShittyTestClient;
@@ -37,20 +38,28 @@ import static com.envimate.httpmate.tests.givenwhenthen.deploy.Deployment.httpDe
 import static java.util.Arrays.asList;
 
 public final class JettyDeployer implements Deployer {
-
+    private final Function<HttpMate, PortStage> endpointFactory;
+    private final String name;
     private JettyEndpoint current;
 
-    private JettyDeployer() {
+    private JettyDeployer(final Function<HttpMate, PortStage> endpointFactory,
+                          final String name) {
+        this.endpointFactory = endpointFactory;
+        this.name = name;
     }
 
     public static Deployer jettyDeployer() {
-        return new JettyDeployer();
+        return new JettyDeployer(JettyEndpoint::jettyEndpointFor, "jetty");
+    }
+
+    public static Deployer asynchronousJettyDeployer() {
+        return new JettyDeployer(JettyEndpoint::asynchronousJettyEndpointFor, "asynchronous jetty");
     }
 
     @Override
     public Deployment deploy(final HttpMate httpMate) {
         return retryUntilFreePortFound(port -> {
-            current = jettyEndpointFor(httpMate).listeningOnThePort(port);
+            current = endpointFactory.apply(httpMate).listeningOnThePort(port);
             return httpDeployment("localhost", port);
         });
     }
@@ -68,7 +77,7 @@ public final class JettyDeployer implements Deployer {
 
     @Override
     public String toString() {
-        return "jetty";
+        return name;
     }
 
     @Override
@@ -22,6 +22,7 @@
 package com.envimate.httpmate.tests.givenwhenthen.deploy.servlet;
 
 import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.servlet.ServletEndpoint;
 import com.envimate.httpmate.tests.givenwhenthen.client.ClientFactory;
 import com.envimate.httpmate.tests.givenwhenthen.deploy.Deployer;
 import com.envimate.httpmate.tests.givenwhenthen.deploy.Deployment;
@@ -33,8 +34,8 @@ import org.eclipse.jetty.servlet.ServletHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 
 import java.util.List;
+import java.util.function.Function;
 
-import static com.envimate.httpmate.servlet.ServletEndpoint.servletEndpointFor;
 import static com.envimate.httpmate.tests.givenwhenthen.client.real.RealHttpMateClientFactory.theRealHttpMateClient;
 import static com.envimate.httpmate.tests.givenwhenthen.client.real.RealHttpMateClientWithConnectionReuseFactory.theRealHttpMateClientWithConnectionReuse;
 import static com.envimate.httpmate.tests.givenwhenthen.client.shitty.ShittyClientFactory.theShittyTestClient;
@@ -42,13 +43,22 @@ import static com.envimate.httpmate.tests.givenwhenthen.deploy.Deployment.httpDe
 import static java.util.Arrays.asList;
 
 public final class ServletDeployer implements Deployer {
+    private final Function<HttpMate, ServletEndpoint> servletFactory;
+    private final boolean asynchronous;
     private Server current;
 
-    private ServletDeployer() {
+    private ServletDeployer(final Function<HttpMate, ServletEndpoint> servletFactory,
+                            final boolean asynchronous) {
+        this.servletFactory = servletFactory;
+        this.asynchronous = asynchronous;
     }
 
     public static Deployer servletDeployer() {
-        return new ServletDeployer();
+        return new ServletDeployer(ServletEndpoint::servletEndpointFor, false);
+    }
+
+    public static Deployer asynchronousServletDeployer() {
+        return new ServletDeployer(ServletEndpoint::asynchronousServletEndpointFor, true);
     }
 
     @Override
@@ -61,7 +71,8 @@ public final class ServletDeployer implements Deployer {
 
             final ServletHandler servletHandler = new ServletHandler();
             current.setHandler(servletHandler);
-            final ServletHolder servletHolder = new ServletHolder(servletEndpointFor(httpMate));
+            final ServletHolder servletHolder = new ServletHolder(servletFactory.apply(httpMate));
+            servletHolder.setAsyncSupported(asynchronous);
             servletHandler.addServletWithMapping(servletHolder, "/*");
             try {
                 current.start();
@@ -86,6 +97,9 @@ public final class ServletDeployer implements Deployer {
 
     @Override
     public String toString() {
+        if (asynchronous) {
+            return "asynchronous servlet";
+        }
         return "servlet";
     }
 
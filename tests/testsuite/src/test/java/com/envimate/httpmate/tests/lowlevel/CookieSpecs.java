@@ -143,6 +143,19 @@ public final class CookieSpecs {
                 .theReponseContainsTheHeader("Set-Cookie", "asdf=\"qwer\"; SameSite=None");
     }
 
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void multipleCookiesCanBeSet(final TestEnvironment testEnvironment) {
+        testEnvironment.given(anHttpMate()
+                .get("/cookie", (request, response) -> {
+                    response.setCookie("first", "qwer");
+                    response.setCookie("second", "asdf");
+                })
+                .build())
+                .when().aRequestToThePath("/cookie").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theResponseContainsTheHeaderValues("Set-Cookie", "first=\"qwer\"", "second=\"asdf\"");
+    }
+
     @ParameterizedTest
     @MethodSource(ALL_ENVIRONMENTS)
     public void cookieCanBeInvalidated(final TestEnvironment testEnvironment) {
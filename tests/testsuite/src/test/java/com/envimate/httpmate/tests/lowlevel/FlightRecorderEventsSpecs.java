@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.lowlevel;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.tests.givenwhenthen.TestEnvironment;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
+import static com.envimate.httpmate.jfr.FlightRecorderConfigurators.toRecordFlightRecorderEvents;
+import static com.envimate.httpmate.tests.givenwhenthen.TestEnvironment.ALL_ENVIRONMENTS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class FlightRecorderEventsSpecs {
+    private static final String CHAIN_EVENT = "com.envimate.httpmate.Chain";
+    private static final String PROCESSOR_EVENT = "com.envimate.httpmate.Processor";
+    private static final String HANDLER_EVENT = "com.envimate.httpmate.Handler";
+    private static final String EXCEPTION_MAPPING_EVENT = "com.envimate.httpmate.ExceptionMapping";
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void chainsProcessorsAndHandlersAreRecordedWhenConfigured(final TestEnvironment testEnvironment) throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .configured(toRecordFlightRecorderEvents())
+                .build();
+
+        final List<RecordedEvent> events = record(() -> testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("foo"));
+
+        assertThat(stringsOf(events, CHAIN_EVENT, "chain"), hasItem("INIT"));
+        assertThat(stringsOf(events, CHAIN_EVENT, "chain"), hasItem("INVOKE_HANDLER"));
+        assertThat(stringsOf(events, PROCESSOR_EVENT, "chain"), hasItem("INVOKE_HANDLER"));
+        assertThat(stringsOf(events, HANDLER_EVENT, "path"), is(List.of("/test")));
+        assertThat(stringsOf(events, HANDLER_EVENT, "method"), is(List.of("GET")));
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void exceptionMappingsAreRecordedWhenConfigured(final TestEnvironment testEnvironment) throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> {
+                    throw new UnsupportedOperationException();
+                })
+                .configured(toMapExceptionsOfType(UnsupportedOperationException.class, (exception, response) -> response.setStatus(501)))
+                .configured(toRecordFlightRecorderEvents())
+                .build();
+
+        final List<RecordedEvent> events = record(() -> testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(501));
+
+        assertThat(stringsOf(events, EXCEPTION_MAPPING_EVENT, "exception"),
+                is(List.of(UnsupportedOperationException.class.getName())));
+        assertThat(stringsOf(events, CHAIN_EVENT, "chain"), hasItem("EXCEPTION_OCCURRED"));
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void chainsAndProcessorsAreNotRecordedWhenNotConfigured(final TestEnvironment testEnvironment) throws IOException {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .build();
+
+        final List<RecordedEvent> events = record(() -> testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200));
+
+        assertThat(stringsOf(events, CHAIN_EVENT, "chain").isEmpty(), is(true));
+        assertThat(stringsOf(events, PROCESSOR_EVENT, "chain").isEmpty(), is(true));
+    }
+
+    private static List<RecordedEvent> record(final Runnable request) throws IOException {
+        final Path file = Files.createTempFile("httpmate-", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(CHAIN_EVENT);
+                recording.enable(PROCESSOR_EVENT);
+                recording.enable(HANDLER_EVENT);
+                recording.enable(EXCEPTION_MAPPING_EVENT);
+                recording.start();
+                request.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<String> stringsOf(final List<RecordedEvent> events, final String eventName, final String field) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .map(event -> event.getString(field))
+                .collect(toList());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.lowlevel;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.tests.givenwhenthen.TestEnvironment;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.metrics.MetricsConfigurators.toCollectMetrics;
+import static com.envimate.httpmate.tests.givenwhenthen.TestEnvironment.ALL_ENVIRONMENTS;
+
+public final class HttpMetricsSpecs {
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void requestsAreCountedPerRouteTemplateAndMethod(final TestEnvironment testEnvironment) {
+        final HttpMate httpMate = anHttpMate()
+                .get("/users/<id>", (request, response) -> response.setBody("user"))
+                .configured(toCollectMetrics())
+                .build();
+
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/users/1").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200);
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/users/2").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200);
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/metrics").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyContains("httpmate_requests_total{method=\"GET\",route=\"/users/<id>\",status=\"200\"} 2\n")
+                .theResponseBodyContains("httpmate_requests_in_flight{method=\"GET\",route=\"/users/<id>\"} 0\n")
+                .theResponseBodyContains("httpmate_request_duration_seconds_count{method=\"GET\",route=\"/users/<id>\"} 2\n")
+                .theResponseBodyContains("httpmate_response_bytes_total{method=\"GET\",route=\"/users/<id>\"} 8\n");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void requestsWithoutARouteAreCountedAsUnmatched(final TestEnvironment testEnvironment) {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .configured(toCollectMetrics())
+                .build();
+
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/unknown").viaTheGetMethod().withAnEmptyBody().isIssued();
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/metrics").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyContains("httpmate_request_duration_seconds_count{method=\"GET\",route=\"unmatched\"} 1\n")
+                .theResponseBodyDoesNotContain("route=\"/test\"");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void metricsAreExposedInThePrometheusTextFormat(final TestEnvironment testEnvironment) {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .configured(toCollectMetrics().exposingThemAt("/internal/metrics"))
+                .build();
+
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200);
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/internal/metrics").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseContentTypeWas("text/plain; version=0.0.4; charset=utf-8")
+                .theResponseBodyContains("# TYPE httpmate_request_duration_seconds histogram\n")
+                .theResponseBodyContains("httpmate_requests_total{method=\"GET\",route=\"/test\",status=\"200\"} 1\n")
+                .theResponseBodyContains("httpmate_request_duration_seconds_bucket{method=\"GET\",route=\"/test\",le=\"+Inf\"} 1\n")
+                .theResponseBodyContains("httpmate_request_duration_seconds_count{method=\"GET\",route=\"/test\"} 1\n")
+                .theResponseBodyContains("httpmate_response_bytes_total{method=\"GET\",route=\"/test\"} 3\n")
+                .theResponseBodyContains("httpmate_requests_in_flight{method=\"GET\",route=\"/test\"} 0\n");
+    }
+}
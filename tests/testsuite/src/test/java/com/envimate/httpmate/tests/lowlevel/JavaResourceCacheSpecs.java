@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.lowlevel;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.resources.JavaResourceCache;
+import com.envimate.httpmate.tests.givenwhenthen.TestEnvironment;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.resources.ResourceCacheConfigurators.toCacheJavaResourcesInMemory;
+import static com.envimate.httpmate.resources.ResourceCacheModule.JAVA_RESOURCE_CACHE;
+import static com.envimate.httpmate.tests.givenwhenthen.TestEnvironment.ALL_ENVIRONMENTS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class JavaResourceCacheSpecs {
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void repeatedRequestsAreAnsweredFromTheCache(final TestEnvironment testEnvironment) {
+        final HttpMate httpMate = anHttpMate()
+                .get("/*", (request, response) -> response.mapPathToJavaResourceInDirectory("staticfiles"))
+                .configured(toCacheJavaResourcesInMemory())
+                .build();
+
+        requestAndExpect(testEnvironment, httpMate, "/directory/file1", "this is file1");
+        requestAndExpect(testEnvironment, httpMate, "/directory/file1", "this is file1");
+
+        final JavaResourceCache cache = httpMate.getMetaDatum(JAVA_RESOURCE_CACHE);
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.cachedBytes(), is(13L));
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void theCacheEvictsTheLeastRecentlyUsedResourcesOnceItExceedsItsByteLimit(
+            final TestEnvironment testEnvironment) {
+        final HttpMate httpMate = anHttpMate()
+                .get("/*", (request, response) -> response.mapPathToJavaResourceInDirectory("staticfiles"))
+                .configured(toCacheJavaResourcesInMemory().withAMaximumOfBytes(26))
+                .build();
+
+        requestAndExpect(testEnvironment, httpMate, "/directory/file1", "this is file1");
+        requestAndExpect(testEnvironment, httpMate, "/directory/file2", "this is file2");
+        requestAndExpect(testEnvironment, httpMate, "/directory/file1", "this is file1");
+        requestAndExpect(testEnvironment, httpMate, "/directory/file3", "this is file3");
+        requestAndExpect(testEnvironment, httpMate, "/directory/file2", "this is file2");
+
+        final JavaResourceCache cache = httpMate.getMetaDatum(JAVA_RESOURCE_CACHE);
+        assertThat(cache.size(), is(2));
+        assertThat(cache.cachedBytes(), is(26L));
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(4L));
+        assertThat(cache.evictions(), is(2L));
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void resourcesCanBePreloadedAtStartup(final TestEnvironment testEnvironment) {
+        final HttpMate httpMate = anHttpMate()
+                .get("/*", (request, response) -> response.mapPathToJavaResourceInDirectory("staticfiles"))
+                .configured(toCacheJavaResourcesInMemory().preloadingTheResourcesUnder("staticfiles/directory"))
+                .build();
+
+        final JavaResourceCache cache = httpMate.getMetaDatum(JAVA_RESOURCE_CACHE);
+        assertThat(cache.size(), is(5));
+        assertThat(cache.misses(), is(5L));
+
+        requestAndExpect(testEnvironment, httpMate, "/directory/subdirectory/file5", "this is file5");
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(5L));
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void gzippedVariantsAreServedToClientsThatAcceptThem(final TestEnvironment testEnvironment) {
+        testEnvironment.given(compressingHttpMate())
+                .when().aRequestToThePath("/compressible.txt").viaTheGetMethod().withAnEmptyBody()
+                .withTheHeader("Accept-Encoding", "deflate, gzip;q=0.5").isIssued()
+                .theStatusCodeWas(200)
+                .theReponseContainsTheHeader("Content-Encoding", "gzip")
+                .theReponseContainsTheHeader("Vary", "Accept-Encoding");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void uncompressedResourcesAreServedToClientsThatRefuseGzip(final TestEnvironment testEnvironment) {
+        testEnvironment.given(compressingHttpMate())
+                .when().aRequestToThePath("/compressible.txt").viaTheGetMethod().withAnEmptyBody()
+                .withTheHeader("Accept-Encoding", "gzip;q=0").isIssued()
+                .theStatusCodeWas(200)
+                .theResponseDoesNotContainTheHeader("Content-Encoding")
+                .theResponseBodyWas("compressible ".repeat(64));
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void precompressedBrotliVariantsArePreferred(final TestEnvironment testEnvironment) {
+        testEnvironment.given(compressingHttpMate())
+                .when().aRequestToThePath("/precompressed.txt").viaTheGetMethod().withAnEmptyBody()
+                .withTheHeader("Accept-Encoding", "gzip, br").isIssued()
+                .theStatusCodeWas(200)
+                .theReponseContainsTheHeader("Content-Encoding", "br")
+                .theResponseBodyWas("brotli");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void theIdentityVariantIsServedWithoutAnAcceptEncodingHeader(final TestEnvironment testEnvironment) {
+        testEnvironment.given(compressingHttpMate())
+                .when().aRequestToThePath("/precompressed.txt").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseDoesNotContainTheHeader("Content-Encoding")
+                .theResponseBodyWas("precompressed");
+    }
+
+    private static HttpMate compressingHttpMate() {
+        return anHttpMate()
+                .get("/*", (request, response) -> response.mapPathToJavaResourceInDirectory("resourcecache"))
+                .configured(toCacheJavaResourcesInMemory().withCompressedVariants())
+                .build();
+    }
+
+    private static void requestAndExpect(final TestEnvironment testEnvironment,
+                                         final HttpMate httpMate,
+                                         final String path,
+                                         final String expectedBody) {
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath(path).viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas(expectedBody);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.lowlevel;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.logger.AsynchronousLogger;
+import com.envimate.httpmate.logger.LogMessage;
+import com.envimate.httpmate.tests.givenwhenthen.TestEnvironment;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.logger.AsynchronousLogger.asynchronousLogger;
+import static com.envimate.httpmate.logger.LoggerConfigurators.toLogUsing;
+import static com.envimate.httpmate.tests.givenwhenthen.TestEnvironment.ALL_ENVIRONMENTS;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LoggingSpecs {
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void pendingMessagesAreFlushedWhenHttpMateIsClosed(final TestEnvironment testEnvironment) {
+        final List<LogMessage> logged = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AsynchronousLogger logger = asynchronousLogger(message -> {
+            awaitQuietly(release);
+            logged.add(message);
+        });
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> {
+                    throw new UnsupportedOperationException();
+                })
+                .configured(toLogUsing(logger))
+                .build();
+
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(500);
+        assertThat(logged.size(), is(0));
+
+        release.countDown();
+        httpMate.close();
+        assertThat(logged.size(), is(1));
+        assertThat(logged.get(0).exception().orElseThrow(), instanceOf(UnsupportedOperationException.class));
+        assertThat(logger.pending(), is(0));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
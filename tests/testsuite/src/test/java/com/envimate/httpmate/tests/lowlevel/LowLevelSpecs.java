@@ -21,14 +21,21 @@
 
 package com.envimate.httpmate.tests.lowlevel;
 
+import com.envimate.httpmate.HttpMate;
 import com.envimate.httpmate.tests.givenwhenthen.TestEnvironment;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+
 import static com.envimate.httpmate.Configurators.toCustomizeResponsesUsing;
 import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
+import static com.envimate.httpmate.pooling.PoolingConfigurators.toPoolRequestMetaData;
 import static com.envimate.httpmate.tests.givenwhenthen.TestEnvironment.ALL_ENVIRONMENTS;
 import static com.envimate.httpmate.tests.lowlevel.LowLevelHttpMateConfiguration.theLowLevelHttpMateInstanceUsedForTesting;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 public final class LowLevelSpecs {
 
@@ -139,4 +146,133 @@ public final class LowLevelSpecs {
                 .theStatusCodeWas(200)
                 .theResponseBodyWas("OK");
     }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testBodyStreamIsNotConsumedBeforeTheHandler(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .post("/stream", (request, response) -> response.setBody(request.bodyStream()))
+                        .build()
+        )
+                .when().aRequestToThePath("/stream").viaThePostMethod().withTheBody("streamed body").isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("streamed body");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testAsynchronousHandlerCanCompleteTheResponseLater(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .getAsynchronously("/async", (request, response) -> supplyAsync(() -> {
+                            response.setBody("async");
+                            return response;
+                        }))
+                        .build()
+        )
+                .when().aRequestToThePath("/async").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("async");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testFailedAsynchronousHandlerIsTreatedAsAnException(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .getAsynchronously("/async", (request, response) -> supplyAsync(() -> {
+                            throw new UnsupportedOperationException();
+                        }))
+                        .configured(toMapExceptionsOfType(UnsupportedOperationException.class, (exception, response) -> response.setStatus(501)))
+                        .build()
+        )
+                .when().aRequestToThePath("/async").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(501);
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testPooledMetaDataDoesNotLeakIntoTheNextRequest(final TestEnvironment testEnvironment) {
+        final HttpMate httpMate = anHttpMate()
+                .get("/first", (request, response) -> {
+                    response.addHeader("X-First", "first");
+                    response.setBody("first");
+                })
+                .get("/second", (request, response) -> response.addHeader("X-Second", "second"))
+                .configured(toPoolRequestMetaData())
+                .build();
+
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/first").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theReponseContainsTheHeader("X-First", "first")
+                .theResponseBodyWas("first");
+        testEnvironment.given(httpMate)
+                .when().aRequestToThePath("/second").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theReponseContainsTheHeader("X-Second", "second")
+                .theResponseDoesNotContainTheHeader("X-First")
+                .theResponseBodyWas("");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testNoContentResponsesDoNotHaveABody(final TestEnvironment testEnvironment) {
+        testEnvironment.given(theLowLevelHttpMateInstanceUsedForTesting())
+                .when().aRequestToThePath("/no_content").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(204)
+                .theResponseBodyWas("");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testStringBodiesAreSentWithAContentLength(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .get("/string", (request, response) -> response.setBody("sized body"))
+                        .build()
+        )
+                .when().aRequestToThePath("/string").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theReponseContainsTheHeader("Content-Length", "10")
+                .theResponseDoesNotContainTheHeader("Transfer-Encoding")
+                .theResponseBodyWas("sized body");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testStreamBodiesAreSentChunked(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .get("/stream", (request, response) ->
+                                response.setBody(new ByteArrayInputStream("streamed body".getBytes(UTF_8))))
+                        .build()
+        )
+                .when().aRequestToThePath("/stream").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theReponseContainsTheHeader("Transfer-Encoding", "chunked")
+                .theResponseDoesNotContainTheHeader("Content-Length")
+                .theResponseBodyWas("streamed body");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testResponseBodyWritersAreStreamed(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .get("/writer", (request, response) -> response.setBody(outputStream -> {
+                            for (int i = 0; i < 3; ++i) {
+                                outputStream.write(("part" + i + ";").getBytes(UTF_8));
+                                outputStream.flush();
+                            }
+                        }))
+                        .build()
+        )
+                .when().aRequestToThePath("/writer").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theReponseContainsTheHeader("Transfer-Encoding", "chunked")
+                .theResponseDoesNotContainTheHeader("Content-Length")
+                .theResponseBodyWas("part0;part1;part2;");
+    }
 }
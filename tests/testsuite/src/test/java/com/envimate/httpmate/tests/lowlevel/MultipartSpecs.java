@@ -30,6 +30,8 @@ import static com.envimate.httpmate.tests.givenwhenthen.builders.MultipartElemen
 import static com.envimate.httpmate.tests.givenwhenthen.builders.MultipartElement.aFormControl;
 import static com.envimate.httpmate.tests.givenwhenthen.TestEnvironment.ALL_ENVIRONMENTS;
 import static com.envimate.httpmate.tests.multipart.MultipartHttpMateConfiguration.theMultipartHttpMateInstanceUsedForTesting;
+import static com.envimate.httpmate.tests.multipart.MultipartHttpMateConfiguration.theMultipartHttpMateInstanceSpillingToDiskUsedForTesting;
+import static com.envimate.httpmate.tests.multipart.MultipartHttpMateConfiguration.theMultipartHttpMateInstanceWithAPartSizeLimitUsedForTesting;
 
 public final class MultipartSpecs {
 
@@ -150,4 +152,45 @@ public final class MultipartSpecs {
                 .theStatusCodeWas(200)
                 .theResponseBodyWas("Welcome to the admin section!");
     }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testMultipartPartsWithinTheSizeLimitAreAccepted(final TestEnvironment testEnvironment) {
+        testEnvironment.given(theMultipartHttpMateInstanceWithAPartSizeLimitUsedForTesting())
+                .when().aRequestToThePath("/dump").viaThePostMethod()
+                .withTheMultipartBody(startingWith(aFormControl("control1", "content1"))
+                        .followedBy(aFile("myfile", "asdf.txt", "0123456789"))).isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("[{controlname=control1,content=content1}, {controlname=myfile,filename=asdf.txt,content=0123456789}]");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testMultipartPartsExceedingTheSizeLimitAreRejected(final TestEnvironment testEnvironment) {
+        testEnvironment.given(theMultipartHttpMateInstanceWithAPartSizeLimitUsedForTesting())
+                .when().aRequestToThePath("/dump").viaThePostMethod()
+                .withTheMultipartBody(startingWith(aFile("myfile", "asdf.txt", "01234567890"))).isIssued()
+                .theStatusCodeWas(400)
+                .theResponseBodyWas("Multipart part exceeds the maximum size of 10 bytes");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testMultipartPartsSpilledToDiskCanBeReadRepeatedly(final TestEnvironment testEnvironment) {
+        testEnvironment.given(theMultipartHttpMateInstanceSpillingToDiskUsedForTesting())
+                .when().aRequestToThePath("/twice").viaThePostMethod()
+                .withTheMultipartBody(startingWith(aFile("myfile", "asdf.txt", "foooo"))).isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("foooo|foooo|staged=true");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testSmallMultipartPartsAreKeptInMemoryWhenSpillingToDisk(final TestEnvironment testEnvironment) {
+        testEnvironment.given(theMultipartHttpMateInstanceSpillingToDiskUsedForTesting())
+                .when().aRequestToThePath("/twice").viaThePostMethod()
+                .withTheMultipartBody(startingWith(aFile("myfile", "asdf.txt", "foo"))).isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("foo|foo|staged=false");
+    }
 }
@@ -240,6 +240,47 @@ public final class StaticFilesSpecs {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void aRangeOfAFileCanBeServed(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .get("/file", (request, response) -> response.setFileAsBody(BASE_PATH + "/file1"))
+                        .build()
+        )
+                .when().aRequestToThePath("/file").viaTheGetMethod().withAnEmptyBody().withTheHeader("Range", "bytes=8-12").isIssued()
+                .theStatusCodeWas(206)
+                .theReponseContainsTheHeader("Content-Range", "bytes 8-12/13")
+                .theResponseBodyWas("file1");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void anUnsatisfiableRangeIsRejected(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .get("/file", (request, response) -> response.setFileAsBody(BASE_PATH + "/file1"))
+                        .build()
+        )
+                .when().aRequestToThePath("/file").viaTheGetMethod().withAnEmptyBody().withTheHeader("Range", "bytes=100-").isIssued()
+                .theStatusCodeWas(416)
+                .theReponseContainsTheHeader("Content-Range", "bytes */13")
+                .theResponseBodyWas("");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void aFileMatchingIfNoneMatchIsNotServedAgain(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMate()
+                        .get("/file", (request, response) -> response.setFileAsBody(BASE_PATH + "/file1"))
+                        .build()
+        )
+                .when().aRequestToThePath("/file").viaTheGetMethod().withAnEmptyBody().withTheHeader("If-None-Match", "*").isIssued()
+                .theStatusCodeWas(304)
+                .theResponseBodyWas("");
+    }
+
     private static String locateBasePath() {
         final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         final URL url = classLoader.getResource("staticfiles/directory");
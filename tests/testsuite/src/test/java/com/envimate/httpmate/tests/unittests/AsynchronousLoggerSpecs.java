@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.logger.AsynchronousLogger;
+import com.envimate.httpmate.logger.LogMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.logger.AsynchronousLogger.asynchronousLogger;
+import static com.envimate.httpmate.logger.LogLevel.INFO;
+import static com.envimate.httpmate.logger.LogMessage.logMessage;
+import static com.envimate.httpmate.logger.OverflowBehavior.BLOCK;
+import static com.envimate.httpmate.logger.OverflowBehavior.DROP;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AsynchronousLoggerSpecs {
+
+    @Test
+    public void messagesAreDroppedAndCountedWhenTheBufferOverflows() {
+        final List<String> logged = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AsynchronousLogger logger = asynchronousLogger(message -> {
+            awaitQuietly(release);
+            logged.add(message.message().orElseThrow());
+        }, 2, DROP);
+
+        for (int i = 0; i < 10; ++i) {
+            logger.log(message(i));
+        }
+        release.countDown();
+        logger.close();
+
+        assertThat(logger.dropped() >= 7, is(true));
+        assertThat(logged.size() + logger.dropped(), is(10L));
+        assertThat(logged.get(0), is("0"));
+    }
+
+    @Test
+    public void producersWaitForSpaceWhenConfiguredToBlock() {
+        final List<String> logged = new CopyOnWriteArrayList<>();
+        final AsynchronousLogger logger = asynchronousLogger(message -> {
+            Thread.yield();
+            logged.add(message.message().orElseThrow());
+        }, 1, BLOCK);
+
+        for (int i = 0; i < 1000; ++i) {
+            logger.log(message(i));
+        }
+        logger.close();
+
+        assertThat(logger.dropped(), is(0L));
+        assertThat(logged.size(), is(1000));
+        assertThat(logged, is(IntStream.range(0, 1000).mapToObj(Integer::toString).collect(toList())));
+    }
+
+    @Test
+    public void messagesAreLoggedSynchronouslyAfterClosing() {
+        final List<String> logged = new CopyOnWriteArrayList<>();
+        final AsynchronousLogger logger = asynchronousLogger(message -> logged.add(message.message().orElseThrow()));
+        logger.close();
+
+        logger.log(message(1));
+
+        assertThat(logged, is(List.of("1")));
+    }
+
+    @Test
+    public void noMessageIsLostWhenProducersRaceWithClosing() throws InterruptedException {
+        for (int round = 0; round < 50; ++round) {
+            final AtomicInteger logged = new AtomicInteger();
+            final AtomicBoolean concurrentDelivery = new AtomicBoolean();
+            final AtomicBoolean delivering = new AtomicBoolean();
+            final AsynchronousLogger logger = asynchronousLogger(message -> {
+                if (!delivering.compareAndSet(false, true)) {
+                    concurrentDelivery.set(true);
+                }
+                logged.incrementAndGet();
+                delivering.set(false);
+            }, 16, BLOCK);
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread[] producers = new Thread[4];
+            for (int i = 0; i < producers.length; ++i) {
+                producers[i] = new Thread(() -> {
+                    awaitQuietly(start);
+                    for (int j = 0; j < 500; ++j) {
+                        logger.log(message(j));
+                    }
+                });
+                producers[i].start();
+            }
+            start.countDown();
+            logger.close();
+            for (final Thread producer : producers) {
+                producer.join();
+            }
+
+            assertThat(logger.dropped(), is(0L));
+            assertThat(logged.get(), is(2000));
+            assertThat(concurrentDelivery.get(), is(false));
+        }
+    }
+
+    @Test
+    public void anInterruptedCloseLeavesTheRemainingMessagesToTheDrainer() throws InterruptedException {
+        final List<String> logged = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered = new CountDownLatch(3);
+        final AtomicBoolean concurrentDelivery = new AtomicBoolean();
+        final AtomicBoolean delivering = new AtomicBoolean();
+        final AsynchronousLogger logger = asynchronousLogger(message -> {
+            if (!delivering.compareAndSet(false, true)) {
+                concurrentDelivery.set(true);
+            }
+            awaitQuietly(release);
+            logged.add(message.message().orElseThrow());
+            delivering.set(false);
+            delivered.countDown();
+        });
+        logger.log(message(0));
+        logger.log(message(1));
+        logger.log(message(2));
+
+        Thread.currentThread().interrupt();
+        logger.close();
+        assertThat(Thread.interrupted(), is(true));
+        release.countDown();
+        delivered.await();
+
+        assertThat(logged, is(List.of("0", "1", "2")));
+        assertThat(concurrentDelivery.get(), is(false));
+    }
+
+    private static LogMessage message(final int number) {
+        return logMessage(Integer.toString(number), null, INFO, emptyMetaData());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.chains.ChainExtender;
+import com.envimate.httpmate.chains.ChainModule;
+import com.envimate.httpmate.chains.ChainName;
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.MetaDataKey;
+import com.envimate.httpmate.chains.NoChainForNameException;
+import com.envimate.httpmate.chains.rules.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.chains.ChainName.chainName;
+import static com.envimate.httpmate.chains.Configurator.toUseModules;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static com.envimate.httpmate.chains.ModuleIdentifier.fromClass;
+import static com.envimate.httpmate.chains.rules.Consume.consume;
+import static com.envimate.httpmate.chains.rules.Drop.drop;
+import static com.envimate.httpmate.chains.rules.Jump.jumpTo;
+import static com.envimate.httpmate.chains.rules.Rule.keyedRule;
+import static com.envimate.httpmate.chains.rules.Rule.rule;
+import static com.envimate.httpmate.chains.rules.RuleDescription.ruleDescription;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ChainExecutionPlanSpecs {
+    private static final ChainName ENTRY = chainName("TEST_ENTRY");
+    private static final ChainName RED = chainName("TEST_RED");
+    private static final ChainName LOUD = chainName("TEST_LOUD");
+    private static final ChainName UNKNOWN = chainName("TEST_UNKNOWN");
+    private static final MetaDataKey<String> COLOR = metaDataKey("COLOR");
+    private static final MetaDataKey<Integer> VOLUME = metaDataKey("VOLUME");
+    private static final MetaDataKey<String> REACHED = metaDataKey("REACHED");
+
+    @Test
+    public void keyedRulesDispatchOnTheValueOfTheirMetaDatum() {
+        final HttpMate httpMate = anHttpMate().configured(toUseModules(new TestModule())).build();
+
+        assertThat(dispatch(httpMate, "red", 0).get(REACHED), is("red"));
+        assertThat(dispatch(httpMate, "green", 0).getOptional(REACHED).isPresent(), is(false));
+        assertThat(dispatch(httpMate, "green", 11).get(REACHED), is("loud"));
+        assertThat(dispatch(httpMate, "red", 11).get(REACHED), is("red"));
+    }
+
+    @Test
+    public void keyedRulesDoNotMatchWhenTheirMetaDatumIsMissing() {
+        final HttpMate httpMate = anHttpMate().configured(toUseModules(new TestModule())).build();
+
+        final MetaData metaData = emptyMetaData();
+        metaData.set(VOLUME, 0);
+        httpMate.handle(ENTRY, metaData);
+
+        assertThat(metaData.getOptional(REACHED).isPresent(), is(false));
+    }
+
+    @Test
+    public void jumpsToUnknownChainsOnlyFailWhenTheyAreTaken() {
+        final HttpMate httpMate = anHttpMate().configured(toUseModules(new TestModule())).build();
+
+        assertThat(dispatch(httpMate, "red", 0).get(REACHED), is("red"));
+        final NoChainForNameException exception = assertThrows(NoChainForNameException.class,
+                () -> dispatch(httpMate, "blue", 0));
+        assertThat(exception.getMessage(), is("No chain registered for name TEST_UNKNOWN."));
+    }
+
+    @Test
+    public void unknownEntryChainsAreRejected() {
+        final HttpMate httpMate = anHttpMate().configured(toUseModules(new TestModule())).build();
+        assertThrows(NoChainForNameException.class, () -> httpMate.handle(UNKNOWN, emptyMetaData()));
+    }
+
+    @Test
+    public void theChainRegistryCanNotBeModifiedAfterItHasBeenBuilt() {
+        final TestModule module = new TestModule();
+        anHttpMate().configured(toUseModules(module)).build();
+
+        final ChainExtender extender = module.extender.get();
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> extender.createChain(chainName("TEST_LATE"), consume(), drop()));
+        assertThat(exception.getMessage(),
+                is("The chain registry has already been built and can no longer be modified"));
+        assertThrows(RuntimeException.class, () -> extender.appendProcessor(RED, metaData -> {
+        }));
+        assertThrows(RuntimeException.class, () -> extender.routeIfSet(ENTRY, consume(), COLOR));
+    }
+
+    @Test
+    public void theDumpContainsTheRegisteredChainsAndRulesIncludingJumpsToUnknownChains() {
+        final HttpMate httpMate = anHttpMate().configured(toUseModules(new TestModule())).build();
+
+        final String dump = httpMate.dumpChains();
+
+        assertThat(dump, containsString("TEST_ENTRY"));
+        assertThat(dump, containsString("TEST_RED"));
+        assertThat(dump, containsString("TEST_LOUD"));
+        assertThat(dump, containsString("COLOR = red"));
+        assertThat(dump, containsString("louder than 10"));
+        assertThat(dump, containsString("TEST_UNKNOWN"));
+    }
+
+    @Test
+    public void onlyKeyedRulesCanMatchASingleValue() {
+        final Rule keyed = keyedRule(fromClass(TestModule.class), COLOR, "red"::equals,
+                jumpTo(RED), ruleDescription("COLOR = red"));
+        assertThat(keyed.key().orElseThrow(), is(COLOR));
+        assertThat(keyed.matchesValue("red"), is(true));
+        assertThat(keyed.matchesValue("green"), is(false));
+
+        final Rule unkeyed = rule(fromClass(TestModule.class), metaData -> true,
+                jumpTo(RED), ruleDescription("always"));
+        assertThat(unkeyed.key().isPresent(), is(false));
+        assertThrows(IllegalStateException.class, () -> unkeyed.matchesValue("red"));
+    }
+
+    private static MetaData dispatch(final HttpMate httpMate, final String color, final int volume) {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(COLOR, color);
+        metaData.set(VOLUME, volume);
+        httpMate.handle(ENTRY, metaData);
+        return metaData;
+    }
+
+    private static final class TestModule implements ChainModule {
+        private final AtomicReference<ChainExtender> extender = new AtomicReference<>();
+
+        @Override
+        public void register(final ChainExtender extender) {
+            this.extender.set(extender);
+            extender.createChain(ENTRY, drop(), drop());
+            extender.createChain(RED, consume(), drop());
+            extender.createChain(LOUD, consume(), drop());
+            extender.appendProcessor(RED, metaData -> metaData.set(REACHED, "red"));
+            extender.appendProcessor(LOUD, metaData -> metaData.set(REACHED, "loud"));
+            extender.routeIfEquals(ENTRY, jumpTo(RED), COLOR, "red");
+            extender.routeIfEquals(ENTRY, jumpTo(UNKNOWN), COLOR, "blue");
+            extender.route(ENTRY, jumpTo(LOUD), metaData -> metaData.get(VOLUME) > 10, "louder than 10");
+        }
+    }
+}
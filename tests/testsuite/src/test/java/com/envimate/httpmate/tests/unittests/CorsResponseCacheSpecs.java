@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.cors.CorsResponseCache;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.HttpMateChainKeys.*;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.cors.CorsConfigurators.toActivateCORSWithoutValidatingTheOrigin;
+import static com.envimate.httpmate.cors.CorsModule.PREFLIGHT_RESPONSE_CACHE;
+import static com.envimate.httpmate.http.HttpRequestMethod.GET;
+import static com.envimate.httpmate.http.HttpRequestMethod.PUT;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class CorsResponseCacheSpecs {
+
+    @Test
+    public void repeatedPreflightRequestsAreAnsweredFromTheCache() {
+        final HttpMate httpMate = anHttpMate()
+                .configured(toActivateCORSWithoutValidatingTheOrigin()
+                        .withAllowedMethods(GET, PUT)
+                        .withAllowedHeaders("X-Custom-Header"))
+                .build();
+
+        final Map<String, String> first = preflight(httpMate, "foo.bar", "X-Custom-Header");
+        final Map<String, String> second = preflight(httpMate, "foo.bar", "x-custom-header");
+        assertThat(second, is(first));
+        assertThat(first.get("Access-Control-Allow-Headers"), is("x-custom-header"));
+
+        final CorsResponseCache cache = httpMate.getMetaDatum(PREFLIGHT_RESPONSE_CACHE);
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.hits(), is(1L));
+    }
+
+    @Test
+    public void theCacheEvictsTheLeastRecentlyUsedEntries() {
+        final HttpMate httpMate = anHttpMate()
+                .configured(toActivateCORSWithoutValidatingTheOrigin()
+                        .withAllowedMethods(GET, PUT)
+                        .withAllowedHeaders("X-Custom-Header")
+                        .withResponseCacheSize(2))
+                .build();
+
+        preflight(httpMate, "a", "X-Custom-Header");
+        preflight(httpMate, "b", "X-Custom-Header");
+        preflight(httpMate, "a", "X-Custom-Header");
+        preflight(httpMate, "c", "X-Custom-Header");
+        final Map<String, String> responseHeaders = preflight(httpMate, "b", "X-Custom-Header");
+        assertThat(responseHeaders.get("Access-Control-Allow-Origin"), is("b"));
+
+        final CorsResponseCache cache = httpMate.getMetaDatum(PREFLIGHT_RESPONSE_CACHE);
+        assertThat(cache.size(), is(2));
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(4L));
+    }
+
+    @Test
+    public void requestedHeaderListsThatOnlyDifferInFormattingShareOneEntry() {
+        final HttpMate httpMate = anHttpMate()
+                .configured(toActivateCORSWithoutValidatingTheOrigin()
+                        .withAllowedMethods(GET, PUT)
+                        .withAllowedHeaders("X-First", "X-Second"))
+                .build();
+
+        final Map<String, String> first = preflight(httpMate, "foo.bar", "X-Second, X-First");
+        final Map<String, String> second = preflight(httpMate, "foo.bar", "x-first,x-second,X-FIRST");
+        final Map<String, String> third = preflight(httpMate, "foo.bar", " X-First ,  X-Second ");
+        assertThat(first.get("Access-Control-Allow-Headers"), is("x-first,x-second"));
+        assertThat(second, is(first));
+        assertThat(third, is(first));
+
+        final CorsResponseCache cache = httpMate.getMetaDatum(PREFLIGHT_RESPONSE_CACHE);
+        assertThat(cache.size(), is(1));
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.hits(), is(2L));
+    }
+
+    @Test
+    public void theCacheStaysBoundedUnderConcurrentAccess() throws InterruptedException {
+        final HttpMate httpMate = anHttpMate()
+                .configured(toActivateCORSWithoutValidatingTheOrigin()
+                        .withAllowedMethods(GET, PUT)
+                        .withAllowedHeaders("X-Custom-Header")
+                        .withResponseCacheSize(16))
+                .build();
+
+        final AtomicInteger wrongOrigins = new AtomicInteger();
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; ++j) {
+                    final String origin = "origin" + (j % 40);
+                    final Map<String, String> responseHeaders = preflight(httpMate, origin, "X-Custom-Header");
+                    if (!origin.equals(responseHeaders.get("Access-Control-Allow-Origin"))) {
+                        wrongOrigins.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        final CorsResponseCache cache = httpMate.getMetaDatum(PREFLIGHT_RESPONSE_CACHE);
+        assertThat(wrongOrigins.get(), is(0));
+        assertThat(cache.size() <= 16, is(true));
+        assertThat(cache.hits() + cache.misses(), is(2000L));
+    }
+
+    private static Map<String, String> preflight(final HttpMate httpMate,
+                                                 final String origin,
+                                                 final String requestedHeaders) {
+        final Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Origin", singletonList(origin));
+        headers.put("Access-Control-Request-Method", singletonList("PUT"));
+        headers.put("Access-Control-Request-Headers", singletonList(requestedHeaders));
+
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RAW_METHOD, "OPTIONS");
+        metaData.set(RAW_PATH, "/");
+        metaData.set(RAW_REQUEST_HEADERS, headers);
+        metaData.set(RAW_REQUEST_QUERY_PARAMETERS, emptyMap());
+        metaData.set(REQUEST_BODY_STREAM, new ByteArrayInputStream(new byte[0]));
+        metaData.set(IS_HTTP_REQUEST, true);
+        httpMate.handleRequest(metaData, finalMetaData -> {
+        });
+        return metaData.get(RESPONSE_HEADERS);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.http.Headers;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.envimate.httpmate.http.Headers.headers;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HeadersSpecs {
+
+    @Test
+    public void headersCanBeLookedUpCaseInsensitively() {
+        final Map<String, List<String>> map = new HashMap<>();
+        map.put("Content-Type", singletonList("application/json"));
+        final Headers headers = headers(map);
+
+        assertThat(headers.getHeader("content-type"), is("application/json"));
+        assertThat(headers.getHeader("CONTENT-TYPE"), is("application/json"));
+        assertThat(headers.contains("Content-Length"), is(false));
+        assertThat(headers.getOptionalHeader("Content-Length").isPresent(), is(false));
+    }
+
+    @Test
+    public void allValuesOfAMultiValuedHeaderAreKept() {
+        final Map<String, List<String>> map = new HashMap<>();
+        map.put("Accept", asList("text/html", "application/json"));
+        final Headers headers = headers(map);
+
+        assertThat(headers.getHeaderValues("accept"), is(asList("text/html", "application/json")));
+        assertThat(headers.getHeader("accept"), is("text/html, application/json"));
+        assertThat(headers.asStringMap().get("accept"), is("text/html, application/json"));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static com.envimate.httpmate.metrics.LatencyHistogram.latencyHistogram;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyHistogramSpecs {
+
+    @Test
+    public void latencyHistogramsKeepTheirRelativeErrorBounded() {
+        final LatencyHistogram histogram = latencyHistogram();
+        for (long micros = 1; micros <= 1000; ++micros) {
+            histogram.record(micros * 1000);
+        }
+
+        assertThat(histogram.count(), is(1000L));
+        assertThat(histogram.sumInNanos(), is(500_500_000L));
+        assertWithinEighthOf(histogram.valueAtQuantile(0.5), 500_000);
+        assertWithinEighthOf(histogram.valueAtQuantile(0.99), 990_000);
+        assertThat(histogram.countAtOrBelow(Long.MAX_VALUE), is(1000L));
+    }
+
+    private static void assertWithinEighthOf(final long actual, final long expected) {
+        assertTrue(actual + " is not within 12.5% of " + expected, Math.abs(actual - expected) <= expected / 8);
+    }
+}
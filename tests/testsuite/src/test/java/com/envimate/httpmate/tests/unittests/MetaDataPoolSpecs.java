@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.HttpMate;
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.MetaDataPool;
+import org.junit.jupiter.api.Test;
+
+import static com.envimate.httpmate.HttpMate.anHttpMate;
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_STATUS;
+import static com.envimate.httpmate.debug.DebugConfigurator.toBeInDebugMode;
+import static com.envimate.httpmate.pooling.PoolingConfigurators.toPoolRequestMetaData;
+import static com.envimate.httpmate.pooling.PoolingModule.METADATA_POOL;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MetaDataPoolSpecs {
+
+    @Test
+    public void releasedMetaDataIsClearedAndReused() {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .configured(toPoolRequestMetaData())
+                .build();
+
+        final MetaData first = httpMate.borrowRequestMetaData();
+        first.set(RESPONSE_STATUS, 200);
+        httpMate.releaseRequestMetaData(first);
+        assertThat(first.getOptional(RESPONSE_STATUS).isPresent(), is(false));
+
+        final MetaData second = httpMate.borrowRequestMetaData();
+        assertThat(second == first, is(true));
+        httpMate.releaseRequestMetaData(second);
+
+        final MetaDataPool pool = httpMate.getMetaDatum(METADATA_POOL);
+        assertThat(pool.created(), is(1L));
+        assertThat(pool.reused(), is(1L));
+    }
+
+    @Test
+    public void withoutPoolingEveryRequestGetsFreshMetaData() {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .build();
+
+        final MetaData first = httpMate.borrowRequestMetaData();
+        httpMate.releaseRequestMetaData(first);
+        final MetaData second = httpMate.borrowRequestMetaData();
+        assertThat(second == first, is(false));
+    }
+
+    @Test
+    public void leaksAreReportedInDebugMode() {
+        final HttpMate httpMate = anHttpMate()
+                .get("/test", (request, response) -> response.setBody("foo"))
+                .configured(toPoolRequestMetaData())
+                .configured(toBeInDebugMode())
+                .build();
+        final MetaDataPool pool = httpMate.getMetaDatum(METADATA_POOL);
+        assertThat(pool.isLeakDetectionEnabled(), is(true));
+
+        final MetaData leaked = httpMate.borrowRequestMetaData();
+        final MetaData released = httpMate.borrowRequestMetaData();
+        httpMate.releaseRequestMetaData(released);
+        assertThat(pool.outstandingBorrows().size(), is(1));
+
+        httpMate.releaseRequestMetaData(leaked);
+        assertThat(pool.outstandingBorrows().size(), is(0));
+        assertThrows(IllegalStateException.class, () -> httpMate.releaseRequestMetaData(leaked));
+    }
+}
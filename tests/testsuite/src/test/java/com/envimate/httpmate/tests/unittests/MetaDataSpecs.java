@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.chains.MetaData;
+import com.envimate.httpmate.chains.MetaDataKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.chains.MetaDataKey.metaDataKey;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class MetaDataSpecs {
+    private static final MetaDataKey<String> NAME = metaDataKey("NAME");
+    private static final MetaDataKey<Integer> AGE = metaDataKey("AGE");
+    private static final MetaDataKey<String> CITY = metaDataKey("CITY");
+
+    @Test
+    public void keysListsExactlyTheKeysThatAreSet() {
+        final MetaData metaData = emptyMetaData();
+        assertThat(metaData.keys().isEmpty(), is(true));
+
+        metaData.set(NAME, "Alice");
+        metaData.set(AGE, 42);
+        final List<MetaDataKey<?>> keys = metaData.keys();
+
+        assertThat(keys.size(), is(2));
+        assertThat(keys.contains(NAME), is(true));
+        assertThat(keys.contains(AGE), is(true));
+        assertThat(keys.contains(CITY), is(false));
+    }
+
+    @Test
+    public void prettyPrintRendersOneLinePerEntry() {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(NAME, "Alice");
+        metaData.set(AGE, 42);
+
+        final String prettyPrint = metaData.prettyPrint();
+
+        assertThat(prettyPrint.split("\n").length, is(2));
+        assertThat(prettyPrint, containsString("NAME = Alice"));
+        assertThat(prettyPrint, containsString("AGE = 42"));
+        assertThat(prettyPrint, not(containsString("CITY")));
+        assertThat(emptyMetaData().prettyPrint(), is(""));
+    }
+
+    @Test
+    public void metaDataWithTheSameEntriesAreEqual() {
+        final MetaData first = emptyMetaData();
+        first.set(NAME, "Alice");
+        first.set(AGE, 42);
+        final MetaData second = emptyMetaData();
+        second.set(AGE, 42);
+        second.set(NAME, "Alice");
+
+        assertThat(first.equals(second), is(true));
+        assertThat(second.equals(first), is(true));
+        assertThat(first.hashCode(), is(second.hashCode()));
+
+        second.set(CITY, "Berlin");
+        assertThat(first.equals(second), is(false));
+        assertThat(second.equals(first), is(false));
+
+        first.set(CITY, "Hamburg");
+        assertThat(first.equals(second), is(false));
+    }
+
+    @Test
+    public void keysCreatedAfterTheMetaDataCanStillBeStored() {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(NAME, "Alice");
+        final MetaData equalButCreatedBeforeTheNewKey = emptyMetaData();
+        equalButCreatedBeforeTheNewKey.set(NAME, "Alice");
+
+        final String newKeyName = "NEW_KEY_" + UUID.randomUUID();
+        final MetaDataKey<String> newKey = metaDataKey(newKeyName);
+        assertThat(metaData.getOptional(newKey).isPresent(), is(false));
+        assertThat(metaData.contains(newKey), is(false));
+        metaData.set(newKey, "value");
+
+        assertThat(metaData.get(newKey), is("value"));
+        assertThat(metaData.get(NAME), is("Alice"));
+        assertThat(metaData.keys().contains(newKey), is(true));
+        assertThat(metaData.prettyPrint(), containsString(newKeyName + " = value"));
+        assertThat(metaData.equals(equalButCreatedBeforeTheNewKey), is(false));
+
+        final MetaData createdAfterTheNewKey = emptyMetaData();
+        createdAfterTheNewKey.set(NAME, "Alice");
+        createdAfterTheNewKey.set(newKey, "value");
+        assertThat(metaData.equals(createdAfterTheNewKey), is(true));
+        assertThat(createdAfterTheNewKey.equals(metaData), is(true));
+        assertThat(metaData.hashCode(), is(createdAfterTheNewKey.hashCode()));
+    }
+
+    @Test
+    public void keysAreEqualByName() {
+        final MetaDataKey<String> sameName = metaDataKey("NAME");
+        assertThat(sameName.equals(NAME), is(true));
+        assertThat(sameName.hashCode(), is(NAME.hashCode()));
+
+        final MetaData metaData = emptyMetaData();
+        metaData.set(sameName, "Bob");
+        assertThat(metaData.get(NAME), is("Bob"));
+    }
+}
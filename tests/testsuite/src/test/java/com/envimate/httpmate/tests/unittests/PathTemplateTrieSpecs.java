@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.path.Path;
+import com.envimate.httpmate.path.PathTemplate;
+import com.envimate.httpmate.path.PathTemplateMatch;
+import com.envimate.httpmate.path.PathTemplateTrie;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.envimate.httpmate.path.Path.path;
+import static com.envimate.httpmate.path.PathTemplate.pathTemplate;
+import static com.envimate.httpmate.path.PathTemplateTrie.pathTemplateTrie;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PathTemplateTrieSpecs {
+    private static final List<String> TEMPLATES = asList(
+            "/",
+            "/test",
+            "/test/asdf",
+            "/<var>",
+            "/<var1>/asdf/<var2>",
+            "/*/qwer",
+            "/*/<var>",
+            "/*/<var>/*",
+            "/*/a/*/b/*/c",
+            "/items/|item(?<itemNumber>[1-9][0-9]*)|",
+            "/|(?<qwer>\\d*)(?<asdf>\\w*)|",
+            "/resources/*",
+            "/*"
+    );
+
+    private static final List<String> PATHS = asList(
+            "/",
+            "/test",
+            "/Test",
+            "/test/asdf",
+            "/test/qwer",
+            "/qwer",
+            "/qwer/asdf/yxcv",
+            "/asdf/qwer",
+            "/asdf/asdf/asdf",
+            "/x/a/y/b/z/c",
+            "/items/item25",
+            "/items/item0",
+            "/1337yxcv",
+            "/resources",
+            "/resources/img/a.png",
+            "//test//asdf/"
+    );
+
+    @Test
+    public void testTheTrieAgreesWithTheTemplatesInDeclarationOrder() {
+        final PathTemplateTrie<String> trie = pathTemplateTrie();
+        for (int i = 0; i < TEMPLATES.size(); ++i) {
+            trie.insert(pathTemplate(TEMPLATES.get(i)), i, TEMPLATES.get(i));
+        }
+        PATHS.forEach(input -> {
+            final Path path = path(input);
+            final Optional<PathTemplateMatch<String>> match = trie.match(path, template -> true);
+            final Optional<String> expected = TEMPLATES.stream()
+                    .filter(template -> pathTemplate(template).matches(path))
+                    .findFirst();
+            assertThat(match.map(PathTemplateMatch::value), is(expected));
+            expected.ifPresent(template -> {
+                final PathTemplate pathTemplate = pathTemplate(template);
+                assertThat(match.get().pathParameters(), is(pathTemplate.extractPathParameters(path)));
+            });
+        });
+    }
+
+    @Test
+    public void testTheTrieSkipsFilteredValues() {
+        final PathTemplateTrie<String> trie = pathTemplateTrie();
+        trie.insert(pathTemplate("/<var>"), 0, "capture");
+        trie.insert(pathTemplate("/test"), 1, "static");
+        trie.insert(pathTemplate("/*"), 2, "wildcard");
+
+        assertThat(trie.match(path("/test"), value -> true).map(PathTemplateMatch::value), is(Optional.of("capture")));
+        assertThat(trie.match(path("/test"), value -> !value.equals("capture")).map(PathTemplateMatch::value),
+                is(Optional.of("static")));
+        assertThat(trie.match(path("/test"), value -> value.equals("wildcard")).map(PathTemplateMatch::value),
+                is(Optional.of("wildcard")));
+        assertThat(trie.match(path("/test"), value -> false), is(Optional.empty()));
+    }
+}
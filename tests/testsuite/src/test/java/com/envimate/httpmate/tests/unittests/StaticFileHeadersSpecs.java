@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.httpmate.tests.unittests;
+
+import com.envimate.httpmate.chains.MetaData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.envimate.httpmate.HttpMateChainKeys.METHOD;
+import static com.envimate.httpmate.HttpMateChainKeys.REQUEST_HEADERS;
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_HEADERS;
+import static com.envimate.httpmate.HttpMateChainKeys.RESPONSE_STATUS;
+import static com.envimate.httpmate.chains.MetaData.emptyMetaData;
+import static com.envimate.httpmate.handler.http.files.StaticFiles.serveFile;
+import static com.envimate.httpmate.http.Headers.headers;
+import static com.envimate.httpmate.http.HttpRequestMethod.GET;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class StaticFileHeadersSpecs {
+
+    @Test
+    public void theLastModifiedHeaderIsAnImfFixdateWithATwoDigitDay() throws IOException {
+        final Path file = fileModifiedAt("2015-01-01T08:09:07Z");
+
+        final Map<String, String> responseHeaders = serve(file, Map.of()).get(RESPONSE_HEADERS);
+
+        assertThat(responseHeaders.get("Last-Modified"), is("Thu, 01 Jan 2015 08:09:07 GMT"));
+    }
+
+    @Test
+    public void aChangedFileGetsANewETag() throws IOException {
+        final Path file = fileModifiedAt("2015-01-01T08:09:07Z");
+        final String etag = serve(file, Map.of()).get(RESPONSE_HEADERS).get("ETag");
+
+        Files.writeString(file, "changed content");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2015-01-02T08:09:07Z")));
+        final MetaData metaData = serve(file, Map.of("If-None-Match", List.of(etag)));
+
+        assertThat(metaData.get(RESPONSE_HEADERS).get("ETag"), is(not(etag)));
+        assertThat(metaData.getOptional(RESPONSE_STATUS).isPresent(), is(false));
+    }
+
+    @Test
+    public void aMatchingIfModifiedSinceHeaderIsAnsweredWithNotModified() throws IOException {
+        final Path file = fileModifiedAt("2015-01-01T08:09:07Z");
+
+        final MetaData metaData = serve(file, Map.of("If-Modified-Since", List.of("Thu, 01 Jan 2015 08:09:07 GMT")));
+
+        assertThat(metaData.get(RESPONSE_STATUS), is(304));
+    }
+
+    private static MetaData serve(final Path file, final Map<String, List<String>> requestHeaders) {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(METHOD, GET);
+        metaData.set(REQUEST_HEADERS, headers(requestHeaders));
+        metaData.set(RESPONSE_HEADERS, new HashMap<>());
+        serveFile(file, metaData);
+        return metaData;
+    }
+
+    private static Path fileModifiedAt(final String timestamp) throws IOException {
+        final Path file = Files.createTempFile("httpmate", ".txt");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "content");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse(timestamp)));
+        return file;
+    }
+}